@@ -1,5 +1,8 @@
 package io.incognito.rest.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.http.client.reactive.ClientHttpRequest;
@@ -7,16 +10,38 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.net.URI;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.auth.TokenProvider;
+import io.incognito.rest.client.bulkhead.Bulkhead;
+import io.incognito.rest.client.exceptions.ApiFailureException;
 import io.incognito.rest.client.handler.HttpCallbackHandler;
 import io.incognito.rest.client.helper.ClientResponseProcessor;
+import io.incognito.rest.client.helper.EncodedRequestBody;
+import io.incognito.rest.client.helper.EventStreamProcessor;
+import io.incognito.rest.client.lb.Endpoint;
+import io.incognito.rest.client.memory.MemoryBudget;
+import io.incognito.rest.client.paging.PageRequest;
+import io.incognito.rest.client.paging.PageStrategy;
+import io.incognito.rest.client.paging.Paginator;
 import io.incognito.rest.client.types.dto.ClientContextImpl;
+import io.incognito.rest.client.types.dto.Deadline;
+import io.incognito.rest.client.types.dto.ResponseType;
+import io.incognito.rest.client.types.dto.StreamReconnectPolicy;
 import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
 import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.dto.response.StreamEventResponse;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import io.incognito.rest.client.types.enums.StreamFormat;
 import io.incognito.rest.client.util.MultiValueMaps;
 import io.incognito.rest.client.util.Opt;
+import io.incognito.rest.client.util.TypeUtil;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
@@ -43,15 +68,27 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
      * @return 응답 객체의 Mono
      */
     default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyInserterAsync(final BodyInserter<REQ, ? super ClientHttpRequest> request, final MediaType contentType, final Class<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
-        final ClientContextImpl<IHttpRequest<AUTH>> context = new ClientContextImpl<>(this);
+        return executeWithBodyInserterAsync(request, contentType, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * 요청 파라미터를 사용하여 비동기 요청을 수행합니다.
+     * URL_ENCODED_FORM_DATA 요청은 별도 메서드 지원 안 하므로 해당 메서드 사용하면 됨
+     *
+     * @param request 요청 파라미터 객체
+     * @param contentType 요청 컨텐츠 타입 (기본값: {@link MediaType#APPLICATION_FORM_URLENCODED}) **Either {@link MediaType#APPLICATION_FORM_URLENCODED} or {@link MediaType#MULTIPART_FORM_DATA}
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <REQ> 요청 파라미터 객체의 타입
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyInserterAsync(final BodyInserter<REQ, ? super ClientHttpRequest> request, final MediaType contentType, final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
         // 요청 stream을 생성하고 요청 파라미터를 설정
-        final Mono<RESP> respMono = authorizedBuilder(getAuthorization())
+        return exchangeAsync(builder -> builder
                 .headers(headers -> Opt.of(contentType).ifPresent(headers::setContentType))
-                .body(request)
-                .httpRequest(context::setHttpRequest)
-                .exchangeToMono(clientResponse -> ClientResponseProcessor.handleResponse(clientResponse, responseType, retryCount));
-
-        return ClientResponseProcessor.applyProcessErrorResumeAndSetCallbackHandler(responseType, handler, context).apply(respMono);
+                .body(request), responseType, retryCount, handler);
     }
 
     /**
@@ -83,7 +120,55 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
      * @return 응답 객체의 Mono
      */
     default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyAsync(final REQ request, final Class<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
-        return executeWithBodyInserterAsync(BodyInserters.fromValue(request), null, responseType, retryCount, handler);
+        return executeWithBodyAsync(request, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * Request Body(JSON) 파라미터로 비동기 요청을 수행합니다.
+     * @param request 요청 파라미터 객체
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <REQ> 요청 파라미터 객체의 타입
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyAsync(final REQ request, final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        final ObjectMapper bodyObjectMapper = getBodyObjectMapper();
+        if (bodyObjectMapper == null) {
+            return executeWithBodyInserterAsync(BodyInserters.fromValue(request), null, responseType, retryCount, handler);
+        }
+        // 요청 Body 를 한 번만 직렬화하여 모든 재시도에서 재사용하고, 요청 처리가 끝나면 버퍼를 반환한다.
+        // 메모리 예산이 있으면 직렬화 전에 요청을 수락받고, 직렬화한 Body 크기만큼 예산을 사용한다. (같은 요청의 응답 Body 예약은 이 예약에 막히지 않음)
+        final MemoryBudget memoryBudget = getMemoryBudget();
+        return Mono.defer(() -> {
+            final AtomicBoolean sending = new AtomicBoolean();
+            final Mono<RESP> encoded = Mono.using(
+                    () -> ClientResponseProcessor.encodeRequestBody(bodyObjectMapper, request),
+                    body -> {
+                        final Mono<RESP> sent = Mono.defer(() -> {
+                            sending.set(true);
+                            return executeWithBodyInserterAsync(body.inserter(), MediaType.APPLICATION_JSON, responseType, retryCount, handler);
+                        });
+                        return memoryBudget == null ? sent : Mono.using(memoryBudget::lease,
+                                lease -> lease.reserve(body.contentLength()).then(sent).contextWrite(lease::bind),
+                                MemoryBudget.Lease::close);
+                    },
+                    EncodedRequestBody::release);
+            return Opt.of(memoryBudget).map(budget -> budget.admit().then(encoded)).orElse(encoded)
+                    // 요청을 보내기 전(직렬화 실패, 메모리 예산 초과)에 실패하면 Handler 가 아직 호출되지 않았으므로 실패 응답에 Handler 를 적용한다.
+                    .onErrorResume(throwable -> !sending.get(), throwable -> ClientResponseProcessor.applyProcessErrorResumeAndSetCallbackHandler(responseType, handler, new ClientContextImpl<>(this))
+                            .apply(throwable instanceof ApiFailureException
+                                    ? ClientResponseProcessor.createResponseInstance(responseType, null, null).map(responseInstance -> {
+                                        responseInstance.setApiResult(((ApiFailureException) throwable).getFailureResult());
+                                        return responseInstance;
+                                    })
+                                    : Mono.error(throwable)))
+                    .onErrorResume(ApiFailureException.class, throwable -> ClientResponseProcessor.createResponseInstance(responseType, null, null).map(responseInstance -> {
+                        responseInstance.setApiResult(throwable.getFailureResult());
+                        return responseInstance;
+                    }));
+        });
     }
 
     /**
@@ -189,6 +274,21 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
      * @return 응답 객체의 Mono
      */
     default <RESP extends IBaseResponse> Mono<RESP> executeWithFormDataAsync(final MultipartBodyBuilder formDataBuilder, final Class<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return executeWithFormDataAsync(formDataBuilder, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * Multipart FormData 를 사용하여 비동기 요청을 수행합니다.
+     * @see io.incognito.rest.client.types.dto.request.MultipartFormDataRequest
+     *
+     * @param formDataBuilder 요청 파라미터 객체
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> executeWithFormDataAsync(final MultipartBodyBuilder formDataBuilder, final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
         final BodyInserters.MultipartInserter multipartInserter = BodyInserters.fromMultipartData(formDataBuilder.build());
         return executeWithBodyInserterAsync(multipartInserter, MediaType.MULTIPART_FORM_DATA, responseType, retryCount, handler);
     }
@@ -278,12 +378,20 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
      * @return 응답 객체의 Mono
      */
     default <RESP extends IBaseResponse> Mono<RESP> executeAsync(final Class<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
-        final ClientContextImpl<IHttpRequest<AUTH>> context = new ClientContextImpl<>(this);
-        final Mono<RESP> respMono = authorizedBuilder(getAuthorization())
-                .httpRequest(context::setHttpRequest)
-                .exchangeToMono(clientResponse -> ClientResponseProcessor.handleResponse(clientResponse, responseType, retryCount));
+        return executeAsync(ResponseType.of(responseType), retryCount, handler);
+    }
 
-        return ClientResponseProcessor.applyProcessErrorResumeAndSetCallbackHandler(responseType, handler, context).apply(respMono);
+    /**
+     * 파라미터 없이 비동기 요청을 수행합니다.
+     *
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> executeAsync(final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return exchangeAsync(Function.identity(), responseType, retryCount, handler);
     }
 
     /**
@@ -337,10 +445,313 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
     }
     // End Declarations: Request with no request parameter //
 
+    // Start Declarations: Paginated Request //
+    /**
+     * 페이지 단위 응답을 이어 붙여 요소 Flux 로 받습니다.
+     * 현재 페이지의 요소를 소비하는 동안 최대 prefetch 개의 다음 페이지를 미리 요청합니다.
+     * 실패한 페이지가 있으면 {@link ApiFailureException} 으로 종료됩니다.
+     *
+     * @param strategy 페이지 전략 (cursor, Link 헤더, page 번호, offset)
+     * @param responseType 페이지 응답 객체의 클래스 객체
+     * @param retryCount 페이지 별 최대 재시도 횟수
+     * @param prefetch 미리 요청할 페이지 수
+     * @param <RESP> 페이지 응답 객체의 타입
+     * @param <E> 요소 타입
+     * @return 요소 Flux
+     */
+    default <RESP extends IBaseResponse, E> Flux<E> executePagedAsync(final PageStrategy<RESP, E> strategy, final Class<RESP> responseType, final Integer retryCount, final int prefetch) {
+        return executePagedAsync(strategy, ResponseType.of(responseType), retryCount, prefetch);
+    }
+
+    /**
+     * 페이지 단위 응답을 이어 붙여 요소 Flux 로 받습니다.
+     * 현재 페이지의 요소를 소비하는 동안 최대 prefetch 개의 다음 페이지를 미리 요청합니다.
+     * 실패한 페이지가 있으면 {@link ApiFailureException} 으로 종료됩니다.
+     *
+     * @param strategy 페이지 전략 (cursor, Link 헤더, page 번호, offset)
+     * @param responseType 페이지 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 페이지 별 최대 재시도 횟수
+     * @param prefetch 미리 요청할 페이지 수
+     * @param <RESP> 페이지 응답 객체의 타입
+     * @param <E> 요소 타입
+     * @return 요소 Flux
+     */
+    default <RESP extends IBaseResponse, E> Flux<E> executePagedAsync(final PageStrategy<RESP, E> strategy, final ResponseType<RESP> responseType, final Integer retryCount, final int prefetch) {
+        return Paginator.paginate(strategy, page -> exchangeAsync(Function.identity(), page, responseType, retryCount, null), prefetch);
+    }
+
+    /**
+     * 페이지 단위 응답을 이어 붙여 요소 Flux 로 받습니다. (재시도 횟수: 0, prefetch: {@link Paginator#DEFAULT_PREFETCH})
+     *
+     * @param strategy 페이지 전략 (cursor, Link 헤더, page 번호, offset)
+     * @param responseType 페이지 응답 객체의 클래스 객체
+     * @param <RESP> 페이지 응답 객체의 타입
+     * @param <E> 요소 타입
+     * @return 요소 Flux
+     */
+    default <RESP extends IBaseResponse, E> Flux<E> executePagedAsync(final PageStrategy<RESP, E> strategy, final Class<RESP> responseType) {
+        return executePagedAsync(strategy, responseType, null, Paginator.DEFAULT_PREFETCH);
+    }
+    // End Declarations: Paginated Request //
+
+    // Start Declarations: Request with generic response type //
+    /**
+     * 파라미터 없이 비동기 요청을 수행하고 응답을 Generic 타입으로 받습니다. (예: {@code ListResponse<Foo>} 의 요소를 Foo 로 변환)
+     *
+     * @param responseType 응답 객체의 타입 참조
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> executeAsync(final ParameterizedTypeReference<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return executeAsync(ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * 파라미터 없이 비동기 요청을 수행하고 응답을 Generic 타입으로 받습니다. (재시도 횟수: 0)
+     *
+     * @param responseType 응답 객체의 타입 참조
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> executeAsync(final ParameterizedTypeReference<RESP> responseType) {
+        return executeAsync(responseType, null, null);
+    }
+
+    /**
+     * Request Body(JSON) 파라미터로 비동기 요청을 수행하고 응답을 Generic 타입으로 받습니다.
+     *
+     * @param request 요청 파라미터 객체
+     * @param responseType 응답 객체의 타입 참조
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <REQ> 요청 파라미터 객체의 타입
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyAsync(final REQ request, final ParameterizedTypeReference<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return executeWithBodyAsync(request, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * Request Body(JSON) 파라미터로 비동기 요청을 수행하고 응답을 Generic 타입으로 받습니다. (재시도 횟수: 0)
+     *
+     * @param request 요청 파라미터 객체
+     * @param responseType 응답 객체의 타입 참조
+     * @param <REQ> 요청 파라미터 객체의 타입
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <REQ, RESP extends IBaseResponse> Mono<RESP> executeWithBodyAsync(final REQ request, final ParameterizedTypeReference<RESP> responseType) {
+        return executeWithBodyAsync(request, responseType, 0, null);
+    }
+
+    /**
+     * Multipart FormData 를 사용하여 비동기 요청을 수행하고 응답을 Generic 타입으로 받습니다.
+     *
+     * @param formDataBuilder 요청 파라미터 객체
+     * @param responseType 응답 객체의 타입 참조
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> executeWithFormDataAsync(final MultipartBodyBuilder formDataBuilder, final ParameterizedTypeReference<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return executeWithFormDataAsync(formDataBuilder, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * 페이지 단위 응답을 Generic 타입으로 받아 요소 Flux 로 이어 붙입니다. (재시도 횟수: 0, prefetch: {@link Paginator#DEFAULT_PREFETCH})
+     *
+     * @param strategy 페이지 전략 (cursor, Link 헤더, page 번호, offset)
+     * @param responseType 페이지 응답 객체의 타입 참조
+     * @param <RESP> 페이지 응답 객체의 타입
+     * @param <E> 요소 타입
+     * @return 요소 Flux
+     */
+    default <RESP extends IBaseResponse, E> Flux<E> executePagedAsync(final PageStrategy<RESP, E> strategy, final ParameterizedTypeReference<RESP> responseType) {
+        return executePagedAsync(strategy, ResponseType.of(responseType), null, Paginator.DEFAULT_PREFETCH);
+    }
+    // End Declarations: Request with generic response type //
+
+    // Start Declarations: Streaming Request //
+    /**
+     * SSE 또는 NDJSON Streaming 응답을 이벤트 Flux 로 받습니다.
+     * - 연결이 끊기면 재연결 정책에 따라 다시 연결합니다. (SSE 는 마지막 이벤트 ID 를 Last-Event-ID 헤더로 전달)
+     * - 이벤트마다 ApiResult 가 설정되며, 실패(연결 실패, HTTP 오류, 변환 실패)도 Flux 를 종료하지 않고 이벤트로 전달됩니다.
+     * - Deadline, Endpoint Group 은 적용하지 않습니다.
+     *
+     * @param eventType 이벤트 데이터 타입 (String 이면 변환하지 않음)
+     * @param format Stream 형식
+     * @param reconnectPolicy 재연결 정책
+     * @param <T> 이벤트 데이터 타입
+     * @return 이벤트 Flux
+     */
+    default <T> Flux<StreamEventResponse<T>> executeStreamAsync(final Class<T> eventType, final StreamFormat format, final StreamReconnectPolicy reconnectPolicy) {
+        return exchangeStream(Function.identity(), eventType, format, reconnectPolicy);
+    }
+
+    /**
+     * SSE 또는 NDJSON Streaming 응답을 이벤트 Flux 로 받습니다. (재연결 정책: {@link StreamReconnectPolicy#defaults()})
+     *
+     * @param eventType 이벤트 데이터 타입 (String 이면 변환하지 않음)
+     * @param format Stream 형식
+     * @param <T> 이벤트 데이터 타입
+     * @return 이벤트 Flux
+     */
+    default <T> Flux<StreamEventResponse<T>> executeStreamAsync(final Class<T> eventType, final StreamFormat format) {
+        return executeStreamAsync(eventType, format, StreamReconnectPolicy.defaults());
+    }
+    // End Declarations: Streaming Request //
+
     ///////////////////////////////////////////////
     //////// Declarations: private methods ////////
     ///////////////////////////////////////////////
 
+    /**
+     * 요청을 수행하고 응답을 RESP 타입으로 변환한다. (모든 execute*Async 메서드의 공통 경로)
+     * - 요청 구독 시점에 Deadline 을 계산하여 Upstream 헤더와 Reactor Context 에 전파한다.
+     * - Deadline 은 Connection Pool 획득, 모든 재시도, 응답 변환을 포함한다.
+     * - Endpoint Group 이 설정되어 있으면 재시도는 다른 Endpoint 로 요청을 다시 보낸다.
+     * - Admission Controller 가 설정되어 있으면 우선순위 별 대기열에서 수락된 후 요청한다. (대기 시간도 Deadline 에 포함)
+     *
+     * @param customizer 요청 빌더에 Body, Content-Type 등을 설정하는 함수
+     * @param responseType 응답 객체의 클래스 객체
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> exchangeAsync(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final Class<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return exchangeAsync(customizer, null, ResponseType.of(responseType), retryCount, handler);
+    }
+
+    /**
+     * 요청을 수행하고 응답을 RESP 타입으로 변환한다. (Generic 타입이면 요소 타입까지 한 번에 변환)
+     *
+     * @param customizer 요청 빌더에 Body, Content-Type 등을 설정하는 함수
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> exchangeAsync(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        return exchangeAsync(customizer, null, responseType, retryCount, handler);
+    }
+
+    /**
+     * 주어진 페이지를 요청하고 응답을 RESP 타입으로 변환한다.
+     *
+     * @param customizer 요청 빌더에 Body, Content-Type 등을 설정하는 함수
+     * @param page 페이지 요청 (null 이면 요청 설정 그대로)
+     * @param responseType 응답 객체의 타입 (Generic 타입 포함)
+     * @param retryCount 최대 재시도 횟수
+     * @param handler 라이프사이클 핸들러
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> exchangeAsync(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final PageRequest page, final ResponseType<RESP> responseType, final Integer retryCount, final HttpCallbackHandler<RESP> handler) {
+        final ClientContextImpl<IHttpRequest<AUTH>> context = new ClientContextImpl<>(this);
+        final Mono<RESP> respMono = Mono.deferContextual(contextView -> {
+            final Deadline deadline = Deadline.resolve(contextView, getDeadline()).orElse(null);
+            final RequestPriority priority = RequestPriority.fromContext(contextView).orElseGet(this::getPriority);
+            final PriorityAdmissionController admissionController = Opt.of(getBulkhead()).map(Bulkhead::getAdmissionController).orElseGet(() -> getBulkhead() == null ? getAdmissionController() : null);
+            final Function<AUTH, Mono<RESP>> exchange = auth -> {
+                final Mono<RESP> requested = Opt.of(getEndpointGroup())
+                        .map(endpointGroup -> endpointGroup.execute(endpoint -> exchangeOnce(customizer, endpoint, page, auth, deadline, context, responseType, 0), Opt.of(retryCount).orElse(0), getMethod()))
+                        .orElseGet(() -> exchangeOnce(customizer, null, page, auth, deadline, context, responseType, retryCount));
+                // Bulkhead 가 있으면 동시 수행 한도 안에서만 요청한다. (가득 차면 즉시 거절)
+                final Mono<RESP> isolated = Opt.of(getBulkhead())
+                        .map(bulkhead -> bulkhead.execute(requested))
+                        .orElse(requested);
+                // Admission Controller 가 있으면 우선순위 별 대기열에서 수락된 후 Connection 을 획득한다. (Bulkhead 에 참여하면 Bulkhead 전용 Admission Controller 만 사용)
+                // 인증 정보를 받은 뒤에 수락받으므로 인증 정보 발급을 기다리는 동안 수행 슬롯을 차지하지 않는다.
+                return Opt.of(admissionController)
+                        .map(controller -> controller.admit(priority, isolated))
+                        .orElse(isolated);
+            };
+            // TokenProvider 가 있으면 인증 정보를 비동기로 받아 요청한다.
+            final Mono<RESP> authorized = Opt.of(getTokenProvider())
+                    .map(tokenProvider -> tokenProvider.exchange(getAuthScope(), exchange))
+                    .orElseGet(() -> exchange.apply(getAuthorization()));
+            // 메모리 예산이 있으면 사용량이 수락 기준 미만이 될 때까지 기다린다. (요청 Body 를 직렬화하며 이미 수락받은 요청은 제외)
+            final Mono<RESP> exchanged = Opt.of(getMemoryBudget())
+                    .filter(memoryBudget -> !MemoryBudget.fromContext(contextView).isPresent())
+                    .map(memoryBudget -> memoryBudget.admit().then(authorized))
+                    .orElse(authorized)
+                    // 인증 정보 발급 실패, 메모리 예산 초과, 대기열 초과, Bulkhead 거절은 응답 객체로 전달한다.
+                    .onErrorResume(ApiFailureException.class, throwable -> ClientResponseProcessor.createResponseInstance(responseType, null, null).map(responseInstance -> {
+                        responseInstance.setApiResult(throwable.getFailureResult());
+                        return responseInstance;
+                    }));
+            return Opt.of(deadline).map(d -> ClientResponseProcessor.applyDeadline(exchanged, d)).orElse(exchanged);
+        });
+
+        return ClientResponseProcessor.applyProcessErrorResumeAndSetCallbackHandler(responseType, handler, context).apply(respMono);
+    }
+
+    /**
+     * Streaming 요청을 수행하고 응답을 이벤트 단위로 변환한다. (연결이 끝나면 재연결 정책에 따라 다시 요청)
+     *
+     * @param customizer 요청 빌더에 Body, Content-Type 등을 설정하는 함수
+     * @param eventType 이벤트 데이터 타입
+     * @param format Stream 형식
+     * @param reconnectPolicy 재연결 정책
+     * @param <T> 이벤트 데이터 타입
+     * @return 이벤트 Flux
+     */
+    default <T> Flux<StreamEventResponse<T>> exchangeStream(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final Class<T> eventType, final StreamFormat format, final StreamReconnectPolicy reconnectPolicy) {
+        final TokenProvider<AUTH> tokenProvider = getTokenProvider();
+        return EventStreamProcessor.reconnecting(session -> {
+            // 재연결할 때마다 인증 정보를 다시 받는다.
+            final Function<AUTH, Flux<StreamEventResponse<T>>> connect = auth -> customizer.apply(authorizedBuilder(auth))
+                    .headers(headers -> {
+                        headers.setAccept(Collections.singletonList(format.getMediaType()));
+                        Opt.of(session.getLastEventId()).ifPresent(id -> headers.set(EventStreamProcessor.LAST_EVENT_ID_HEADER, id));
+                    })
+                    .exchangeToFlux(clientResponse -> EventStreamProcessor.decode(clientResponse, eventType, format, getBodyObjectMapper(), session, this));
+            // 연결 응답이 401 이면 인증 정보를 폐기하고 새 인증 정보로 한 번 다시 연결한다. (다시 거부되면 Session 종료)
+            return (tokenProvider == null ? connect.apply(getAuthorization()) : tokenProvider.exchangeMany(getAuthScope(), connect))
+                    .onErrorResume(EventStreamProcessor::connectionFailure);
+        }, Opt.of(reconnectPolicy).orElseGet(StreamReconnectPolicy::none));
+    }
+
+    /**
+     * 요청을 1회 전송하고 응답을 RESP 타입으로 변환한다.
+     *
+     * @param customizer 요청 빌더에 Body, Content-Type 등을 설정하는 함수
+     * @param endpoint 요청을 보낼 Endpoint (null 이면 WebClient 의 base URL 사용)
+     * @param page 페이지 요청 (null 이면 요청 설정 그대로)
+     * @param auth 인증 정보
+     * @param deadline 요청 Deadline (null 이면 미적용)
+     * @param context 요청 Context
+     * @param responseType 응답 객체의 타입
+     * @param retryCount 응답 처리 재시도 횟수
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 객체의 Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> exchangeOnce(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final Endpoint endpoint, final PageRequest page, final AUTH auth, final Deadline deadline, final ClientContextImpl<IHttpRequest<AUTH>> context, final ResponseType<RESP> responseType, final Integer retryCount) {
+        final WebClient.RequestHeadersSpec<?> spec = customizer.apply(authorizedBuilder(auth, endpoint, page))
+                .headers(headers -> Opt.of(deadline).ifPresent(d -> Opt.of(getDeadlineHeaderName()).ifPresent(name -> headers.set(name, d.toHeaderValue()))))
+                .httpRequest(context::setHttpRequest);
+        final MemoryBudget memoryBudget = getMemoryBudget();
+        if (memoryBudget == null) {
+            return spec.exchangeToMono(clientResponse -> ClientResponseProcessor.handleResponse(clientResponse, responseType, retryCount, this));
+        }
+        // 응답 Body 를 읽는 만큼 예산을 사용하고, 응답 처리가 끝나면 한 번에 반환한다. (요청 Body 를 예약한 요청이면 그 예약은 제외하고 판단)
+        // Spill 정책으로 변환하는 응답은 메모리에 보관하는 임계값까지만 예산을 사용한다. (임시 파일로 옮기는 Body 는 Heap 을 사용하지 않음)
+        final long maxTrackedBytes = Opt.of(getSpillPolicy())
+                .filter(policy -> getResponseProjection() == null && !TypeUtil.isAssignableTypeOf(responseType.getRawClass(), EmptyOrStringBodyResponse.class))
+                .map(policy -> (long) policy.getInMemoryThreshold())
+                .orElse(Long.MAX_VALUE);
+        return Mono.deferContextual(contextView -> Mono.using(
+                () -> MemoryBudget.fromContext(contextView).map(MemoryBudget.Lease::child).orElseGet(memoryBudget::lease),
+                lease -> spec.exchangeToMono(clientResponse -> ClientResponseProcessor.handleResponse(lease.track(clientResponse, maxTrackedBytes), responseType, retryCount, this)),
+                MemoryBudget.Lease::close));
+    }
+
     /**
      * WebClient 빌더를 생성한다.
      *
@@ -348,11 +759,46 @@ public interface IHttpClientExecutor<AUTH> extends IHttpRequest<AUTH> {
      * @return WebClient 빌더
      */
     default WebClient.RequestBodySpec authorizedBuilder(final AUTH auth) {
+        return authorizedBuilder(auth, null);
+    }
+
+    /**
+     * 주어진 Endpoint 로 요청하는 WebClient 빌더를 생성한다.
+     *
+     * @param auth 인증 정보
+     * @param endpoint 요청을 보낼 Endpoint (null 이면 WebClient 의 base URL 사용)
+     * @return WebClient 빌더
+     */
+    default WebClient.RequestBodySpec authorizedBuilder(final AUTH auth, final Endpoint endpoint) {
+        return authorizedBuilder(auth, endpoint, null);
+    }
+
+    /**
+     * 주어진 Endpoint, 페이지로 요청하는 WebClient 빌더를 생성한다.
+     * 페이지 URI 가 지정되면 요청 설정의 URL 대신 사용한다. (상대 URI 는 WebClient 의 base URL 기준)
+     *
+     * @param auth 인증 정보
+     * @param endpoint 요청을 보낼 Endpoint (null 이면 WebClient 의 base URL 사용)
+     * @param page 페이지 요청 (null 이면 요청 설정 그대로)
+     * @return WebClient 빌더
+     */
+    default WebClient.RequestBodySpec authorizedBuilder(final AUTH auth, final Endpoint endpoint, final PageRequest page) {
+        final URI pageUri = Opt.of(page).map(PageRequest::getUri).orElse(null);
         final WebClient.RequestBodySpec builder = getWebClient().method(getMethod())
-                .uri(uriBuilder -> uriBuilder.path(getUrl())
-                        .queryParams(Opt.of(getQueryParam()).orElse(MultiValueMaps.convertMultiValueMap(new HashMap<>())))
-                        .build(Opt.of(getPathVariables()).orElse(Collections.emptyMap())))
+                .uri(uriBuilder -> {
+                    Opt.of(endpoint).ifPresent(ep -> uriBuilder.scheme(ep.getScheme()).host(ep.getHost()).port(ep.getPort()));
+                    if (pageUri != null) {
+                        // 응답이 알려준 URI 는 이미 인코딩되어 있으므로 템플릿으로 다시 인코딩하지 않는다.
+                        return pageUri.isAbsolute() ? pageUri : uriBuilder.build().resolve(pageUri);
+                    }
+                    uriBuilder.path(getUrl())
+                            .queryParams(Opt.of(getQueryParam()).orElse(MultiValueMaps.convertMultiValueMap(new HashMap<>())));
+                    Opt.of(page).ifPresent(p -> p.getQueryParams().forEach(uriBuilder::replaceQueryParam));
+                    return uriBuilder.build(Opt.of(getPathVariables()).orElse(Collections.emptyMap()));
+                })
                 .headers(headers -> headers.putAll(Opt.of(getRequestHeaders()).orElse(MultiValueMaps.convertMultiValueMap(new HashMap<>()))));
+        // WebClient 가 같은 Bulkhead 의 Connection Pool 을 사용하는지 확인할 수 있도록 Bulkhead 이름을 남긴다.
+        Opt.of(getBulkhead()).ifPresent(bulkhead -> builder.attribute(Bulkhead.ATTRIBUTE, bulkhead.getName()));
         authorize(builder, auth);
         return builder;
     }
@@ -1,12 +1,29 @@
 package io.incognito.rest.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.springframework.http.HttpMethod;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.time.Duration;
 import java.util.Map;
 
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.auth.TokenProvider;
+import io.incognito.rest.client.bulkhead.Bulkhead;
+import io.incognito.rest.client.handler.dispatch.CallbackDispatcher;
+import io.incognito.rest.client.lb.EndpointGroup;
+import io.incognito.rest.client.memory.MemoryBudget;
+import io.incognito.rest.client.types.dto.Deadline;
+import io.incognito.rest.client.types.dto.HeaderRetentionPolicy;
+import io.incognito.rest.client.types.dto.ResponseProjection;
+import io.incognito.rest.client.types.dto.SpillPolicy;
+import io.incognito.rest.client.types.enums.RequestPriority;
+
 public interface IHttpRequest<AUTH> {
+    int DEFAULT_MAX_ERROR_BODY_BYTES = 16 * 1024;
+
     WebClient getWebClient();
     HttpMethod getMethod();
     String getUrl();
@@ -14,4 +31,147 @@ public interface IHttpRequest<AUTH> {
     MultiValueMap<String, String> getQueryParam();
     Map<String, String> getPathVariables();
     AUTH getAuthorization();
+
+    /**
+     * {@link io.incognito.rest.client.handler.HttpCallbackHandler} 의 Callback 수행 방식 (기본값: Netty I/O 스레드에서 즉시 수행)
+     *
+     * @return Callback Dispatcher
+     */
+    default CallbackDispatcher getCallbackDispatcher() {
+        return CallbackDispatcher.inline();
+    }
+
+    /**
+     * 요청 1건에 허용된 시간 (Connection Pool 획득, 모든 재시도, 응답 변환 포함)
+     * Reactor Context 에 이미 Deadline 이 있으면 둘 중 먼저 만료되는 값을 사용한다.
+     *
+     * @return 허용 시간 (null 이면 Deadline 미적용)
+     */
+    default Duration getDeadline() {
+        return null;
+    }
+
+    /**
+     * 남은 시간을 Upstream 에 전달할 헤더 이름
+     *
+     * @return 헤더 이름 (null 이면 전달하지 않음)
+     */
+    default String getDeadlineHeaderName() {
+        return Deadline.HEADER_NAME;
+    }
+
+    /**
+     * 요청을 분산할 Upstream Endpoint Group
+     * 설정하면 {@link #getUrl()} 은 선택된 Endpoint 기준의 경로로 사용되며, 재시도는 다른 Endpoint 로 보낸다.
+     *
+     * @return Endpoint Group (null 이면 WebClient 의 base URL 사용)
+     */
+    default EndpointGroup getEndpointGroup() {
+        return null;
+    }
+
+    /**
+     * JSON 요청 Body 를 한 번만 직렬화할 때 사용할 ObjectMapper
+     * 설정하면 요청 Body 를 Pooled 버퍼에 한 번만 직렬화하여 재시도 시 재사용하고, 정확한 Content-Length 로 전송한다.
+     *
+     * @return ObjectMapper (null 이면 WebClient 의 Encoder 로 전송 시마다 직렬화)
+     */
+    default ObjectMapper getBodyObjectMapper() {
+        return null;
+    }
+
+    /**
+     * 4xx, 5xx 응답 Body 를 {@link io.incognito.rest.client.types.dto.ApiResult#getFailureDetail()} 에 보관할 최대 크기 (초과분은 잘림)
+     *
+     * @return 최대 바이트 수
+     */
+    default int getMaxErrorBodyBytes() {
+        return DEFAULT_MAX_ERROR_BODY_BYTES;
+    }
+
+    /**
+     * {@link io.incognito.rest.client.types.dto.ApiResult#getResponseHeaders()} 에 보관할 응답 헤더 범위
+     *
+     * @return 헤더 보관 정책 (기본값: 전체 보관)
+     */
+    default HeaderRetentionPolicy getHeaderRetentionPolicy() {
+        return HeaderRetentionPolicy.all();
+    }
+
+    /**
+     * 응답 Body 에서 지정한 값만 추출하여 응답 타입으로 변환할 때 사용할 Projection
+     * 설정하면 응답 Body 전체를 변환하지 않고 Streaming Parser 로 지정한 값만 추출한다. (변환에는 {@link #getBodyObjectMapper()} 사용)
+     *
+     * @return Projection (null 이면 응답 Body 전체를 변환)
+     */
+    default ResponseProjection getResponseProjection() {
+        return null;
+    }
+
+    /**
+     * 응답 Body 버퍼링 정책
+     * 설정하면 임계값을 넘는 Body 는 임시 파일에 버퍼링하여 변환하므로, WebClient 의 maxInMemorySize 보다 큰 응답도 Heap 증가 없이 받는다. (변환에는 {@link #getBodyObjectMapper()} 사용)
+     *
+     * @return 버퍼링 정책 (null 이면 WebClient 의 Decoder 로 메모리에서 변환)
+     */
+    default SpillPolicy getSpillPolicy() {
+        return null;
+    }
+
+    /**
+     * 요청마다 인증 정보를 비동기로 제공할 TokenProvider
+     * 설정하면 {@link #getAuthorization()} 대신 TokenProvider 의 인증 정보로 authorize 하며, 401 응답이면 새 인증 정보로 한 번 재시도한다.
+     *
+     * @return TokenProvider (null 이면 {@link #getAuthorization()} 사용)
+     */
+    default TokenProvider<AUTH> getTokenProvider() {
+        return null;
+    }
+
+    /**
+     * TokenProvider 에서 인증 정보를 구분할 인증 범위
+     *
+     * @return 인증 범위
+     */
+    default String getAuthScope() {
+        return TokenProvider.DEFAULT_SCOPE;
+    }
+
+    /**
+     * Connection 획득 전에 우선순위 별로 요청을 수락할 Admission Controller
+     * (보통 {@link io.incognito.rest.client.config.HttpClientConfigurer#admissionController()} 를 공유, {@link #getBulkhead()} 가 있으면 Bulkhead 의 Admission Controller 를 대신 사용)
+     *
+     * @return Admission Controller (null 이면 미적용)
+     */
+    default PriorityAdmissionController getAdmissionController() {
+        return null;
+    }
+
+    /**
+     * 요청 우선순위 (Reactor Context 에 {@link RequestPriority#CONTEXT_KEY} 가 있으면 그 값을 우선)
+     *
+     * @return 요청 우선순위
+     */
+    default RequestPriority getPriority() {
+        return RequestPriority.NORMAL;
+    }
+
+    /**
+     * 요청이 참여할 Bulkhead (WebClient 도 {@link io.incognito.rest.client.config.HttpClientConfigurer#apiWebClient(String, java.util.List, java.util.List)} 로 같은 Bulkhead 의 것을 사용)
+     *
+     * @return Bulkhead (null 이면 미적용)
+     */
+    default Bulkhead getBulkhead() {
+        return null;
+    }
+
+    /**
+     * 요청/응답 Body 가 사용할 메모리 예산 (보통 {@link io.incognito.rest.client.config.HttpClientConfigurer#memoryBudget()} 의 공유 인스턴스)
+     * 사용량이 수락 기준 이상이면 새 요청은 대기하고, 응답 Body 는 예산이 반환될 때까지 읽기를 멈춘다.
+     *
+     * @return 메모리 예산 (null 이면 미적용)
+     */
+    default MemoryBudget getMemoryBudget() {
+        return null;
+    }
 }
@@ -0,0 +1,61 @@
+package io.incognito.rest.client.admission;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.incognito.rest.client.types.enums.AdmissionSchedulingMode;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 우선순위 기반 요청 수락(Admission) 설정
+ */
+@Builder
+@ToString
+@Getter
+public class AdmissionConfig {
+    /**
+     * 동시 수행 요청 수 (모든 호스트 합계)
+     * Client 전체 Admission Controller 는 반드시 지정해야 한다. (Connection Pool 의 최대 Connection 수는 호스트 별 한도이므로 기본값으로 쓰지 않음)
+     * Bulkhead 의 Admission Controller 는 0 이하이면 Bulkhead 의 동시 수행 요청 수를 사용한다.
+     */
+    private final int maxConcurrency;
+    @Builder.Default
+    private final AdmissionSchedulingMode schedulingMode = AdmissionSchedulingMode.WEIGHTED_FAIR;
+    /**
+     * WEIGHTED_FAIR 가중치 (지정하지 않은 우선순위는 기본 가중치)
+     */
+    @Builder.Default
+    private final Map<RequestPriority, Integer> weights = Collections.emptyMap();
+    /**
+     * 우선순위 별 전용 수행 슬롯 수 (다른 우선순위가 사용할 수 없음)
+     */
+    @Builder.Default
+    private final Map<RequestPriority, Integer> reservedPermits = Collections.emptyMap();
+    /**
+     * 우선순위 별 최대 대기 요청 수 (초과 시 {@link io.incognito.rest.client.types.enums.ApiResultCode#ADMISSION_REJECTED})
+     */
+    @Builder.Default
+    private final int maxQueueDepth = 1000;
+
+    public int weightOf(final RequestPriority priority) {
+        final Integer weight = weights.get(priority);
+        if (weight != null) {
+            return Math.max(1, weight);
+        }
+        switch (priority) {
+            case CRITICAL:
+                return 8;
+            case NORMAL:
+                return 4;
+            default:
+                return 1;
+        }
+    }
+
+    public int reservedOf(final RequestPriority priority) {
+        return Math.max(0, reservedPermits.getOrDefault(priority, 0));
+    }
+}
@@ -0,0 +1,79 @@
+package io.incognito.rest.client.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.incognito.rest.client.types.enums.RequestPriority;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 우선순위 별 수락 지표 (대기열 길이, 수행 중 요청 수, 대기 시간)
+ */
+@RequiredArgsConstructor
+@ToString
+public class AdmissionMetrics {
+    @Getter
+    private final RequestPriority priority;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    void enqueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    void dequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    /**
+     * 수락을 기록한다.
+     *
+     * @param waitNanos 대기열에서 기다린 시간 (ns)
+     */
+    void admitted(final long waitNanos) {
+        admitted.increment();
+        inFlight.incrementAndGet();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    void released() {
+        inFlight.decrementAndGet();
+    }
+
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public double getMeanWaitMillis() {
+        final long count = admitted.sum();
+        return count == 0 ? 0.0 : (double) totalWaitNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxWaitMillis() {
+        return (double) maxWaitNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,255 @@
+package io.incognito.rest.client.admission;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.enums.AdmissionSchedulingMode;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import io.incognito.rest.client.util.Opt;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Connection 획득 전에 요청을 우선순위 별 대기열에 세우고, 수행 슬롯이 비면 스케줄링 방식에 따라 다음 요청을 수락한다.
+ * 동시 수행 수를 Connection Pool 크기 이하로 두면 Pool 의 FIFO 대기열 대신 이 대기열에서 우선순위가 결정된다. (동시 수행 수는 모든 호스트 합계에 적용)
+ * - 전용 슬롯(reserved)은 해당 우선순위만 사용하고, 나머지 공용 슬롯은 모든 우선순위가 나누어 사용한다.
+ * - 같은 우선순위 안에서는 도착 순서대로 수락한다.
+ */
+public class PriorityAdmissionController {
+    private static final RequestPriority[] PRIORITIES = RequestPriority.values();
+
+    @Getter
+    private final AdmissionConfig config;
+    private final int sharedCapacity;
+    private final int[] reservedCapacity = new int[PRIORITIES.length];
+    private final int[] reservedInUse = new int[PRIORITIES.length];
+    private final long[] currentWeights = new long[PRIORITIES.length];
+    private final List<ArrayDeque<Waiter>> queues = new ArrayList<>(PRIORITIES.length);
+    private final Map<RequestPriority, AdmissionMetrics> metrics = new EnumMap<>(RequestPriority.class);
+    private int sharedInUse;
+
+    /**
+     * 수락된 요청의 수행 슬롯 (요청이 끝나면 반환)
+     */
+    public class Permit {
+        @Getter
+        private final RequestPriority priority;
+        private final boolean reserved;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final RequestPriority priority, final boolean reserved) {
+            this.priority = priority;
+            this.reserved = reserved;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                PriorityAdmissionController.this.release(this);
+            }
+        }
+    }
+
+    private static class Waiter {
+        private final RequestPriority priority;
+        private final MonoSink<Permit> sink;
+        private final long enqueuedAtNanos = System.nanoTime();
+        private Permit permit;
+
+        private Waiter(final RequestPriority priority, final MonoSink<Permit> sink) {
+            this.priority = priority;
+            this.sink = sink;
+        }
+    }
+
+    /**
+     * @param config 수락 설정 (동시 수행 요청 수 필수)
+     */
+    public PriorityAdmissionController(final AdmissionConfig config) {
+        this(config, 0);
+    }
+
+    /**
+     * @param config 수락 설정
+     * @param defaultMaxConcurrency 설정에 동시 수행 수가 없을 때 사용할 값 (모든 호스트 합계, Bulkhead 의 동시 수행 요청 수 등)
+     */
+    public PriorityAdmissionController(final AdmissionConfig config, final int defaultMaxConcurrency) {
+        this.config = config;
+        final int maxConcurrency = config.getMaxConcurrency() > 0 ? config.getMaxConcurrency() : defaultMaxConcurrency;
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + config);
+        }
+        int reservedTotal = 0;
+        for (final RequestPriority priority : PRIORITIES) {
+            reservedCapacity[priority.ordinal()] = config.reservedOf(priority);
+            reservedTotal += reservedCapacity[priority.ordinal()];
+            queues.add(new ArrayDeque<>());
+            metrics.put(priority, new AdmissionMetrics(priority));
+        }
+        if (reservedTotal > maxConcurrency) {
+            throw new IllegalArgumentException("Reserved permits (" + reservedTotal + ") exceed max concurrency (" + maxConcurrency + ").");
+        }
+        this.sharedCapacity = maxConcurrency - reservedTotal;
+    }
+
+    /**
+     * @return 우선순위 별 수락 지표
+     */
+    public Map<RequestPriority, AdmissionMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * 수행 슬롯을 얻은 뒤 요청을 수행하고, 요청이 끝나면(성공, 실패, 취소) 슬롯을 반환한다.
+     *
+     * @param priority 요청 우선순위
+     * @param request 수행할 요청
+     * @param <T> 응답 타입
+     * @return 응답 Mono (대기열이 가득 차면 {@link ApiResultCode#ADMISSION_REJECTED} 실패)
+     */
+    public <T> Mono<T> admit(final RequestPriority priority, final Mono<T> request) {
+        return Mono.usingWhen(acquire(priority), permit -> request, permit -> Mono.fromRunnable(permit::release));
+    }
+
+    /**
+     * 수행 슬롯을 얻는다. (구독을 취소하면 대기열에서 빠지거나 이미 얻은 슬롯을 반환)
+     * 취소와 동시에 전달된 슬롯은 구독자가 반환해야 하므로, 요청 수행에는 슬롯 반환까지 관리하는 {@link #admit(RequestPriority, Mono)} 를 사용한다.
+     *
+     * @param priority 요청 우선순위
+     * @return 수행 슬롯 Mono
+     */
+    public Mono<Permit> acquire(final RequestPriority priority) {
+        final RequestPriority resolved = Opt.of(priority).orElse(RequestPriority.NORMAL);
+        final AdmissionMetrics priorityMetrics = metrics.get(resolved);
+        return Mono.create(sink -> {
+            final Permit granted;
+            final Waiter waiter;
+            synchronized (this) {
+                final ArrayDeque<Waiter> queue = queues.get(resolved.ordinal());
+                if (queue.isEmpty() && canTake(resolved)) {
+                    granted = take(resolved);
+                    waiter = null;
+                } else if (queue.size() >= config.getMaxQueueDepth()) {
+                    granted = null;
+                    waiter = null;
+                } else {
+                    granted = null;
+                    waiter = new Waiter(resolved, sink);
+                    queue.addLast(waiter);
+                    priorityMetrics.enqueued();
+                }
+            }
+            if (granted != null) {
+                priorityMetrics.admitted(0);
+                sink.success(granted);
+            } else if (waiter != null) {
+                sink.onCancel(() -> cancel(waiter));
+            } else {
+                priorityMetrics.rejected();
+                sink.error(rejected(resolved));
+            }
+        });
+    }
+
+    private void cancel(final Waiter waiter) {
+        final Permit permit;
+        synchronized (this) {
+            if (queues.get(waiter.priority.ordinal()).remove(waiter)) {
+                metrics.get(waiter.priority).dequeued();
+                return;
+            }
+            permit = waiter.permit;
+        }
+        // 수락과 취소가 동시에 일어난 경우 슬롯을 반환한다.
+        Opt.of(permit).ifPresent(Permit::release);
+    }
+
+    private void release(final Permit permit) {
+        metrics.get(permit.priority).released();
+        final List<Waiter> admitted = new ArrayList<>();
+        synchronized (this) {
+            if (permit.reserved) {
+                reservedInUse[permit.priority.ordinal()]--;
+            } else {
+                sharedInUse--;
+            }
+            for (RequestPriority next = selectNext(); next != null; next = selectNext()) {
+                final Waiter waiter = queues.get(next.ordinal()).pollFirst();
+                waiter.permit = take(next);
+                admitted.add(waiter);
+            }
+        }
+        final long now = System.nanoTime();
+        for (final Waiter waiter : admitted) {
+            final AdmissionMetrics priorityMetrics = metrics.get(waiter.priority);
+            priorityMetrics.dequeued();
+            priorityMetrics.admitted(now - waiter.enqueuedAtNanos);
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    /**
+     * @return 다음에 수락할 우선순위 (수락할 수 있는 대기 요청이 없으면 null)
+     */
+    private RequestPriority selectNext() {
+        if (config.getSchedulingMode() == AdmissionSchedulingMode.STRICT) {
+            for (final RequestPriority priority : PRIORITIES) {
+                if (isEligible(priority)) {
+                    return priority;
+                }
+            }
+            return null;
+        }
+        // Smooth Weighted Round Robin (대기 요청이 있는 우선순위끼리 가중치 비율로 수락)
+        RequestPriority selected = null;
+        long totalWeight = 0;
+        for (final RequestPriority priority : PRIORITIES) {
+            if (!isEligible(priority)) {
+                continue;
+            }
+            final int weight = config.weightOf(priority);
+            currentWeights[priority.ordinal()] += weight;
+            totalWeight += weight;
+            if (selected == null || currentWeights[priority.ordinal()] > currentWeights[selected.ordinal()]) {
+                selected = priority;
+            }
+        }
+        if (selected != null) {
+            currentWeights[selected.ordinal()] -= totalWeight;
+        }
+        return selected;
+    }
+
+    private boolean isEligible(final RequestPriority priority) {
+        return !queues.get(priority.ordinal()).isEmpty() && canTake(priority);
+    }
+
+    private boolean canTake(final RequestPriority priority) {
+        return reservedInUse[priority.ordinal()] < reservedCapacity[priority.ordinal()] || sharedInUse < sharedCapacity;
+    }
+
+    private Permit take(final RequestPriority priority) {
+        if (reservedInUse[priority.ordinal()] < reservedCapacity[priority.ordinal()]) {
+            reservedInUse[priority.ordinal()]++;
+            return new Permit(priority, true);
+        }
+        sharedInUse++;
+        return new Permit(priority, false);
+    }
+
+    private ApiFailureException rejected(final RequestPriority priority) {
+        final ApiResult failureResult = ApiResult.builder()
+                .resultCode(ApiResultCode.ADMISSION_REJECTED)
+                .failureMessage(String.format("Admission queue for %s requests is full (max: %d).", priority, config.getMaxQueueDepth()))
+                .build();
+        return ApiFailureException.stackless(failureResult);
+    }
+}
@@ -0,0 +1,152 @@
+package io.incognito.rest.client.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.util.Opt;
+import lombok.Builder;
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * 인증 범위 별로 인증 정보를 캐싱하는 TokenProvider
+ * - 만료 전 갱신 구간(refreshAhead)에 들어오면 기존 인증 정보를 그대로 반환하고 백그라운드에서 갱신한다.
+ * - 인증 범위 당 갱신 요청은 항상 하나만 수행하며, 동시에 들어온 요청은 같은 결과를 기다린다. (single-flight)
+ * - 인증 정보가 없거나 만료되었을 때만 호출자가 갱신 완료를 기다린다.
+ * - 발급 함수가 발급 제한 시간(fetchTimeout) 안에 끝나지 않으면 갱신을 실패로 끝내고, 다음 요청에서 다시 갱신한다.
+ * - 백그라운드 갱신이 실패하면 refreshBackoff 부터 2배씩(최대 refreshAhead) 늘어나는 대기 시간 동안 백그라운드 갱신을 다시 시작하지 않는다.
+ *
+ * @param <AUTH> 인증 정보 타입
+ */
+@Builder
+public class CachingTokenProvider<AUTH> implements TokenProvider<AUTH> {
+    public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofSeconds(60);
+    public static final Duration DEFAULT_FETCH_TIMEOUT = Duration.ofSeconds(10);
+    public static final Duration DEFAULT_REFRESH_BACKOFF = Duration.ofSeconds(1);
+    private static final Logger log = Loggers.getLogger(CachingTokenProvider.class);
+
+    /**
+     * 인증 범위 별 인증 정보 발급 함수
+     */
+    private final Function<String, Mono<IssuedToken<AUTH>>> fetcher;
+    @Getter
+    @Builder.Default
+    private final Duration refreshAhead = DEFAULT_REFRESH_AHEAD;
+    /**
+     * 발급 함수 1회의 제한 시간 (넘으면 갱신 실패)
+     */
+    @Getter
+    @Builder.Default
+    private final Duration fetchTimeout = DEFAULT_FETCH_TIMEOUT;
+    /**
+     * 백그라운드 갱신 실패 후 다시 갱신하기까지의 최초 대기 시간
+     */
+    @Getter
+    @Builder.Default
+    private final Duration refreshBackoff = DEFAULT_REFRESH_BACKOFF;
+    @Builder.Default
+    private final Clock clock = Clock.systemUTC();
+    private final Map<String, ScopeState<AUTH>> scopes = new ConcurrentHashMap<>();
+
+    private static class ScopeState<AUTH> {
+        private volatile IssuedToken<AUTH> current;
+        private final AtomicReference<Sinks.One<IssuedToken<AUTH>>> inFlight = new AtomicReference<>();
+        /**
+         * 연속 갱신 실패 횟수, 다음 백그라운드 갱신 가능 시각
+         */
+        private volatile int failures;
+        private volatile Instant retryAt = Instant.MIN;
+    }
+
+    @Override
+    public Mono<AUTH> getToken(final String scope) {
+        return Mono.defer(() -> {
+            final ScopeState<AUTH> state = scopes.computeIfAbsent(scope, key -> new ScopeState<>());
+            final IssuedToken<AUTH> current = state.current;
+            final Instant now = clock.instant();
+            if (current != null && !current.isExpired(now)) {
+                if (current.needsRefresh(now, refreshAhead) && !now.isBefore(state.retryAt)) {
+                    // 갱신 실패는 다음 요청에서 다시 시도한다. (기존 인증 정보는 만료 전까지 사용)
+                    refresh(scope, state).subscribe(token -> { }, err -> log.warn("Failed to refresh token ahead of expiry. scope: {}", scope, err));
+                }
+                return Mono.just(current.getToken());
+            }
+            return refresh(scope, state).map(IssuedToken::getToken);
+        });
+    }
+
+    @Override
+    public void invalidate(final String scope, final AUTH rejected) {
+        Opt.of(scopes.get(scope)).ifPresent(state -> {
+            final IssuedToken<AUTH> current = state.current;
+            if (current != null && Objects.equals(current.getToken(), rejected)) {
+                state.current = null;
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 갱신이 있으면 그 결과를, 없으면 새 갱신을 시작하여 그 결과를 반환한다.
+     * 갱신은 호출자의 구독 취소와 무관하게 끝까지 수행된다.
+     */
+    private Mono<IssuedToken<AUTH>> refresh(final String scope, final ScopeState<AUTH> state) {
+        final Sinks.One<IssuedToken<AUTH>> sink = Sinks.one();
+        while (!state.inFlight.compareAndSet(null, sink)) {
+            final Sinks.One<IssuedToken<AUTH>> existing = state.inFlight.get();
+            if (existing != null) {
+                return existing.asMono();
+            }
+        }
+        Mono.defer(() -> fetcher.apply(scope))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Token fetcher returned no token.")))
+                .timeout(fetchTimeout)
+                // 유효 기간으로 발급된 인증 정보는 수신 시점(주입된 Clock 기준)부터 만료 시각을 계산한다.
+                .map(token -> token.resolve(clock.instant()))
+                .subscribe(token -> {
+                    state.current = token;
+                    state.failures = 0;
+                    state.retryAt = Instant.MIN;
+                    state.inFlight.set(null);
+                    sink.tryEmitValue(token);
+                }, err -> {
+                    state.retryAt = clock.instant().plus(backoff(++state.failures));
+                    state.inFlight.set(null);
+                    sink.tryEmitError(tokenFailure(scope, err));
+                });
+        return sink.asMono();
+    }
+
+    /**
+     * @param failures 연속 갱신 실패 횟수 (1부터)
+     * @return 다음 백그라운드 갱신까지의 대기 시간
+     */
+    private Duration backoff(final int failures) {
+        final Duration delay = refreshBackoff.multipliedBy(1L << Math.min(failures - 1, 20));
+        return delay.compareTo(refreshAhead) > 0 ? refreshAhead : delay;
+    }
+
+    private static ApiFailureException tokenFailure(final String scope, final Throwable throwable) {
+        if (throwable instanceof ApiFailureException) {
+            return (ApiFailureException) throwable;
+        }
+        final String message = "Failed to obtain a token for scope: " + scope;
+        final ApiResult failureResult = ApiResult.builder()
+                .resultCode(ApiResultCode.INVALID_AUTH)
+                .failureMessage(message)
+                .failureDetail(throwable.getMessage())
+                .build();
+        return new ApiFailureException(failureResult, message, throwable);
+    }
+}
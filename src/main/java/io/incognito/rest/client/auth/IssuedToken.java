@@ -0,0 +1,70 @@
+package io.incognito.rest.client.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 발급된 인증 정보와 만료 시각
+ *
+ * @param <AUTH> 인증 정보 타입
+ */
+@ToString(exclude = "token")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class IssuedToken<AUTH> {
+    private final AUTH token;
+    /**
+     * 만료 시각 (null 이면 만료되지 않음)
+     */
+    private final Instant expiresAt;
+    /**
+     * 유효 기간 (만료 시각이 아직 정해지지 않은 경우, {@link #resolve(Instant)} 에서 만료 시각으로 변환)
+     */
+    @Getter(AccessLevel.NONE)
+    private final Duration lifetime;
+
+    public static <AUTH> IssuedToken<AUTH> of(final AUTH token, final Instant expiresAt) {
+        return new IssuedToken<>(token, expiresAt, null);
+    }
+
+    /**
+     * 유효 기간으로 인증 정보를 만든다. 만료 시각은 {@link CachingTokenProvider} 가 수신한 시점에 자신의 Clock 으로 계산한다.
+     *
+     * @param token 인증 정보
+     * @param expiresIn 유효 기간
+     * @param <AUTH> 인증 정보 타입
+     * @return 인증 정보
+     */
+    public static <AUTH> IssuedToken<AUTH> expiresIn(final AUTH token, final Duration expiresIn) {
+        return new IssuedToken<>(token, null, expiresIn);
+    }
+
+    public static <AUTH> IssuedToken<AUTH> expiresIn(final AUTH token, final Duration expiresIn, final Clock clock) {
+        return of(token, clock.instant().plus(expiresIn));
+    }
+
+    /**
+     * @param now 수신 시각
+     * @return 만료 시각이 정해진 인증 정보
+     */
+    public IssuedToken<AUTH> resolve(final Instant now) {
+        return lifetime == null ? this : of(token, now.plus(lifetime));
+    }
+
+    public boolean isExpired(final Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * @return 만료 전 갱신 구간(refreshAhead)에 들어왔는지 여부
+     */
+    public boolean needsRefresh(final Instant now, final Duration refreshAhead) {
+        return expiresAt != null && !now.isBefore(expiresAt.minus(refreshAhead));
+    }
+}
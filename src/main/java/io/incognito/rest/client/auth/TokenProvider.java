@@ -0,0 +1,88 @@
+package io.incognito.rest.client.auth;
+
+import org.springframework.http.HttpStatus;
+
+import java.util.function.Function;
+
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.util.Opt;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 범위(scope) 별 인증 정보를 비동기로 제공한다.
+ *
+ * @param <AUTH> 인증 정보 타입
+ */
+public interface TokenProvider<AUTH> {
+    String DEFAULT_SCOPE = "default";
+
+    /**
+     * @param scope 인증 범위
+     * @return 유효한 인증 정보 (발급 실패 시 {@link io.incognito.rest.client.exceptions.ApiFailureException})
+     */
+    Mono<AUTH> getToken(String scope);
+
+    /**
+     * 서버가 거부한 인증 정보를 폐기한다. (이미 다른 인증 정보로 갱신되었으면 무시)
+     *
+     * @param scope 인증 범위
+     * @param rejected 거부된 인증 정보
+     */
+    void invalidate(String scope, AUTH rejected);
+
+    /**
+     * 인증 정보로 요청을 수행하고, 401 (INVALID_AUTH) 응답이면 인증 정보를 폐기한 뒤 새 인증 정보로 한 번 재시도한다.
+     *
+     * @param scope 인증 범위
+     * @param exchange 인증 정보로 요청을 수행하는 함수
+     * @param <RESP> Response 타입
+     * @return Response Mono
+     */
+    default <RESP extends IBaseResponse> Mono<RESP> exchange(final String scope, final Function<AUTH, Mono<RESP>> exchange) {
+        return getToken(scope).flatMap(token -> exchange.apply(token).flatMap(response -> {
+            if (!isRejected(response)) {
+                return Mono.just(response);
+            }
+            invalidate(scope, token);
+            return getToken(scope).flatMap(exchange);
+        }));
+    }
+
+    /**
+     * 인증 정보로 Streaming 연결을 수행하고, 연결 응답이 401 (INVALID_AUTH) 이면 인증 정보를 폐기한 뒤 새 인증 정보로 한 번 다시 연결한다.
+     *
+     * @param scope 인증 범위
+     * @param connect 인증 정보로 연결하여 이벤트 Flux 를 만드는 함수
+     * @param <RESP> 이벤트 타입
+     * @return 이벤트 Flux (다시 연결해도 거부되면 거부 이벤트를 그대로 전달)
+     */
+    default <RESP extends IBaseResponse> Flux<RESP> exchangeMany(final String scope, final Function<AUTH, Flux<RESP>> connect) {
+        return getToken(scope).flatMapMany(token -> connect.apply(token).concatMap(response -> {
+            if (!isRejected(response)) {
+                return Mono.just(response);
+            }
+            invalidate(scope, token);
+            return getToken(scope).flatMapMany(connect);
+        }));
+    }
+
+    static boolean isRejected(final IBaseResponse response) {
+        return Opt.of(response.getApiResult())
+                .filter(result -> result.getResultCode() == ApiResultCode.INVALID_AUTH)
+                .map(ApiResult::getStatus)
+                .filter(HttpStatus.UNAUTHORIZED::equals)
+                .isPresent();
+    }
+
+    /**
+     * @param fetcher 인증 범위 별 인증 정보 발급 함수
+     * @param <AUTH> 인증 정보 타입
+     * @return 만료 전 갱신을 수행하는 캐싱 TokenProvider (갱신 구간: {@link CachingTokenProvider#DEFAULT_REFRESH_AHEAD})
+     */
+    static <AUTH> CachingTokenProvider<AUTH> caching(final Function<String, Mono<IssuedToken<AUTH>>> fetcher) {
+        return CachingTokenProvider.<AUTH>builder().fetcher(fetcher).build();
+    }
+}
@@ -0,0 +1,193 @@
+package io.incognito.rest.client.bulkhead;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import lombok.Getter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * 이름 있는 격리 구역 (여러 Executor 가 함께 사용)
+ * 동시 수행 한도와 대기열이 모두 차면 즉시 {@link ApiResultCode#BULKHEAD_FULL} 로 거절하며,
+ * 전용 Connection Pool (및 선택적으로 전용 Event Loop) 을 사용하므로 다른 Bulkhead 의 Connection, Event Loop 시간을 빼앗지 않는다.
+ * {@link io.incognito.rest.client.config.HttpClientConfigurer#bulkhead(String)} 로 생성한다.
+ */
+public class Bulkhead implements Disposable {
+    /**
+     * 요청이 참여한 Bulkhead 이름을 담는 요청 Attribute (Bulkhead 전용 WebClient 와 일치하는지 확인)
+     */
+    public static final String ATTRIBUTE = Bulkhead.class.getName() + ".name";
+
+    @Getter
+    private final BulkheadConfig config;
+    @Getter
+    private final ConnectionProvider connectionProvider;
+    /**
+     * 전용 Event Loop (null 이면 공용 Event Loop 사용)
+     */
+    @Getter
+    private final LoopResources loopResources;
+    /**
+     * 이 Bulkhead 안에서만 우선순위 수락을 수행하는 Admission Controller (null 이면 미적용)
+     */
+    @Getter
+    private final PriorityAdmissionController admissionController;
+    private final ArrayDeque<Waiter> queue = new ArrayDeque<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private int inFlight;
+
+    private class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                Bulkhead.this.release();
+            }
+        }
+    }
+
+    private class Waiter {
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        private Waiter(final MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    public Bulkhead(final BulkheadConfig config, final ConnectionProvider connectionProvider, final LoopResources loopResources) {
+        this(config, connectionProvider, loopResources, null);
+    }
+
+    public Bulkhead(final BulkheadConfig config, final ConnectionProvider connectionProvider, final LoopResources loopResources, final PriorityAdmissionController admissionController) {
+        // 동시 수행 한도가 0 이면 대기열에 들어간 요청이 영원히 수행되지 않는다.
+        if (config.getMaxConcurrency() <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + config);
+        }
+        if (config.getMaxQueueDepth() < 0) {
+            throw new IllegalArgumentException("maxQueueDepth must not be negative: " + config);
+        }
+        this.config = config;
+        this.connectionProvider = connectionProvider;
+        this.loopResources = loopResources;
+        this.admissionController = admissionController;
+    }
+
+    public String getName() {
+        return config.getName();
+    }
+
+    /**
+     * 수행 슬롯을 얻은 뒤 요청을 수행하고, 요청이 끝나면(성공, 실패, 취소) 슬롯을 반환한다.
+     *
+     * @param request 수행할 요청
+     * @param <T> 응답 타입
+     * @return 응답 Mono (Bulkhead 가 가득 차면 {@link ApiResultCode#BULKHEAD_FULL} 실패)
+     */
+    public <T> Mono<T> execute(final Mono<T> request) {
+        return Mono.usingWhen(acquire(), permit -> request, permit -> Mono.fromRunnable(permit::release));
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.create(sink -> {
+            final boolean granted;
+            final Waiter waiter;
+            synchronized (this) {
+                granted = inFlight < config.getMaxConcurrency();
+                waiter = !granted && queue.size() < config.getMaxQueueDepth() ? new Waiter(sink) : null;
+                if (granted) {
+                    inFlight++;
+                } else if (waiter != null) {
+                    queue.addLast(waiter);
+                }
+            }
+            if (granted) {
+                admitted.increment();
+                sink.success(new Permit());
+            } else if (waiter != null) {
+                sink.onCancel(() -> cancel(waiter));
+            } else {
+                rejected.increment();
+                sink.error(full());
+            }
+        });
+    }
+
+    private void cancel(final Waiter waiter) {
+        final Permit permit;
+        synchronized (this) {
+            if (queue.remove(waiter)) {
+                return;
+            }
+            permit = waiter.permit;
+        }
+        // 슬롯을 넘겨받는 것과 취소가 동시에 일어난 경우 슬롯을 반환한다.
+        if (permit != null) {
+            permit.release();
+        }
+    }
+
+    private void release() {
+        final Waiter next;
+        synchronized (this) {
+            next = queue.pollFirst();
+            if (next == null) {
+                inFlight--;
+            } else {
+                // 수행 중인 요청 수는 그대로 두고 대기 중인 요청에 슬롯을 넘긴다.
+                next.permit = new Permit();
+            }
+        }
+        if (next != null) {
+            admitted.increment();
+            next.sink.success(next.permit);
+        }
+    }
+
+    private ApiFailureException full() {
+        final ApiResult failureResult = ApiResult.builder()
+                .resultCode(ApiResultCode.BULKHEAD_FULL)
+                .failureMessage(String.format("Bulkhead '%s' is full (maxConcurrency: %d, maxQueueDepth: %d).", getName(), config.getMaxConcurrency(), config.getMaxQueueDepth()))
+                .build();
+        return ApiFailureException.stackless(failureResult);
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public void dispose() {
+        connectionProvider.dispose();
+        if (loopResources != null) {
+            loopResources.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return connectionProvider.isDisposed();
+    }
+}
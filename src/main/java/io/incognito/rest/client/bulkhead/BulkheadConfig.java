@@ -0,0 +1,39 @@
+package io.incognito.rest.client.bulkhead;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Bulkhead 설정 (Bulkhead 마다 별도의 동시 수행 한도, 대기열, Connection Pool, Event Loop 사용)
+ */
+@Builder
+@ToString
+@Getter
+public class BulkheadConfig {
+    private final String name;
+    /**
+     * 동시 수행 요청 수 (1 이상)
+     */
+    private final int maxConcurrency;
+    /**
+     * 동시 수행 한도 초과 시 대기할 수 있는 요청 수 (0 이면 대기 없이 즉시 거절)
+     */
+    private final int maxQueueDepth;
+    /**
+     * 전용 Connection Pool 크기 (0 이하이면 maxConcurrency)
+     */
+    private final int maxConnections;
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    /**
+     * 전용 Event Loop 스레드 수 (0 이하이면 공용 Event Loop 사용)
+     */
+    private final int eventLoopThreads;
+
+    public int resolvedMaxConnections() {
+        return maxConnections > 0 ? maxConnections : Math.max(1, maxConcurrency);
+    }
+}
@@ -3,6 +3,7 @@ package io.incognito.rest.client.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.http.codec.json.Jackson2JsonEncoder;
@@ -10,40 +11,136 @@ import org.springframework.util.MimeType;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.SSLException;
 
+import io.incognito.rest.client.admission.AdmissionConfig;
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.bulkhead.Bulkhead;
+import io.incognito.rest.client.bulkhead.BulkheadConfig;
+import io.incognito.rest.client.config.dns.CachingDnsAddressResolverGroup;
+import io.incognito.rest.client.config.dns.DnsResolverConfig;
+import io.incognito.rest.client.config.dns.DnsResolverMetrics;
+import io.incognito.rest.client.config.pool.ElasticConnectionProvider;
+import io.incognito.rest.client.config.pool.ElasticPoolConfig;
+import io.incognito.rest.client.config.tls.SslConfig;
+import io.incognito.rest.client.config.tls.TlsHandshakeMetrics;
+import io.incognito.rest.client.memory.MemoryBudget;
+import io.incognito.rest.client.memory.MemoryBudgetConfig;
 import io.incognito.rest.client.util.Opt;
+import io.incognito.rest.client.wiretap.WiretapCapture;
+import io.incognito.rest.client.wiretap.WiretapConfig;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.epoll.EpollChannelOption;
-import io.netty.handler.ssl.SslContextBuilder;
-import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
+/**
+ * WebClient, HttpClient 와 공유 자원(Connection Pool, Bulkhead 등) 설정
+ * 공유 자원은 처음 사용할 때 한 번만 생성하며, {@link #dispose()} 로 생성한 자원을 모두 정리한다.
+ */
 @RequiredArgsConstructor
-public abstract class HttpClientConfigurer {
+public abstract class HttpClientConfigurer implements Disposable {
     protected final int connectionTimeoutSeconds;
     protected final int readTimeoutSeconds;
     protected final int writeTimeoutSeconds;
     protected final int maxContentLength;
     protected final int maxConnections;
 
+    private volatile CachingDnsAddressResolverGroup dnsResolverGroup;
+    private volatile ConnectionProvider connectionPool;
+    private volatile ElasticConnectionProvider elasticPool;
+    private volatile SslContext sslContext;
+    private volatile PriorityAdmissionController admissionController;
+    private volatile MemoryBudget memoryBudget;
+    private volatile WiretapCapture wiretapCapture;
+    private volatile HttpClient httpApiClient;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Map<String, HttpClient> bulkheadHttpApiClients = new ConcurrentHashMap<>();
+    private final TlsHandshakeMetrics tlsHandshakeMetrics = new TlsHandshakeMetrics();
+    private volatile boolean disposed;
+
     public abstract ConnectionObserver connectionObserver();
     public abstract ObjectMapper webClientObjectMapper();
 
     /**
-     * HTTP Connection Pool 설정
+     * 비동기 DNS Resolver 설정 (null 이면 Netty 기본 Resolver 사용)
+     *
+     * @return DNS Resolver 설정
+     */
+    public DnsResolverConfig dnsResolverConfig() {
+        return null;
+    }
+
+    /**
+     * 캐시 기반 비동기 DNS Resolver (모든 HttpClient 가 공유)
+     *
+     * @return DNS Resolver (설정이 없으면 empty)
+     */
+    public Optional<CachingDnsAddressResolverGroup> dnsResolverGroup() {
+        if (dnsResolverGroup == null) {
+            final DnsResolverConfig config = dnsResolverConfig();
+            if (config == null) {
+                return Optional.empty();
+            }
+            synchronized (this) {
+                if (dnsResolverGroup == null) {
+                    dnsResolverGroup = new CachingDnsAddressResolverGroup(config);
+                }
+            }
+        }
+        return Optional.of(dnsResolverGroup);
+    }
+
+    /**
+     * @return DNS 조회 지표 (DNS Resolver 설정이 없으면 empty)
+     */
+    public Optional<DnsResolverMetrics> dnsResolverMetrics() {
+        return dnsResolverGroup().map(CachingDnsAddressResolverGroup::getMetrics);
+    }
+
+    /**
+     * 가변 크기 Connection Pool 설정 (null 이면 maxConnections 고정 크기 Pool 사용)
+     *
+     * @return 가변 크기 Pool 설정
+     */
+    public ElasticPoolConfig elasticPoolConfig() {
+        return null;
+    }
+
+    /**
+     * HTTP Connection Pool 설정 ({@link #elasticPoolConfig()} 가 있으면 호스트 별 가변 크기 Pool)
+     * 가변 크기 Pool 은 크기 판단 작업을 주기적으로 수행하므로 한 번만 생성한다.
      *
      * @return ConnectionProvider
      */
     public ConnectionProvider httpConnectionPool() {
+        final ElasticPoolConfig elasticPoolConfig = elasticPoolConfig();
+        if (elasticPoolConfig != null) {
+            if (elasticPool == null) {
+                synchronized (this) {
+                    if (elasticPool == null) {
+                        elasticPool = new ElasticConnectionProvider("custom-conn-pool", elasticPoolConfig);
+                    }
+                }
+            }
+            return elasticPool;
+        }
         return ConnectionProvider
                 .builder("custom-conn-pool")
                 .maxConnections(maxConnections)
@@ -52,12 +149,292 @@ public abstract class HttpClientConfigurer {
     }
 
     /**
-     * Netty Http Client 설정
+     * 모든 HttpClient 가 공유하는 Connection Pool ({@link #httpConnectionPool()} 로 한 번만 생성)
+     *
+     * @return ConnectionProvider
+     */
+    public ConnectionProvider connectionPool() {
+        if (connectionPool == null) {
+            synchronized (this) {
+                if (connectionPool == null) {
+                    connectionPool = httpConnectionPool();
+                }
+            }
+        }
+        return connectionPool;
+    }
+
+    /**
+     * @return 가변 크기 Connection Pool (크기 조절 이벤트, 호스트 별 크기 조회, 고정 크기 Pool 이면 empty)
+     */
+    public Optional<ElasticConnectionProvider> elasticConnectionPool() {
+        final ConnectionProvider pool = connectionPool();
+        return pool instanceof ElasticConnectionProvider ? Optional.of((ElasticConnectionProvider) pool) : Optional.empty();
+    }
+
+    /**
+     * 우선순위 기반 요청 수락 설정 (null 이면 미적용)
+     *
+     * @return 수락 설정
+     */
+    public AdmissionConfig admissionConfig() {
+        return null;
+    }
+
+    /**
+     * Connection Pool 앞에서 우선순위 별로 요청을 수락하는 Admission Controller (모든 Executor 가 공유)
+     * 동시 수행 수({@link AdmissionConfig#getMaxConcurrency()})는 모든 호스트 합계이므로 반드시 지정해야 한다.
+     *
+     * @return Admission Controller (설정이 없으면 empty)
+     */
+    public Optional<PriorityAdmissionController> admissionController() {
+        if (admissionController == null) {
+            final AdmissionConfig config = admissionConfig();
+            if (config == null) {
+                return Optional.empty();
+            }
+            synchronized (this) {
+                if (admissionController == null) {
+                    admissionController = new PriorityAdmissionController(config);
+                }
+            }
+        }
+        return Optional.of(admissionController);
+    }
+
+    /**
+     * In-flight Body 메모리 예산 설정 (null 이면 미적용)
+     *
+     * @return 메모리 예산 설정
+     */
+    public MemoryBudgetConfig memoryBudgetConfig() {
+        return null;
+    }
+
+    /**
+     * 진행 중인 요청/응답 Body 가 사용하는 메모리의 전체 한도 (모든 Executor 가 공유)
+     *
+     * @return 메모리 예산 (설정이 없으면 empty)
+     */
+    public Optional<MemoryBudget> memoryBudget() {
+        if (memoryBudget == null) {
+            final MemoryBudgetConfig config = memoryBudgetConfig();
+            if (config == null) {
+                return Optional.empty();
+            }
+            synchronized (this) {
+                if (memoryBudget == null) {
+                    memoryBudget = new MemoryBudget(config);
+                }
+            }
+        }
+        return Optional.of(memoryBudget);
+    }
+
+    /**
+     * Bulkhead 설정 목록 (Bulkhead 마다 별도의 Connection Pool, 동시 수행 한도 사용)
+     *
+     * @return Bulkhead 설정 목록
+     */
+    public List<BulkheadConfig> bulkheadConfigs() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Bulkhead 전용 Connection Pool 설정
+     *
+     * @param config Bulkhead 설정
+     * @return ConnectionProvider
+     */
+    public ConnectionProvider bulkheadConnectionPool(final BulkheadConfig config) {
+        return ConnectionProvider
+                .builder("bulkhead-" + config.getName())
+                .maxConnections(config.resolvedMaxConnections())
+                .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                .build();
+    }
+
+    /**
+     * 이름으로 Bulkhead 를 찾는다. ({@link #bulkheadConfigs()} 의 설정으로 한 번만 생성)
+     * {@link #admissionConfig()} 가 있으면 Bulkhead 마다 전용 Admission Controller 를 둔다. (동시 수행 수를 지정하지 않으면 Bulkhead 의 동시 수행 요청 수, 공용 Admission Controller 미적용)
+     *
+     * @param name Bulkhead 이름
+     * @return Bulkhead
+     * @throws IllegalArgumentException 설정이 없는 이름
+     */
+    public Bulkhead bulkhead(final String name) {
+        return bulkheads.computeIfAbsent(name, key -> {
+            final BulkheadConfig config = Opt.of(bulkheadConfigs()).orElse(Collections.emptyList()).stream()
+                    .filter(candidate -> key.equals(candidate.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown bulkhead: " + key));
+            final LoopResources loopResources = config.getEventLoopThreads() > 0
+                    ? LoopResources.create("bulkhead-" + key, config.getEventLoopThreads(), true)
+                    : null;
+            final PriorityAdmissionController bulkheadAdmission = Opt.of(admissionConfig())
+                    .map(admission -> new PriorityAdmissionController(admission, config.getMaxConcurrency()))
+                    .orElse(null);
+            return new Bulkhead(config, bulkheadConnectionPool(config), loopResources, bulkheadAdmission);
+        });
+    }
+
+    /**
+     * 생성한 공유 자원을 정리한다. (Bulkhead 전용 Connection Pool, Event Loop 와 공용 Connection Pool, DNS Resolver)
+     */
+    @Override
+    public synchronized void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        bulkheads.values().forEach(Bulkhead::dispose);
+        bulkheads.clear();
+        bulkheadHttpApiClients.clear();
+        Opt.of(connectionPool).ifPresent(ConnectionProvider::dispose);
+        Opt.of(elasticPool).ifPresent(ConnectionProvider::dispose);
+        Opt.of(dnsResolverGroup).ifPresent(CachingDnsAddressResolverGroup::close);
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * SSL 설정 (Provider, Cipher, Protocol, 신뢰 인증서, TLS Session 캐시)
+     *
+     * @return SSL 설정
+     */
+    public SslConfig sslConfig() {
+        return SslConfig.builder().build();
+    }
+
+    /**
+     * 모든 HttpClient 가 공유하는 SslContext ({@link #sslConfig()} 로 한 번만 생성, TLS Session 캐시도 공유)
+     *
+     * @return SslContext
+     */
+    public SslContext sslContext() {
+        if (sslContext == null) {
+            synchronized (this) {
+                if (sslContext == null) {
+                    try {
+                        sslContext = sslConfig().toSslContext();
+                    } catch (final SSLException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+        return sslContext;
+    }
+
+    /**
+     * @return TLS Handshake 지표 (Full / Resumed)
+     */
+    public TlsHandshakeMetrics tlsHandshakeMetrics() {
+        return tlsHandshakeMetrics;
+    }
+
+    /**
+     * 기동 시 Connection 을 미리 맺어 둘 대상 목록
+     *
+     * @return Warm-up 대상 목록
+     */
+    public List<WarmUpTarget> warmUpTargets() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Warm-up 대상마다 지정된 수의 Connection 을 동시에 맺어 Connection Pool 에 적재한다.
+     * (TCP 연결, TLS Handshake, JIT 컴파일 비용을 기동 시점에 미리 지불)
+     * 서비스 Readiness 보고 전에 완료될 때까지 대기하면 된다. 개별 요청 실패는 무시한다.
+     * 대상에 Bulkhead 가 지정되어 있으면 해당 Bulkhead 전용 Connection Pool 에 적재한다.
+     * WebClient 의 Connector 가 사용하는 것과 같은 HttpClient 로 요청하므로 적재한 Connection 을 WebClient 요청이 재사용한다.
+     *
+     * @return Warm-up 완료 Mono
+     */
+    public Mono<Void> warmUp() {
+        return Flux.fromIterable(Opt.of(warmUpTargets()).orElse(Collections.emptyList()))
+                .flatMap(target -> {
+                    final HttpClient httpClient = Opt.of(target.getBulkhead()).map(name -> httpApiClient(bulkhead(name))).orElseGet(this::httpApiClient);
+                    return Flux.range(0, Math.max(1, target.getConnections()))
+                            .flatMap(i -> httpClient.request(HttpMethod.valueOf(target.getMethod().name()))
+                                    .uri(target.getUrl())
+                                    .response((response, body) -> body.then())
+                                    .onErrorResume(err -> Mono.empty()), Math.max(1, target.getConnections()));
+                })
+                .then();
+    }
+
+    /**
+     * 표본 Wiretap 수집 설정 (null 이면 미적용)
+     *
+     * @return Wiretap 설정
+     */
+    public WiretapConfig wiretapConfig() {
+        return null;
+    }
+
+    /**
+     * 표본으로 선택된 요청의 Header, Body 앞부분을 메모리에 보관하는 Wiretap 수집기 (모든 WebClient 가 공유, {@link WiretapCapture#dump()} 로 조회)
+     *
+     * @return Wiretap 수집기 (설정이 없으면 empty)
+     */
+    public Optional<WiretapCapture> wiretapCapture() {
+        if (wiretapCapture == null) {
+            final WiretapConfig config = wiretapConfig();
+            if (config == null) {
+                return Optional.empty();
+            }
+            synchronized (this) {
+                if (wiretapCapture == null) {
+                    wiretapCapture = new WiretapCapture(config);
+                }
+            }
+        }
+        return Optional.of(wiretapCapture);
+    }
+
+    /**
+     * Netty Http Client 설정 (한 번만 생성하여 모든 WebClient 가 공유)
+     * Connection Pool 은 HttpClient 설정(Handler, Observer 객체 포함) 별로 Connection 을 나누어 보관하므로, 호출마다 새로 만들면 WebClient 끼리 Connection 을 재사용하지 못한다.
      *
      * @return HttpClient
      */
     public HttpClient httpApiClient() {
-        return HttpClient.create(httpConnectionPool())
+        if (httpApiClient == null) {
+            synchronized (this) {
+                if (httpApiClient == null) {
+                    httpApiClient = httpApiClient(connectionPool());
+                }
+            }
+        }
+        return httpApiClient;
+    }
+
+    /**
+     * Bulkhead 전용 Connection Pool (및 전용 Event Loop) 을 사용하는 Netty Http Client 설정 (Bulkhead 마다 한 번만 생성)
+     *
+     * @param bulkhead Bulkhead
+     * @return HttpClient
+     */
+    public HttpClient httpApiClient(final Bulkhead bulkhead) {
+        return bulkheadHttpApiClients.computeIfAbsent(bulkhead.getName(), name -> {
+            final HttpClient httpClient = httpApiClient(bulkhead.getConnectionProvider());
+            return Opt.of(bulkhead.getLoopResources()).map(httpClient::runOn).orElse(httpClient);
+        });
+    }
+
+    /**
+     * 주어진 Connection Pool 을 사용하는 Netty Http Client 설정
+     *
+     * @param connectionProvider Connection Pool
+     * @return HttpClient
+     */
+    protected HttpClient httpApiClient(final ConnectionProvider connectionProvider) {
+        final HttpClient httpClient = HttpClient.create(connectionProvider);
+        return dnsResolverGroup().map(httpClient::resolver).orElse(httpClient)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Duration.ofSeconds(connectionTimeoutSeconds).toMillis())
                 .option(ChannelOption.SO_RCVBUF, maxContentLength) // 수신 버퍼 크기
                 .option(ChannelOption.SO_SNDBUF, maxContentLength) // 송신 버퍼 크기
@@ -71,22 +448,64 @@ public abstract class HttpClientConfigurer {
                         .addHandlerLast(new WriteTimeoutHandler(writeTimeoutSeconds))
                 )
                 .observe(Opt.of(connectionObserver()).orElse(ConnectionObserver.emptyListener()))
-                .secure(spec -> {
-                    try {
-                        spec.sslContext(SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build())
-                                .handshakeTimeout(Duration.ofSeconds(connectionTimeoutSeconds))
-                                .closeNotifyReadTimeout(Duration.ofSeconds(readTimeoutSeconds))
-                                .closeNotifyFlushTimeout(Duration.ofSeconds(writeTimeoutSeconds));
-                    } catch (final SSLException e) {
-                        throw new RuntimeException(e);
+                .secure(spec -> spec.sslContext(sslContext())
+                        .handshakeTimeout(Duration.ofSeconds(connectionTimeoutSeconds))
+                        .closeNotifyReadTimeout(Duration.ofSeconds(readTimeoutSeconds))
+                        .closeNotifyFlushTimeout(Duration.ofSeconds(writeTimeoutSeconds))
+                        .handlerConfigurator(tlsHandshakeMetrics::observe));
+    }
+
+    /**
+     * 공용 Connection Pool 을 사용하는 WebClient (Bulkhead 에 참여하는 요청은 거절)
+     *
+     * @param serializeMimeTypes 직렬화 MimeType 목록
+     * @param deserializeMimeTypes 역직렬화 MimeType 목록
+     * @return WebClient
+     */
+    public WebClient apiWebClient(final List<MimeType> serializeMimeTypes, final List<MimeType> deserializeMimeTypes) {
+        return bulkheadChecked(apiWebClient(httpApiClient(), serializeMimeTypes, deserializeMimeTypes), null);
+    }
+
+    /**
+     * Bulkhead 전용 Connection Pool 을 사용하는 WebClient (Bulkhead 에 참여하는 Executor 가 사용)
+     * 요청의 {@link io.incognito.rest.client.IHttpRequest#getBulkhead()} 가 다른 Bulkhead 이면 요청을 거절한다.
+     *
+     * @param bulkheadName Bulkhead 이름
+     * @param serializeMimeTypes 직렬화 MimeType 목록
+     * @param deserializeMimeTypes 역직렬화 MimeType 목록
+     * @return WebClient
+     */
+    public WebClient apiWebClient(final String bulkheadName, final List<MimeType> serializeMimeTypes, final List<MimeType> deserializeMimeTypes) {
+        return bulkheadChecked(apiWebClient(httpApiClient(bulkhead(bulkheadName)), serializeMimeTypes, deserializeMimeTypes), bulkheadName);
+    }
+
+    /**
+     * 요청이 참여한 Bulkhead({@link Bulkhead#ATTRIBUTE})와 WebClient 의 Bulkhead 가 다르면 요청하지 않고 실패시킨다.
+     * (동시 수행 한도는 한 Bulkhead 에서, Connection 은 다른 Connection Pool 에서 얻는 설정 오류 방지, Attribute 가 없는 요청은 그대로 수행)
+     *
+     * @param webClient WebClient
+     * @param bulkheadName WebClient 가 사용하는 Bulkhead 이름 (null 이면 공용 Connection Pool)
+     * @return Bulkhead 를 확인하는 WebClient
+     */
+    private static WebClient bulkheadChecked(final WebClient webClient, final String bulkheadName) {
+        return webClient.mutate()
+                .filter((request, next) -> {
+                    final Object requested = request.attribute(Bulkhead.ATTRIBUTE).orElse(null);
+                    if (requested != null && !requested.equals(bulkheadName)) {
+                        return Mono.error(new IllegalStateException("Request joins bulkhead '" + requested + "' but its WebClient uses "
+                                + Opt.of(bulkheadName).map(name -> "bulkhead '" + name + "'").orElse("the shared connection pool")
+                                + " (use HttpClientConfigurer#apiWebClient(\"" + requested + "\", ...))."));
                     }
-                });
+                    return next.exchange(request);
+                })
+                .build();
     }
 
     @SuppressWarnings("deprecation")
-    public WebClient apiWebClient(final List<MimeType> serializeMimeTypes, final List<MimeType> deserializeMimeTypes) {
+    protected WebClient apiWebClient(final HttpClient httpClient, final List<MimeType> serializeMimeTypes, final List<MimeType> deserializeMimeTypes) {
+        final ClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
         return WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpApiClient()))
+                .clientConnector(wiretapCapture().map(capture -> capture.decorate(connector)).orElse(connector))
                 .codecs(configurer -> {
                     configurer.defaultCodecs().maxInMemorySize(maxContentLength);
                     configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(webClientObjectMapper(), Optional.ofNullable(serializeMimeTypes).map(list -> list.toArray(new MimeType[0])).orElse(new MediaType[]{MediaType.APPLICATION_JSON, MediaType.APPLICATION_JSON_UTF8, MediaType.APPLICATION_FORM_URLENCODED, MediaType.MULTIPART_FORM_DATA})));
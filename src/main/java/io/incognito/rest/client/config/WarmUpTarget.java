@@ -0,0 +1,31 @@
+package io.incognito.rest.client.config;
+
+import org.springframework.http.HttpMethod;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 기동 시 Connection 을 미리 맺어 둘 대상
+ */
+@Builder
+@Getter
+@ToString
+public class WarmUpTarget {
+    /**
+     * 요청 URL (예: https://api.example.com/health)
+     */
+    private final String url;
+    /**
+     * 미리 맺어 둘 Connection 수
+     */
+    @Builder.Default
+    private final int connections = 1;
+    @Builder.Default
+    private final HttpMethod method = HttpMethod.HEAD;
+    /**
+     * Connection 을 적재할 Bulkhead 이름 (null 이면 공용 Connection Pool)
+     */
+    private final String bulkhead;
+}
@@ -0,0 +1,325 @@
+package io.incognito.rest.client.config.dns;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.incognito.rest.client.util.Opt;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.dns.DefaultDnsQuestion;
+import io.netty.handler.codec.dns.DnsRawRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.HostsFileEntriesResolver;
+import io.netty.resolver.InetSocketAddressResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.SimpleNameResolver;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.NoopDnsCache;
+import io.netty.resolver.dns.NoopDnsCnameCache;
+import io.netty.resolver.dns.SequentialDnsServerAddressStreamProvider;
+import io.netty.util.NetUtil;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * TTL 캐시와 만료 전 갱신(refresh-ahead)을 지원하는 비동기 DNS Resolver
+ * - 모든 EventLoop 가 하나의 캐시를 공유하며, 호스트 별로 동시에 하나의 조회만 수행한다.
+ * - 조회된 A/AAAA 주소를 요청마다 순환하여 반환한다.
+ */
+public class CachingDnsAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private final DnsResolverConfig config;
+    private final EventLoopGroup dnsEventLoopGroup;
+    private final DnsNameResolver dnsNameResolver;
+    private final ConcurrentMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<CacheEntry>> inflight = new ConcurrentHashMap<>();
+    @Getter
+    private final DnsResolverMetrics metrics = new DnsResolverMetrics();
+
+    public CachingDnsAddressResolverGroup(final DnsResolverConfig config) {
+        this.config = config;
+        this.dnsEventLoopGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("dns-resolver", true));
+        final DnsNameResolverBuilder builder = new DnsNameResolverBuilder(dnsEventLoopGroup.next())
+                .channelType(NioDatagramChannel.class)
+                .socketChannelType(NioSocketChannel.class)
+                .resolveCache(NoopDnsCache.INSTANCE)
+                .cnameCache(NoopDnsCnameCache.INSTANCE)
+                .queryTimeoutMillis(config.getQueryTimeout().toMillis())
+                .resolvedAddressTypes(config.getResolvedAddressTypes());
+        Opt.of(config.getNameServers())
+                .filter(nameServers -> !nameServers.isEmpty())
+                .ifPresent(nameServers -> builder.nameServerProvider(new SequentialDnsServerAddressStreamProvider(nameServers)));
+        this.dnsNameResolver = builder.build();
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(final EventExecutor executor) {
+        return new InetSocketAddressResolver(executor, new CachingNameResolver(executor));
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        dnsNameResolver.close();
+        dnsEventLoopGroup.shutdownGracefully();
+    }
+
+    /**
+     * 캐시에서 주소를 조회하고, 없거나 만료되었으면 DNS 서버에 조회한다.
+     * 갱신 시점이 지난 캐시는 그대로 반환하면서 백그라운드로 한 번만 갱신한다.
+     */
+    CompletableFuture<CacheEntry> lookup(final String hostname) {
+        final String key = hostname.toLowerCase(Locale.ROOT);
+        final CacheEntry cached = cache.get(key);
+        final long now = System.nanoTime();
+        if (cached != null && !cached.isExpired(now)) {
+            if (cached.getCause() != null) {
+                metrics.negativeHit();
+            } else {
+                metrics.hit();
+                if (cached.isRefreshDue(now) && cached.markRefreshing()) {
+                    metrics.refresh();
+                    query(key);
+                }
+            }
+            return CompletableFuture.completedFuture(cached);
+        }
+        metrics.miss();
+        return query(key);
+    }
+
+    private CompletableFuture<CacheEntry> query(final String key) {
+        final CompletableFuture<CacheEntry> future = new CompletableFuture<>();
+        final CompletableFuture<CacheEntry> existing = inflight.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        final long startedAt = System.nanoTime();
+        queryRecords(key).whenComplete((addressesAndTtl, err) -> {
+            metrics.queried(System.nanoTime() - startedAt, err == null);
+            final CacheEntry previous = cache.get(key);
+            final CacheEntry resolved;
+            if (err == null) {
+                resolved = CacheEntry.positive(addressesAndTtl.addresses, clampTtlNanos(addressesAndTtl.ttlSeconds), config.getRefreshAheadRatio());
+            } else if (previous != null && previous.getCause() == null && !previous.isExpired(System.nanoTime())) {
+                // 갱신 실패 시 아직 유효한 기존 주소를 유지한다.
+                previous.refreshing.set(false);
+                resolved = previous;
+            } else {
+                // thenCompose 단계의 실패는 CompletionException 으로 감싸져 있으므로 원래 예외(UnknownHostException 등)를 보관한다.
+                resolved = CacheEntry.negative(err instanceof CompletionException && err.getCause() != null ? err.getCause() : err, config.getNegativeTtl().toNanos());
+            }
+            cache.put(key, resolved);
+            inflight.remove(key, future);
+            future.complete(resolved);
+        });
+        return future;
+    }
+
+    private long clampTtlNanos(final long ttlSeconds) {
+        final long ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        return Math.min(Math.max(ttlNanos, config.getMinTtl().toNanos()), config.getMaxTtl().toNanos());
+    }
+
+    private CompletableFuture<AddressesAndTtl> queryRecords(final String hostname) {
+        final List<DnsRecordType> recordTypes = recordTypes(config.getResolvedAddressTypes());
+        final List<CompletableFuture<List<DnsRecord>>> futures = new ArrayList<>(recordTypes.size());
+        final AtomicReference<Throwable> firstError = new AtomicReference<>();
+        recordTypes.forEach(recordType -> futures.add(toCompletableFuture(dnsNameResolver.resolveAll(new DefaultDnsQuestion(hostname, recordType)))
+                .exceptionally(err -> {
+                    firstError.compareAndSet(null, err);
+                    return Collections.emptyList();
+                })));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenCompose(ignored -> {
+            final List<InetAddress> addresses = new ArrayList<>();
+            long ttlSeconds = Long.MAX_VALUE;
+            try {
+                for (final CompletableFuture<List<DnsRecord>> future : futures) {
+                    for (final DnsRecord record : future.join()) {
+                        try {
+                            if (record instanceof DnsRawRecord) {
+                                addresses.add(InetAddress.getByAddress(hostname, ByteBufUtil.getBytes(((DnsRawRecord) record).content())));
+                                ttlSeconds = Math.min(ttlSeconds, record.timeToLive());
+                            }
+                        } finally {
+                            ReferenceCountUtil.release(record);
+                        }
+                    }
+                }
+            } catch (final UnknownHostException e) {
+                return failedFuture(e);
+            }
+            if (addresses.isEmpty()) {
+                final UnknownHostException e = new UnknownHostException("Failed to resolve '" + hostname + "'");
+                Opt.of(firstError.get()).ifPresent(e::initCause);
+                return failedFuture(e);
+            }
+            return CompletableFuture.completedFuture(new AddressesAndTtl(Collections.unmodifiableList(addresses), ttlSeconds));
+        });
+    }
+
+    private static List<DnsRecordType> recordTypes(final ResolvedAddressTypes resolvedAddressTypes) {
+        switch (Opt.of(resolvedAddressTypes).orElse(ResolvedAddressTypes.IPV4_PREFERRED)) {
+            case IPV4_ONLY:
+                return Collections.singletonList(DnsRecordType.A);
+            case IPV6_ONLY:
+                return Collections.singletonList(DnsRecordType.AAAA);
+            case IPV6_PREFERRED:
+                return Arrays.asList(DnsRecordType.AAAA, DnsRecordType.A);
+            case IPV4_PREFERRED:
+            default:
+                return Arrays.asList(DnsRecordType.A, DnsRecordType.AAAA);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> toCompletableFuture(final Future<T> nettyFuture) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        nettyFuture.addListener((FutureListener<T>) f -> {
+            if (f.isSuccess()) {
+                future.complete(f.getNow());
+            } else {
+                future.completeExceptionally(f.cause());
+            }
+        });
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(final Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private class CachingNameResolver extends SimpleNameResolver<InetAddress> {
+        CachingNameResolver(final EventExecutor executor) {
+            super(executor);
+        }
+
+        @Override
+        protected void doResolve(final String inetHost, final Promise<InetAddress> promise) {
+            doResolveAll(inetHost, executor().<List<InetAddress>>newPromise().addListener((FutureListener<List<InetAddress>>) f -> {
+                if (f.isSuccess()) {
+                    promise.trySuccess(f.getNow().get(0));
+                } else {
+                    promise.tryFailure(f.cause());
+                }
+            }));
+        }
+
+        @Override
+        protected void doResolveAll(final String inetHost, final Promise<List<InetAddress>> promise) {
+            // IP 주소 또는 hosts 파일에 등록된 호스트는 DNS 조회 없이 반환한다.
+            final byte[] ipAddress = NetUtil.createByteArrayFromIpAddressString(inetHost);
+            if (ipAddress != null) {
+                try {
+                    promise.trySuccess(Collections.singletonList(InetAddress.getByAddress(inetHost, ipAddress)));
+                } catch (final UnknownHostException e) {
+                    promise.tryFailure(e);
+                }
+                return;
+            }
+            final InetAddress hostsFileEntry = HostsFileEntriesResolver.DEFAULT.address(inetHost, config.getResolvedAddressTypes());
+            if (hostsFileEntry != null) {
+                promise.trySuccess(Collections.singletonList(hostsFileEntry));
+                return;
+            }
+            lookup(inetHost).whenComplete((entry, err) -> {
+                if (err != null) {
+                    promise.tryFailure(err);
+                } else if (entry.getCause() != null) {
+                    promise.tryFailure(entry.getCause());
+                } else {
+                    promise.trySuccess(entry.addresses(config.isRotateAddresses()));
+                }
+            });
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class AddressesAndTtl {
+        private final List<InetAddress> addresses;
+        private final long ttlSeconds;
+    }
+
+    static class CacheEntry {
+        private final List<InetAddress> addresses;
+        @Getter
+        private final Throwable cause;
+        private final long expiresAtNanos;
+        private final long refreshAtNanos;
+        private final AtomicInteger cursor = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CacheEntry(final List<InetAddress> addresses, final Throwable cause, final long ttlNanos, final double refreshAheadRatio) {
+            final long now = System.nanoTime();
+            this.addresses = addresses;
+            this.cause = cause;
+            this.expiresAtNanos = now + ttlNanos;
+            this.refreshAtNanos = now + (long) (ttlNanos * Math.min(Math.max(refreshAheadRatio, 0.0), 1.0));
+        }
+
+        static CacheEntry positive(final List<InetAddress> addresses, final long ttlNanos, final double refreshAheadRatio) {
+            return new CacheEntry(addresses, null, ttlNanos, refreshAheadRatio);
+        }
+
+        static CacheEntry negative(final Throwable cause, final long ttlNanos) {
+            return new CacheEntry(Collections.emptyList(), cause, ttlNanos, 1.0);
+        }
+
+        boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        boolean isRefreshDue(final long now) {
+            return now - refreshAtNanos >= 0;
+        }
+
+        boolean markRefreshing() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        /**
+         * @param rotate 주소 순환 여부
+         * @return 호출마다 시작 위치를 하나씩 옮긴 주소 목록
+         */
+        List<InetAddress> addresses(final boolean rotate) {
+            final int size = addresses.size();
+            if (!rotate || size <= 1) {
+                return addresses;
+            }
+            final int start = Math.floorMod(cursor.getAndIncrement(), size);
+            final List<InetAddress> rotated = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                rotated.add(addresses.get((start + i) % size));
+            }
+            return rotated;
+        }
+    }
+}
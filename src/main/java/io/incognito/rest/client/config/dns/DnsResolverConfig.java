@@ -0,0 +1,55 @@
+package io.incognito.rest.client.config.dns;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+
+import io.netty.resolver.ResolvedAddressTypes;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 비동기 DNS Resolver 설정
+ */
+@Builder
+@Getter
+@ToString
+public class DnsResolverConfig {
+    /**
+     * 캐시 최소 TTL (DNS 응답 TTL 이 이보다 짧으면 이 값을 사용)
+     */
+    @Builder.Default
+    private final Duration minTtl = Duration.ofSeconds(1);
+    /**
+     * 캐시 최대 TTL (DNS 응답 TTL 이 이보다 길면 이 값을 사용)
+     */
+    @Builder.Default
+    private final Duration maxTtl = Duration.ofMinutes(5);
+    /**
+     * 조회 실패(NXDOMAIN 등) 결과의 캐시 TTL
+     */
+    @Builder.Default
+    private final Duration negativeTtl = Duration.ofSeconds(5);
+    /**
+     * TTL 대비 갱신 시작 비율 (예: 0.8 이면 TTL 의 80% 가 지난 시점부터 만료 전에 백그라운드 갱신)
+     */
+    @Builder.Default
+    private final double refreshAheadRatio = 0.8;
+    @Builder.Default
+    private final Duration queryTimeout = Duration.ofSeconds(2);
+    /**
+     * 조회할 레코드 타입 (A, AAAA)
+     */
+    @Builder.Default
+    private final ResolvedAddressTypes resolvedAddressTypes = ResolvedAddressTypes.IPV4_PREFERRED;
+    /**
+     * 조회된 주소 목록을 요청마다 순환하여 사용할지 여부
+     */
+    @Builder.Default
+    private final boolean rotateAddresses = true;
+    /**
+     * DNS 서버 목록 (null 또는 빈 목록이면 시스템 설정(/etc/resolv.conf) 사용, 테스트 시 Local Stub DNS 서버 지정)
+     */
+    private final List<InetSocketAddress> nameServers;
+}
@@ -0,0 +1,85 @@
+package io.incognito.rest.client.config.dns;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.ToString;
+
+/**
+ * DNS 조회 지표 (캐시 적중률, 조회 시간)
+ */
+@ToString
+public class DnsResolverMetrics {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder totalQueryNanos = new LongAdder();
+    private final AtomicLong maxQueryNanos = new AtomicLong();
+
+    void hit() {
+        hits.increment();
+    }
+
+    void negativeHit() {
+        negativeHits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void refresh() {
+        refreshes.increment();
+    }
+
+    void queried(final long elapsedNanos, final boolean success) {
+        queries.increment();
+        totalQueryNanos.add(elapsedNanos);
+        maxQueryNanos.accumulateAndGet(elapsedNanos, Math::max);
+        if (!success) {
+            failures.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getQueryCount() {
+        return queries.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public double getHitRate() {
+        final long lookups = hits.sum() + negativeHits.sum() + misses.sum();
+        return lookups == 0 ? 0.0 : (double) (hits.sum() + negativeHits.sum()) / lookups;
+    }
+
+    public double getMeanQueryMillis() {
+        final long count = queries.sum();
+        return count == 0 ? 0.0 : (double) totalQueryNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxQueryMillis() {
+        return (double) maxQueryNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,300 @@
+package io.incognito.rest.client.config.pool;
+
+import java.net.SocketAddress;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.incognito.rest.client.types.enums.PoolResizeReason;
+import io.netty.resolver.AddressResolverGroup;
+import lombok.Getter;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.TransportConfig;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * 호스트 별로 크기가 바뀌는 Connection Pool
+ * - 호스트마다 별도의 Pool 을 두고, {@link ConnectionProvider.AllocationStrategy} 로 Connection 수의 한도를 바꾼다.
+ * - 판단 주기마다 Pool 에서 기다린 획득 시간(재사용 Connection 기준)과 획득 대기 수, 유휴 비율을 집계하여 {@link ElasticPoolConfig} 기준으로 늘리거나 줄인다.
+ * - 줄일 때는 한도를 넘는 Connection 을 반환 시점에 닫는다. (사용 중인 Connection 은 끊지 않음)
+ * 크기 조절 결과는 {@link #resizeEvents()} 로 전달한다.
+ */
+public class ElasticConnectionProvider implements ConnectionProvider {
+    private static final Logger LOGGER = Loggers.getLogger(ElasticConnectionProvider.class);
+
+    private final String name;
+    @Getter
+    private final ElasticPoolConfig config;
+    private final Map<SocketAddress, HostPool> pools = new ConcurrentHashMap<>();
+    private final Sinks.Many<PoolResizeEvent> resizeEvents = Sinks.many().multicast().directBestEffort();
+    private final Disposable evaluation;
+
+    public ElasticConnectionProvider(final String name, final ElasticPoolConfig config) {
+        if (config.getMinConnections() > config.getMaxConnections()) {
+            throw new IllegalArgumentException("minConnections must not exceed maxConnections: " + config);
+        }
+        this.name = name;
+        this.config = config;
+        final long period = config.getEvaluationInterval().toMillis();
+        this.evaluation = Schedulers.single().schedulePeriodically(this::evaluate, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Mono<? extends Connection> acquire(final TransportConfig transportConfig, final ConnectionObserver connectionObserver, final Supplier<? extends SocketAddress> remoteAddress, final AddressResolverGroup<?> resolverGroup) {
+        final SocketAddress address = Objects.requireNonNull(Objects.requireNonNull(remoteAddress, "remoteAddress").get(), "remoteAddress");
+        final HostPool pool = pools.computeIfAbsent(address, HostPool::new);
+        return Mono.defer(() -> {
+            // 새로 연결한 Connection 은 연결 시간이 포함되므로 대기 시간 집계에서 제외한다.
+            final AtomicBoolean connected = new AtomicBoolean();
+            final long start = System.nanoTime();
+            return pool.provider.acquire(transportConfig, connectionObserver.then((connection, state) -> {
+                        if (state == ConnectionObserver.State.CONNECTED) {
+                            connected.set(true);
+                        }
+                    }), () -> address, resolverGroup)
+                    .doOnNext(connection -> pool.acquired(connected.get() ? -1 : System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * @return 크기 조절 이벤트 Flux (구독 시점 이후의 이벤트만 전달)
+     */
+    public Flux<PoolResizeEvent> resizeEvents() {
+        return resizeEvents.asFlux();
+    }
+
+    /**
+     * @param remoteAddress 호스트 주소
+     * @return 호스트의 현재 Connection 한도 (Pool 이 없으면 empty)
+     */
+    public Optional<Integer> sizeOf(final SocketAddress remoteAddress) {
+        return Optional.ofNullable(pools.get(remoteAddress)).map(pool -> pool.strategy.permitMaximum());
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public int maxConnections() {
+        return config.getMaxConnections();
+    }
+
+    /**
+     * @return 호스트 별 현재 Connection 한도
+     */
+    @Override
+    public Map<SocketAddress, Integer> maxConnectionsPerHost() {
+        return Collections.unmodifiableMap(pools.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().strategy.permitMaximum())));
+    }
+
+    @Override
+    public void disposeWhen(final SocketAddress remoteAddress) {
+        final HostPool pool = pools.remove(remoteAddress);
+        if (pool != null) {
+            pool.provider.dispose();
+        }
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return Mono.defer(() -> {
+            evaluation.dispose();
+            resizeEvents.tryEmitComplete();
+            final Mono<Void> disposed = Mono.when(pools.values().stream().map(pool -> pool.provider.disposeLater()).collect(Collectors.toList()));
+            pools.clear();
+            return disposed;
+        });
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return evaluation.isDisposed();
+    }
+
+    private void evaluate() {
+        pools.values().forEach(pool -> {
+            try {
+                pool.evaluate();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to evaluate elastic pool size: {}", pool.remoteAddress, e);
+            }
+        });
+    }
+
+    private class HostPool {
+        private final SocketAddress remoteAddress;
+        private final ElasticAllocationStrategy strategy;
+        private final ConnectionProvider provider;
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private volatile ConnectionPoolMetrics metrics;
+        // 아래 상태는 판단 주기 스레드에서만 사용한다.
+        private int growStreak;
+        private int shrinkStreak;
+        private long lastResizeNanos = System.nanoTime() - config.getCooldown().toNanos();
+
+        private HostPool(final SocketAddress remoteAddress) {
+            this.remoteAddress = remoteAddress;
+            this.strategy = new ElasticAllocationStrategy(config.resolvedInitialConnections());
+            final long maxIdleMillis = config.getMaxIdleTime().toMillis();
+            this.provider = ConnectionProvider.builder(name + "-" + remoteAddress)
+                    .allocationStrategy(strategy)
+                    .pendingAcquireMaxCount(Math.max(1, 2 * config.getMaxConnections()))
+                    .pendingAcquireTimeout(config.getPendingAcquireTimeout())
+                    // 유휴 시간을 넘었거나, 한도를 줄여 남는 Connection 은 반환 시점(또는 백그라운드 정리)에 닫는다.
+                    .evictionPredicate((connection, metadata) -> metadata.idleTime() >= maxIdleMillis || strategy.isOverCommitted())
+                    .evictInBackground(config.getEvaluationInterval())
+                    .metrics(true, () -> (poolName, id, address, poolMetrics) -> metrics = poolMetrics)
+                    .build();
+        }
+
+        /**
+         * @param waitNanos Pool 에서 기다린 시간 (음수이면 새로 연결한 Connection)
+         */
+        private void acquired(final long waitNanos) {
+            if (waitNanos >= 0) {
+                waitCount.increment();
+                this.waitNanos.add(waitNanos);
+            }
+        }
+
+        private void evaluate() {
+            final long count = waitCount.sumThenReset();
+            final long nanos = waitNanos.sumThenReset();
+            final double meanAcquireMillis = count == 0 ? 0.0 : (double) nanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+            final ConnectionPoolMetrics current = metrics;
+            final int pending = current == null ? 0 : current.pendingAcquireSize();
+            final int size = strategy.permitMaximum();
+            final double idleRatio = 1.0 - (double) Math.min(current == null ? 0 : current.acquiredSize(), size) / size;
+
+            // 확장 구간과 축소 구간 사이(두 조건 모두 아님)에서는 연속 횟수를 초기화한다.
+            final boolean pressured = pending > 0 || meanAcquireMillis >= config.getGrowAcquireLatency().toNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            final boolean idle = !pressured && idleRatio >= config.getShrinkIdleRatio();
+            growStreak = pressured ? growStreak + 1 : 0;
+            shrinkStreak = idle ? shrinkStreak + 1 : 0;
+            if (System.nanoTime() - lastResizeNanos < config.getCooldown().toNanos()) {
+                return;
+            }
+
+            final int newSize;
+            final PoolResizeReason reason;
+            if (growStreak >= config.getGrowAfter()) {
+                newSize = config.clamp(Math.max(size + 1, (int) Math.ceil(size * config.getGrowFactor())));
+                reason = PoolResizeReason.ACQUIRE_LATENCY;
+            } else if (shrinkStreak >= config.getShrinkAfter()) {
+                newSize = config.clamp(Math.min(size - 1, (int) Math.floor(size * config.getShrinkFactor())));
+                reason = PoolResizeReason.IDLE;
+            } else {
+                return;
+            }
+            if (newSize == size) {
+                return;
+            }
+            strategy.resize(newSize);
+            growStreak = 0;
+            shrinkStreak = 0;
+            lastResizeNanos = System.nanoTime();
+
+            final PoolResizeEvent event = PoolResizeEvent.builder()
+                    .remoteAddress(remoteAddress)
+                    .previousSize(size)
+                    .newSize(newSize)
+                    .reason(reason)
+                    .meanAcquireMillis(meanAcquireMillis)
+                    .pendingAcquires(pending)
+                    .idleRatio(idleRatio)
+                    .timestamp(Instant.now())
+                    .build();
+            LOGGER.info("Elastic pool resized: {}", event);
+            resizeEvents.tryEmitNext(event);
+        }
+    }
+
+    /**
+     * 한도를 바꿀 수 있는 Connection 할당 전략 (호스트 Pool 하나에만 사용하므로 copy 는 자기 자신)
+     */
+    private static class ElasticAllocationStrategy implements AllocationStrategy<ElasticAllocationStrategy> {
+        private final AtomicInteger granted = new AtomicInteger();
+        private volatile int maximum;
+
+        private ElasticAllocationStrategy(final int maximum) {
+            this.maximum = maximum;
+        }
+
+        private void resize(final int maximum) {
+            this.maximum = maximum;
+        }
+
+        private boolean isOverCommitted() {
+            return granted.get() > maximum;
+        }
+
+        @Override
+        public ElasticAllocationStrategy copy() {
+            return this;
+        }
+
+        @Override
+        public int estimatePermitCount() {
+            return Math.max(0, maximum - granted.get());
+        }
+
+        @Override
+        public int getPermits(final int desired) {
+            if (desired <= 0) {
+                return 0;
+            }
+            while (true) {
+                final int current = granted.get();
+                final int permits = Math.min(desired, maximum - current);
+                if (permits <= 0) {
+                    return 0;
+                }
+                if (granted.compareAndSet(current, current + permits)) {
+                    return permits;
+                }
+            }
+        }
+
+        @Override
+        public int permitGranted() {
+            return granted.get();
+        }
+
+        @Override
+        public int permitMinimum() {
+            return 0;
+        }
+
+        @Override
+        public int permitMaximum() {
+            return maximum;
+        }
+
+        @Override
+        public void returnPermits(final int returned) {
+            granted.updateAndGet(current -> Math.max(0, current - returned));
+        }
+    }
+}
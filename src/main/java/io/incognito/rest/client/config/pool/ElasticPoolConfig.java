@@ -0,0 +1,87 @@
+package io.incognito.rest.client.config.pool;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 가변 크기 Connection Pool 설정 (호스트 별로 최소 ~ 최대 Connection 수 사이에서 크기 조절)
+ * 획득 대기 시간이 확장 기준을 넘으면 늘리고, 유휴 비율이 축소 기준을 넘으면 줄인다.
+ * 확장/축소 기준 사이의 구간과 연속 횟수, 조절 후 대기 시간으로 크기가 반복해서 바뀌지 않도록 한다.
+ */
+@Builder
+@ToString
+@Getter
+public class ElasticPoolConfig {
+    /**
+     * 호스트 별 최소 Connection 수
+     */
+    @Builder.Default
+    private final int minConnections = 4;
+    /**
+     * 호스트 별 최대 Connection 수
+     */
+    @Builder.Default
+    private final int maxConnections = 200;
+    /**
+     * 호스트 별 초기 Connection 수 (0 이하이면 minConnections)
+     */
+    private final int initialConnections;
+    /**
+     * 크기 조절 판단 주기 (주기 마다 획득 대기 시간, 유휴 비율을 집계)
+     */
+    @Builder.Default
+    private final Duration evaluationInterval = Duration.ofSeconds(1);
+    /**
+     * 평균 Connection 획득 시간이 이 값 이상이거나 획득 대기가 남아 있으면 확장 구간
+     */
+    @Builder.Default
+    private final Duration growAcquireLatency = Duration.ofMillis(20);
+    /**
+     * 유휴 비율(1 - 사용 중 / 크기)이 이 값 이상이고 획득 대기가 없으면 축소 구간 (0 ~ 1)
+     */
+    @Builder.Default
+    private final double shrinkIdleRatio = 0.5;
+    /**
+     * 확장하기까지 확장 구간이 연속되어야 하는 판단 횟수
+     */
+    @Builder.Default
+    private final int growAfter = 2;
+    /**
+     * 축소하기까지 축소 구간이 연속되어야 하는 판단 횟수 (확장보다 느리게)
+     */
+    @Builder.Default
+    private final int shrinkAfter = 10;
+    /**
+     * 확장 배율 (현재 크기 * growFactor, 최소 1 증가)
+     */
+    @Builder.Default
+    private final double growFactor = 1.5;
+    /**
+     * 축소 배율 (현재 크기 * shrinkFactor, 최소 1 감소)
+     */
+    @Builder.Default
+    private final double shrinkFactor = 0.75;
+    /**
+     * 크기를 조절한 뒤 다음 조절까지 기다릴 시간
+     */
+    @Builder.Default
+    private final Duration cooldown = Duration.ofSeconds(5);
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+    /**
+     * 유휴 Connection 을 닫을 시간
+     */
+    @Builder.Default
+    private final Duration maxIdleTime = Duration.ofSeconds(30);
+
+    int resolvedInitialConnections() {
+        return clamp(initialConnections > 0 ? initialConnections : minConnections);
+    }
+
+    int clamp(final int size) {
+        return Math.max(Math.max(1, minConnections), Math.min(size, Math.max(minConnections, maxConnections)));
+    }
+}
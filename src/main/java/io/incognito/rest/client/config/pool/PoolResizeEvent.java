@@ -0,0 +1,35 @@
+package io.incognito.rest.client.config.pool;
+
+import java.net.SocketAddress;
+import java.time.Instant;
+
+import io.incognito.rest.client.types.enums.PoolResizeReason;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 가변 크기 Connection Pool 의 크기 조절 이벤트
+ */
+@Builder
+@ToString
+@Getter
+public class PoolResizeEvent {
+    private final SocketAddress remoteAddress;
+    private final int previousSize;
+    private final int newSize;
+    private final PoolResizeReason reason;
+    /**
+     * 판단 주기 동안 재사용 Connection 을 Pool 에서 기다린 평균 시간 (ms, 새로 연결한 Connection 의 획득은 제외)
+     */
+    private final double meanAcquireMillis;
+    /**
+     * 판단 시점의 획득 대기 수
+     */
+    private final int pendingAcquires;
+    /**
+     * 판단 시점의 유휴 비율 (1 - 사용 중 / 크기)
+     */
+    private final double idleRatio;
+    private final Instant timestamp;
+}
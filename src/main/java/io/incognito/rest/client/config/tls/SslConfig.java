@@ -0,0 +1,107 @@
+package io.incognito.rest.client.config.tls;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.List;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManagerFactory;
+
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import lombok.ToString;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Client SslContext 설정
+ * - Provider: JDK 또는 OpenSSL(BoringSSL 포함, netty-tcnative 필요). OpenSSL 을 사용할 수 없으면 JDK 로 대체할 수 있다.
+ * - 신뢰 인증서: 별도 지정이 없으면 JVM 기본 Trust Store 를 사용한다.
+ */
+@Builder
+@Getter
+@ToString
+public class SslConfig {
+    private static final Logger LOGGER = Loggers.getLogger(SslConfig.class);
+
+    @Builder.Default
+    private final SslProvider provider = SslProvider.JDK;
+    /**
+     * OpenSSL 을 사용할 수 없는 환경에서 JDK Provider 로 대체할지 여부
+     */
+    @Builder.Default
+    private final boolean fallbackToJdk = true;
+    @Singular
+    private final List<String> ciphers;
+    @Singular
+    private final List<String> protocols;
+    private final TrustManagerFactory trustManagerFactory;
+    /**
+     * 신뢰할 인증서 목록 (PEM 파일)
+     */
+    private final File trustCertCollectionFile;
+    /**
+     * 모든 서버 인증서를 신뢰할지 여부 (개발/테스트 환경 전용)
+     */
+    @Builder.Default
+    private final boolean insecureTrustAll = false;
+    /**
+     * TLS Session 캐시 크기 (Session 재사용으로 재연결 시 Full Handshake 를 피한다.)
+     */
+    @Builder.Default
+    private final long sessionCacheSize = 1024;
+    /**
+     * TLS Session (Session Ticket 포함) 유효 시간
+     */
+    @Builder.Default
+    private final Duration sessionTimeout = Duration.ofHours(1);
+
+    /**
+     * @return 실제 사용할 Provider (OpenSSL 을 사용할 수 없으면 설정에 따라 JDK, 대체 시 WARN 로그)
+     * @throws SSLException OpenSSL 을 사용할 수 없고 JDK 대체가 허용되지 않은 경우
+     */
+    public SslProvider resolveProvider() throws SSLException {
+        if (provider == SslProvider.JDK || OpenSsl.isAvailable()) {
+            return provider;
+        }
+        if (fallbackToJdk) {
+            LOGGER.warn("{} provider is not available (netty-tcnative is not on the classpath?), falling back to JDK: {}", provider, String.valueOf(OpenSsl.unavailabilityCause()));
+            return SslProvider.JDK;
+        }
+        throw new SSLException("OpenSSL provider is not available.", OpenSsl.unavailabilityCause());
+    }
+
+    /**
+     * 설정으로 Client SslContext 를 생성한다.
+     *
+     * @return SslContext
+     * @throws SSLException SslContext 생성 실패
+     */
+    public SslContext toSslContext() throws SSLException {
+        final SslContextBuilder builder = SslContextBuilder.forClient()
+                .sslProvider(resolveProvider())
+                .sessionCacheSize(sessionCacheSize)
+                .sessionTimeout(sessionTimeout.getSeconds());
+        if (insecureTrustAll) {
+            builder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+        } else if (trustManagerFactory != null) {
+            builder.trustManager(trustManagerFactory);
+        } else if (trustCertCollectionFile != null) {
+            builder.trustManager(trustCertCollectionFile);
+        }
+        if (ciphers != null && !ciphers.isEmpty()) {
+            builder.ciphers(ciphers, SupportedCipherSuiteFilter.INSTANCE);
+        }
+        if (protocols != null && !protocols.isEmpty()) {
+            builder.protocols(protocols);
+        }
+        return builder.build();
+    }
+}
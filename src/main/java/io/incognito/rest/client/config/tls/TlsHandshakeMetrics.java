@@ -0,0 +1,54 @@
+package io.incognito.rest.client.config.tls;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLSession;
+
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.FutureListener;
+import lombok.ToString;
+
+/**
+ * TLS Handshake 지표 (Full Handshake / Session 재사용(resumption) 횟수)
+ */
+@ToString
+public class TlsHandshakeMetrics {
+    private final LongAdder full = new LongAdder();
+    private final LongAdder resumed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Handshake 완료 시 결과를 기록하도록 SslHandler 에 Listener 를 등록한다.
+     * Session 생성 시각이 Handshake 시작 시각보다 이르면 이전 Session 을 재사용한 것으로 판단한다.
+     *
+     * @param sslHandler Connection 의 SslHandler
+     */
+    public void observe(final SslHandler sslHandler) {
+        final long handshakeStartedAt = System.currentTimeMillis();
+        sslHandler.handshakeFuture().addListener((FutureListener<Channel>) future -> {
+            if (!future.isSuccess()) {
+                failed.increment();
+                return;
+            }
+            final SSLSession session = sslHandler.engine().getSession();
+            if (session != null && session.getCreationTime() < handshakeStartedAt) {
+                resumed.increment();
+            } else {
+                full.increment();
+            }
+        });
+    }
+
+    public long getFullHandshakeCount() {
+        return full.sum();
+    }
+
+    public long getResumedHandshakeCount() {
+        return resumed.sum();
+    }
+
+    public long getFailedHandshakeCount() {
+        return failed.sum();
+    }
+}
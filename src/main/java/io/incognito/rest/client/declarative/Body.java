@@ -0,0 +1,14 @@
+package io.incognito.rest.client.declarative;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 파라미터를 JSON Request Body 로 전송한다. (메서드 당 하나)
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.PARAMETER)
+public @interface Body {
+}
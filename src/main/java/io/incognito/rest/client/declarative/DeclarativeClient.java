@@ -0,0 +1,28 @@
+package io.incognito.rest.client.declarative;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 선언형 클라이언트 인터페이스
+ * 컴파일 시점에 {@link io.incognito.rest.client.declarative.processor.DeclarativeClientProcessor} 가 구현 클래스를 생성한다. (Proxy, Reflection 미사용)
+ * <pre>
+ * &#64;DeclarativeClient
+ * public interface UserApi {
+ *     &#64;Request(method = HttpMethod.GET, path = "/users/{id}")
+ *     Mono&lt;UserResponse&gt; getUser(&#64;PathParam("id") long id, &#64;QueryParam("expand") String expand);
+ * }
+ *
+ * UserApi userApi = new UserApiImpl(DeclarativeClientSupport.builder().webClient(webClient).build());
+ * </pre>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface DeclarativeClient {
+    /**
+     * 생성할 구현 클래스 이름 (기본값: 인터페이스 이름 + "Impl")
+     */
+    String name() default "";
+}
@@ -0,0 +1,57 @@
+package io.incognito.rest.client.declarative;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.auth.TokenProvider;
+import io.incognito.rest.client.bulkhead.Bulkhead;
+import io.incognito.rest.client.handler.dispatch.CallbackDispatcher;
+import io.incognito.rest.client.lb.EndpointGroup;
+import io.incognito.rest.client.memory.MemoryBudget;
+import io.incognito.rest.client.types.dto.SpillPolicy;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 생성된 선언형 클라이언트가 공유하는 요청 설정
+ *
+ * @param <AUTH> 인증 정보 타입
+ */
+@Builder
+@Getter
+public class DeclarativeClientSupport<AUTH> {
+    private final WebClient webClient;
+    private final AUTH authorization;
+    /**
+     * 요청 빌더에 인증 정보를 설정하는 함수 (null 이면 미설정)
+     */
+    private final BiConsumer<WebClient.RequestHeadersSpec<?>, AUTH> authorizer;
+    /**
+     * 요청마다 인증 정보를 제공할 TokenProvider (설정하면 authorization 대신 사용)
+     */
+    private final TokenProvider<AUTH> tokenProvider;
+    private final String authScope;
+    private final ObjectMapper bodyObjectMapper;
+    private final Duration deadline;
+    private final EndpointGroup endpointGroup;
+    private final CallbackDispatcher callbackDispatcher;
+    private final PriorityAdmissionController admissionController;
+    private final RequestPriority priority;
+    private final Bulkhead bulkhead;
+    private final SpillPolicy spillPolicy;
+    private final MemoryBudget memoryBudget;
+
+    /**
+     * @param metadata 요청 정보
+     * @return 요청 1회 분의 Executor
+     */
+    public DeclarativeRequest<AUTH> request(final RequestMetadata metadata) {
+        return new DeclarativeRequest<>(this, metadata);
+    }
+}
@@ -0,0 +1,178 @@
+package io.incognito.rest.client.declarative;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import io.incognito.rest.client.IHttpClientExecutor;
+import io.incognito.rest.client.admission.PriorityAdmissionController;
+import io.incognito.rest.client.auth.TokenProvider;
+import io.incognito.rest.client.bulkhead.Bulkhead;
+import io.incognito.rest.client.handler.dispatch.CallbackDispatcher;
+import io.incognito.rest.client.lb.EndpointGroup;
+import io.incognito.rest.client.memory.MemoryBudget;
+import io.incognito.rest.client.types.dto.ResponseProjection;
+import io.incognito.rest.client.types.dto.SpillPolicy;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import io.incognito.rest.client.util.Opt;
+
+/**
+ * 선언형 클라이언트 메서드 호출 1회 분의 Executor (생성된 코드에서 사용)
+ *
+ * @param <AUTH> 인증 정보 타입
+ */
+public class DeclarativeRequest<AUTH> implements IHttpClientExecutor<AUTH> {
+    private final DeclarativeClientSupport<AUTH> support;
+    private final RequestMetadata metadata;
+    private final MultiValueMap<String, String> queryParam = new LinkedMultiValueMap<>();
+    private final Map<String, String> pathVariables = new HashMap<>();
+    private MultiValueMap<String, String> requestHeaders;
+
+    DeclarativeRequest(final DeclarativeClientSupport<AUTH> support, final RequestMetadata metadata) {
+        this.support = support;
+        this.metadata = metadata;
+        this.requestHeaders = metadata.getHeaders();
+    }
+
+    public DeclarativeRequest<AUTH> pathVariable(final String name, final Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Path variable must not be null: " + name);
+        }
+        pathVariables.put(name, String.valueOf(value));
+        return this;
+    }
+
+    public DeclarativeRequest<AUTH> queryParam(final String name, final Object value) {
+        forEachValue(value, v -> queryParam.add(name, v));
+        return this;
+    }
+
+    public DeclarativeRequest<AUTH> header(final String name, final Object value) {
+        if (value != null && requestHeaders == metadata.getHeaders()) {
+            // 고정 헤더는 공유하므로 처음 추가할 때 복사한다.
+            requestHeaders = new LinkedMultiValueMap<>(metadata.getHeaders());
+        }
+        forEachValue(value, v -> requestHeaders.add(name, v));
+        return this;
+    }
+
+    private static void forEachValue(final Object value, final Consumer<String> consumer) {
+        if (value instanceof Iterable) {
+            ((Iterable<?>) value).forEach(v -> Opt.of(v).map(String::valueOf).ifPresent(consumer));
+        } else if (value instanceof Object[]) {
+            for (final Object v : (Object[]) value) {
+                Opt.of(v).map(String::valueOf).ifPresent(consumer);
+            }
+        } else {
+            Opt.of(value).map(String::valueOf).ifPresent(consumer);
+        }
+    }
+
+    @Override
+    public <S extends WebClient.RequestHeadersSpec<?>> void authorize(final S builder, final AUTH auth) {
+        Opt.of(support.getAuthorizer()).ifPresent(authorizer -> authorizer.accept(builder, auth));
+    }
+
+    @Override
+    public WebClient getWebClient() {
+        return support.getWebClient();
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return metadata.getMethod();
+    }
+
+    @Override
+    public String getUrl() {
+        return metadata.getPath();
+    }
+
+    @Override
+    public MultiValueMap<String, String> getRequestHeaders() {
+        return requestHeaders;
+    }
+
+    @Override
+    public MultiValueMap<String, String> getQueryParam() {
+        return queryParam;
+    }
+
+    @Override
+    public Map<String, String> getPathVariables() {
+        return pathVariables;
+    }
+
+    @Override
+    public AUTH getAuthorization() {
+        return support.getAuthorization();
+    }
+
+    @Override
+    public ObjectMapper getBodyObjectMapper() {
+        return support.getBodyObjectMapper();
+    }
+
+    @Override
+    public Duration getDeadline() {
+        return support.getDeadline();
+    }
+
+    @Override
+    public EndpointGroup getEndpointGroup() {
+        return support.getEndpointGroup();
+    }
+
+    @Override
+    public CallbackDispatcher getCallbackDispatcher() {
+        return Opt.of(support.getCallbackDispatcher()).orElseGet(CallbackDispatcher::inline);
+    }
+
+    @Override
+    public TokenProvider<AUTH> getTokenProvider() {
+        return support.getTokenProvider();
+    }
+
+    @Override
+    public String getAuthScope() {
+        return Opt.of(support.getAuthScope()).orElse(TokenProvider.DEFAULT_SCOPE);
+    }
+
+    @Override
+    public PriorityAdmissionController getAdmissionController() {
+        return support.getAdmissionController();
+    }
+
+    @Override
+    public RequestPriority getPriority() {
+        return Opt.of(support.getPriority()).orElse(RequestPriority.NORMAL);
+    }
+
+    @Override
+    public Bulkhead getBulkhead() {
+        return support.getBulkhead();
+    }
+
+    @Override
+    public ResponseProjection getResponseProjection() {
+        return metadata.getProjection();
+    }
+
+    @Override
+    public SpillPolicy getSpillPolicy() {
+        return support.getSpillPolicy();
+    }
+
+    @Override
+    public MemoryBudget getMemoryBudget() {
+        return support.getMemoryBudget();
+    }
+}
@@ -0,0 +1,15 @@
+package io.incognito.rest.client.declarative;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 파라미터를 URL 경로 변수 ({name}) 에 바인딩한다.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.PARAMETER)
+public @interface PathParam {
+    String value();
+}
@@ -0,0 +1,15 @@
+package io.incognito.rest.client.declarative;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 파라미터를 Query Parameter 에 바인딩한다. (null 이면 생략, Iterable 또는 배열이면 여러 값)
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.PARAMETER)
+public @interface QueryParam {
+    String value();
+}
@@ -0,0 +1,39 @@
+package io.incognito.rest.client.declarative;
+
+import org.springframework.http.HttpMethod;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 선언형 클라이언트 메서드의 요청 정보
+ * 메서드 반환 타입은 {@code Mono<RESP extends IBaseResponse>} 이어야 한다.
+ * 별도로 컴파일된 상위 인터페이스의 메서드도 구현할 수 있도록 Class 파일에 남긴다. (파라미터 Annotation 포함)
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Request {
+    HttpMethod method() default HttpMethod.GET;
+
+    /**
+     * 요청 경로 ({name} 은 {@link PathParam} 으로 바인딩)
+     */
+    String path();
+
+    /**
+     * 고정 요청 헤더 ("Name: value" 형식)
+     */
+    String[] headers() default {};
+
+    /**
+     * 최대 재시도 횟수
+     */
+    int retryCount() default 0;
+
+    /**
+     * 응답 Body 에서 추출할 값의 JsonPointer 목록 (지정하면 응답 타입에 추출한 값만 변환, {@link io.incognito.rest.client.types.dto.ResponseProjection#pointers(String...)})
+     */
+    String[] projection() default {};
+}
@@ -0,0 +1,59 @@
+package io.incognito.rest.client.declarative;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import io.incognito.rest.client.types.dto.ResponseProjection;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 선언형 클라이언트 메서드의 요청 정보 (생성된 클래스의 상수로 한 번만 생성)
+ */
+@ToString
+@Getter
+public class RequestMetadata {
+    private final HttpMethod method;
+    private final String path;
+    private final MultiValueMap<String, String> headers;
+    private final int retryCount;
+    /**
+     * 응답 Projection (null 이면 응답 Body 전체를 변환)
+     */
+    private final ResponseProjection projection;
+
+    /**
+     * @param method HTTP Method
+     * @param path 요청 경로
+     * @param headers 고정 요청 헤더 ("Name: value" 형식)
+     * @param retryCount 최대 재시도 횟수
+     */
+    public RequestMetadata(final HttpMethod method, final String path, final String[] headers, final int retryCount) {
+        this(method, path, headers, retryCount, new String[0]);
+    }
+
+    /**
+     * @param method HTTP Method
+     * @param path 요청 경로
+     * @param headers 고정 요청 헤더 ("Name: value" 형식)
+     * @param retryCount 최대 재시도 횟수
+     * @param projection 응답 Body 에서 추출할 값의 JsonPointer 목록
+     */
+    public RequestMetadata(final HttpMethod method, final String path, final String[] headers, final int retryCount, final String[] projection) {
+        this.method = method;
+        this.path = path;
+        this.retryCount = retryCount;
+        this.projection = projection.length == 0 ? null : ResponseProjection.pointers(projection);
+        final MultiValueMap<String, String> parsed = new LinkedMultiValueMap<>();
+        for (final String header : headers) {
+            final int separator = header.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid header (expected \"Name: value\"): " + header);
+            }
+            parsed.add(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+        }
+        this.headers = CollectionUtils.unmodifiableMultiValueMap(parsed);
+    }
+}
@@ -0,0 +1,268 @@
+package io.incognito.rest.client.declarative.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+import io.incognito.rest.client.declarative.Body;
+import io.incognito.rest.client.declarative.DeclarativeClient;
+import io.incognito.rest.client.declarative.HeaderParam;
+import io.incognito.rest.client.declarative.PathParam;
+import io.incognito.rest.client.declarative.QueryParam;
+import io.incognito.rest.client.declarative.Request;
+
+/**
+ * {@link DeclarativeClient} 인터페이스의 구현 클래스를 생성한다.
+ * 생성된 클래스는 메서드 별 {@link io.incognito.rest.client.declarative.RequestMetadata} 상수와 응답 타입 상수를 가지며,
+ * 호출 시 {@link io.incognito.rest.client.declarative.DeclarativeRequest} 에 파라미터를 바로 바인딩한다. (Proxy, Reflection 미사용)
+ */
+@SupportedAnnotationTypes("io.incognito.rest.client.declarative.DeclarativeClient")
+public class DeclarativeClientProcessor extends AbstractProcessor {
+    private static final String MONO = "reactor.core.publisher.Mono";
+    private static final String BASE_RESPONSE = "io.incognito.rest.client.types.dto.response.IBaseResponse";
+    /**
+     * 경로의 URI 변수 ({name} 또는 {name:regex})
+     */
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^{}:]+)(?::[^{}]*)?}");
+
+    /**
+     * 생성 조건을 만족하지 않는 요소 (컴파일 오류로 보고)
+     */
+    private static class InvalidElementException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        InvalidElementException(final Element element, final String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(DeclarativeClient.class)) {
+            try {
+                if (element.getKind() != ElementKind.INTERFACE) {
+                    throw new InvalidElementException(element, "@DeclarativeClient must be placed on an interface.");
+                }
+                generate((TypeElement) element);
+            } catch (final InvalidElementException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate declarative client: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(final TypeElement type) throws IOException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidElementException(type, "Generic declarative client interfaces are not supported.");
+        }
+        final Elements elements = processingEnv.getElementUtils();
+        final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        final String className = implementationName(type);
+
+        final StringBuilder constants = new StringBuilder();
+        final StringBuilder methods = new StringBuilder();
+        int index = 0;
+        // 상위 인터페이스에서 상속한 메서드도 구현한다. (default, static, Object 메서드 제외)
+        for (final ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            appendMethod(type, method, index++, constants, methods);
+        }
+
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("/**\n * Generated by " + getClass().getName() + " from {@link " + type.getQualifiedName() + "}\n */\n");
+            writer.write("public final class " + className + " implements " + type.getQualifiedName() + " {\n");
+            writer.write(constants.toString());
+            writer.write("\n    private final io.incognito.rest.client.declarative.DeclarativeClientSupport<?> support;\n\n");
+            writer.write("    public " + className + "(final io.incognito.rest.client.declarative.DeclarativeClientSupport<?> support) {\n");
+            writer.write("        this.support = support;\n    }\n");
+            writer.write(methods.toString());
+            writer.write("}\n");
+        }
+    }
+
+    private void appendMethod(final TypeElement type, final ExecutableElement method, final int index, final StringBuilder constants, final StringBuilder methods) {
+        final Request request = method.getAnnotation(Request.class);
+        if (request == null) {
+            throw new InvalidElementException(method, "Declarative client methods must be annotated with @Request.");
+        }
+        if (!method.getTypeParameters().isEmpty()) {
+            throw new InvalidElementException(method, "Generic declarative client methods are not supported.");
+        }
+        final Types types = processingEnv.getTypeUtils();
+        // 상위 인터페이스의 타입 인자를 적용한 시그니처
+        final ExecutableType executable = (ExecutableType) types.asMemberOf((DeclaredType) type.asType(), method);
+        final TypeMirror responseType = responseType(method, executable.getReturnType());
+        final Elements elements = processingEnv.getElementUtils();
+        final String metadataName = "REQUEST_" + index;
+        final String responseTypeName = "RESPONSE_TYPE_" + index;
+
+        // 요청 정보, 응답 타입 상수
+        checkHeaders(method, request.headers());
+        final StringBuilder headers = new StringBuilder();
+        for (final String header : request.headers()) {
+            headers.append(headers.length() == 0 ? "" : ", ").append(elements.getConstantExpression(header));
+        }
+        final StringBuilder projection = new StringBuilder();
+        for (final String pointer : request.projection()) {
+            projection.append(projection.length() == 0 ? "" : ", ").append(elements.getConstantExpression(pointer));
+        }
+        constants.append("    private static final io.incognito.rest.client.declarative.RequestMetadata ").append(metadataName)
+                .append(" = new io.incognito.rest.client.declarative.RequestMetadata(org.springframework.http.HttpMethod.").append(request.method().name())
+                .append(", ").append(elements.getConstantExpression(request.path()))
+                .append(", new String[]{").append(headers).append("}, ").append(request.retryCount())
+                .append(", new String[]{").append(projection).append("});\n");
+        // Generic 인자가 있는 응답 타입은 타입 참조로 요소 타입까지 한 번에 변환한다.
+        final String responseTypeExpression = ((DeclaredType) responseType).getTypeArguments().isEmpty()
+                ? types.erasure(responseType) + ".class"
+                : "new org.springframework.core.ParameterizedTypeReference<" + responseType + ">() {}";
+        constants.append("    private static final io.incognito.rest.client.types.dto.ResponseType<").append(responseType).append("> ").append(responseTypeName)
+                .append(" = io.incognito.rest.client.types.dto.ResponseType.of(").append(responseTypeExpression).append(");\n");
+
+        // 메서드 구현
+        final StringBuilder signature = new StringBuilder();
+        final StringBuilder bindings = new StringBuilder();
+        final Set<String> pathParams = new LinkedHashSet<>();
+        String bodyParam = null;
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            final VariableElement parameter = parameters.get(i);
+            final String name = parameter.getSimpleName().toString();
+            signature.append(signature.length() == 0 ? "" : ", ").append("final ").append(executable.getParameterTypes().get(i)).append(" ").append(name);
+            final PathParam pathParam = parameter.getAnnotation(PathParam.class);
+            final QueryParam queryParam = parameter.getAnnotation(QueryParam.class);
+            final HeaderParam headerParam = parameter.getAnnotation(HeaderParam.class);
+            final boolean body = parameter.getAnnotation(Body.class) != null;
+            final int bindingCount = (pathParam != null ? 1 : 0) + (queryParam != null ? 1 : 0) + (headerParam != null ? 1 : 0) + (body ? 1 : 0);
+            if (bindingCount != 1) {
+                throw new InvalidElementException(parameter, "Each parameter must have exactly one of @PathParam, @QueryParam, @HeaderParam or @Body.");
+            }
+            if (pathParam != null) {
+                if (!pathParams.add(pathParam.value())) {
+                    throw new InvalidElementException(parameter, "Duplicate @PathParam: " + pathParam.value());
+                }
+                bindings.append("        request.pathVariable(").append(elements.getConstantExpression(pathParam.value())).append(", ").append(name).append(");\n");
+            } else if (queryParam != null) {
+                bindings.append("        request.queryParam(").append(elements.getConstantExpression(queryParam.value())).append(", ").append(name).append(");\n");
+            } else if (headerParam != null) {
+                bindings.append("        request.header(").append(elements.getConstantExpression(headerParam.value())).append(", ").append(name).append(");\n");
+            } else if (bodyParam != null) {
+                throw new InvalidElementException(parameter, "Only one @Body parameter is allowed.");
+            } else {
+                bodyParam = name;
+            }
+        }
+
+        checkPathVariables(method, request.path(), pathParams);
+
+        methods.append("\n    @Override\n")
+                .append("    public ").append(executable.getReturnType()).append(" ").append(method.getSimpleName()).append("(").append(signature).append(") {\n")
+                .append("        final io.incognito.rest.client.declarative.DeclarativeRequest<?> request = support.request(").append(metadataName).append(");\n")
+                .append(bindings);
+        if (bodyParam != null) {
+            methods.append("        return request.executeWithBodyAsync(").append(bodyParam).append(", ").append(responseTypeName).append(", ").append(metadataName).append(".getRetryCount(), null);\n");
+        } else {
+            methods.append("        return request.executeAsync(").append(responseTypeName).append(", ").append(metadataName).append(".getRetryCount(), null);\n");
+        }
+        methods.append("    }\n");
+    }
+
+    /**
+     * 고정 요청 헤더가 "Name: value" 형식인지 확인한다. (생성된 클래스를 초기화할 때 {@link io.incognito.rest.client.declarative.RequestMetadata} 가 실패하지 않도록 컴파일 오류로 보고)
+     */
+    private static void checkHeaders(final ExecutableElement method, final String[] headers) {
+        for (final String header : headers) {
+            if (header.indexOf(':') <= 0) {
+                throw new InvalidElementException(method, "Invalid header '" + header + "' in @Request (expected \"Name: value\").");
+            }
+        }
+    }
+
+    /**
+     * 경로의 URI 변수와 @PathParam 이름이 일치하는지 확인한다. (누락, 미사용 모두 컴파일 오류)
+     */
+    private static void checkPathVariables(final ExecutableElement method, final String path, final Set<String> pathParams) {
+        final Set<String> variables = new LinkedHashSet<>();
+        final Matcher matcher = PATH_VARIABLE.matcher(path);
+        while (matcher.find()) {
+            variables.add(matcher.group(1).trim());
+        }
+        for (final String variable : variables) {
+            if (!pathParams.contains(variable)) {
+                throw new InvalidElementException(method, "Path variable {" + variable + "} in '" + path + "' has no matching @PathParam.");
+            }
+        }
+        for (final String pathParam : pathParams) {
+            if (!variables.contains(pathParam)) {
+                throw new InvalidElementException(method, "@PathParam(\"" + pathParam + "\") does not match any path variable in '" + path + "'.");
+            }
+        }
+    }
+
+    /**
+     * @return 반환 타입 {@code Mono<RESP>} 의 RESP (IBaseResponse 구현 타입)
+     */
+    private TypeMirror responseType(final ExecutableElement method, final TypeMirror returnType) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement mono = processingEnv.getElementUtils().getTypeElement(MONO);
+        final TypeElement baseResponse = processingEnv.getElementUtils().getTypeElement(BASE_RESPONSE);
+        if (returnType.getKind() == TypeKind.DECLARED && mono != null && types.isSameType(types.erasure(returnType), types.erasure(mono.asType()))) {
+            final List<? extends TypeMirror> typeArguments = ((DeclaredType) returnType).getTypeArguments();
+            if (typeArguments.size() == 1 && typeArguments.get(0).getKind() == TypeKind.DECLARED
+                    && types.isAssignable(typeArguments.get(0), types.erasure(baseResponse.asType()))) {
+                return typeArguments.get(0);
+            }
+        }
+        throw new InvalidElementException(method, "Declarative client methods must return Mono<? extends IBaseResponse>.");
+    }
+
+    private static String implementationName(final TypeElement type) {
+        final String name = type.getAnnotation(DeclarativeClient.class).name();
+        if (!name.isEmpty()) {
+            return name;
+        }
+        // 중첩 인터페이스는 바깥 타입 이름을 이어 붙인다.
+        final StringBuilder builder = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); enclosing.getKind() != ElementKind.PACKAGE; enclosing = enclosing.getEnclosingElement()) {
+            builder.insert(0, enclosing.getSimpleName() + "_");
+        }
+        return builder.append("Impl").toString();
+    }
+}
@@ -27,4 +27,31 @@ public class ApiFailureException extends RuntimeException {
         super(cause);
         setFailureResult(failureResult);
     }
+
+    protected ApiFailureException(final ApiResult failureResult, final String message, final Throwable cause, final boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+        setFailureResult(failureResult);
+    }
+
+    /**
+     * Stack Trace 를 생성하지 않는 예외를 생성한다. (장애 시 대량으로 발생하는 HTTP 실패 응답 처리 비용 절감)
+     *
+     * @param failureResult API 실패 결과
+     * @return 예외
+     */
+    public static ApiFailureException stackless(final ApiResult failureResult) {
+        return new ApiFailureException(failureResult, null, null, false);
+    }
+
+    /**
+     * @return 예외 메시지 (지정되지 않았으면 API 실패 결과의 메시지)
+     */
+    @Override
+    public String getMessage() {
+        final String message = super.getMessage();
+        if (message == null && failureResult != null) {
+            return failureResult.getFailureMessage();
+        }
+        return message;
+    }
 }
@@ -0,0 +1,15 @@
+package io.incognito.rest.client.exceptions;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 요청 Deadline 초과 ({@link io.incognito.rest.client.helper.ClientResponseProcessor#applyDeadline} 에서만 발생)
+ * 다른 원인의 {@link TimeoutException} 과 구분하여 {@link io.incognito.rest.client.types.enums.ApiResultCode#DEADLINE_EXCEEDED} 로 변환한다.
+ */
+public class DeadlineExceededException extends TimeoutException {
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+abstract class AbstractMeteredCallbackDispatcher implements CallbackDispatcher {
+    private static final Logger log = Loggers.getLogger(AbstractMeteredCallbackDispatcher.class);
+    private final Map<String, CallbackDispatchMetrics> metrics = new ConcurrentHashMap<>();
+
+    protected CallbackDispatchMetrics metricsOf(final Object handler) {
+        final String handlerName = handler == null ? "unknown" : handler.getClass().getName();
+        return metrics.computeIfAbsent(handlerName, CallbackDispatchMetrics::new);
+    }
+
+    /**
+     * 적재된 Callback 을 수행하고 지표를 기록한다.
+     * Callback 에서 발생한 예외는 다른 Callback 수행에 영향을 주지 않도록 로그만 남긴다.
+     */
+    protected static void runMetered(final CallbackDispatchMetrics handlerMetrics, final Runnable callback, final long enqueuedAtNanos) {
+        handlerMetrics.dequeued();
+        try {
+            callback.run();
+        } catch (final Throwable t) {
+            log.warn("Callback of {} threw an exception.", handlerMetrics.getHandlerName(), t);
+        } finally {
+            handlerMetrics.completed(System.nanoTime() - enqueuedAtNanos);
+        }
+    }
+
+    @Override
+    public Map<String, CallbackDispatchMetrics> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+}
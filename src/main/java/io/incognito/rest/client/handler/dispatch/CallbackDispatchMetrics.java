@@ -0,0 +1,68 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Handler 별 Callback 처리 지표 (대기열 길이, 처리 건수, 지연 시간)
+ */
+@RequiredArgsConstructor
+@ToString
+public class CallbackDispatchMetrics {
+    @Getter
+    private final String handlerName;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    void enqueued() {
+        queueDepth.incrementAndGet();
+    }
+
+    void dequeued() {
+        queueDepth.decrementAndGet();
+    }
+
+    void dropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Callback 처리 완료를 기록한다.
+     *
+     * @param latencyNanos 적재 시점부터 처리 완료까지 걸린 시간 (ns)
+     */
+    void completed(final long latencyNanos) {
+        dispatched.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public long getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public double getMeanLatencyMillis() {
+        final long count = dispatched.sum();
+        return count == 0 ? 0.0 : (double) totalLatencyNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxLatencyMillis() {
+        return (double) maxLatencyNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
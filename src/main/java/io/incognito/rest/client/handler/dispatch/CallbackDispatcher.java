@@ -0,0 +1,45 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.Map;
+
+import io.incognito.rest.client.types.enums.CallbackOverflowPolicy;
+
+/**
+ * {@link io.incognito.rest.client.handler.HttpCallbackHandler} 의 Callback 을 어느 스레드에서 수행할지 결정한다.
+ * - inline: Netty I/O 스레드에서 즉시 수행 (기존 동작)
+ * - boundedScheduler: 크기가 제한된 Scheduler 에서 수행
+ * - ringBuffer: 단일 소비자 Ring Buffer 에 적재 후 일괄(batch) 수행
+ */
+public interface CallbackDispatcher {
+    /**
+     * Callback 을 수행(또는 적재)한다.
+     *
+     * @param handler Callback 을 소유한 Handler (지표 집계 단위)
+     * @param callback 수행할 Callback
+     */
+    void dispatch(Object handler, Runnable callback);
+
+    /**
+     * @return Netty I/O 스레드에서 즉시 수행하는지 여부
+     */
+    default boolean isInline() {
+        return false;
+    }
+
+    /**
+     * @return Handler 이름 별 Callback 처리 지표
+     */
+    Map<String, CallbackDispatchMetrics> getMetrics();
+
+    static CallbackDispatcher inline() {
+        return InlineCallbackDispatcher.INSTANCE;
+    }
+
+    static CallbackDispatcher boundedScheduler(final String name, final int threadCap, final int queuedTaskCap) {
+        return new SchedulerCallbackDispatcher(name, threadCap, queuedTaskCap);
+    }
+
+    static CallbackDispatcher ringBuffer(final String name, final int capacity, final int batchSize, final CallbackOverflowPolicy overflowPolicy) {
+        return new RingBufferCallbackDispatcher(name, capacity, batchSize, overflowPolicy);
+    }
+}
@@ -0,0 +1,23 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.Collections;
+import java.util.Map;
+
+class InlineCallbackDispatcher implements CallbackDispatcher {
+    static final InlineCallbackDispatcher INSTANCE = new InlineCallbackDispatcher();
+
+    @Override
+    public void dispatch(final Object handler, final Runnable callback) {
+        callback.run();
+    }
+
+    @Override
+    public boolean isInline() {
+        return true;
+    }
+
+    @Override
+    public Map<String, CallbackDispatchMetrics> getMetrics() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,99 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.incognito.rest.client.types.enums.CallbackOverflowPolicy;
+import io.incognito.rest.client.util.Opt;
+import lombok.RequiredArgsConstructor;
+import reactor.core.Disposable;
+
+/**
+ * 고정 크기 Ring Buffer 에 Callback 을 적재하고, 단일 소비자 스레드가 batch 단위로 꺼내어 수행한다.
+ * 단일 소비자이므로 한 요청에 대한 Callback 들은 적재된 순서대로 수행된다.
+ */
+class RingBufferCallbackDispatcher extends AbstractMeteredCallbackDispatcher implements Disposable {
+    private final BlockingQueue<Entry> buffer;
+    private final int batchSize;
+    private final CallbackOverflowPolicy overflowPolicy;
+    private final Thread consumer;
+    private volatile boolean disposed;
+
+    RingBufferCallbackDispatcher(final String name, final int capacity, final int batchSize, final CallbackOverflowPolicy overflowPolicy) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = Opt.of(overflowPolicy).orElse(CallbackOverflowPolicy.DROP_NEWEST);
+        this.consumer = new Thread(this::drainLoop, name);
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void dispatch(final Object handler, final Runnable callback) {
+        final Entry entry = new Entry(metricsOf(handler), callback, System.nanoTime());
+        entry.metrics.enqueued();
+        if (disposed) {
+            overflow(entry);
+            return;
+        }
+        while (!buffer.offer(entry)) {
+            if (overflowPolicy != CallbackOverflowPolicy.DROP_OLDEST) {
+                overflow(entry);
+                return;
+            }
+            Opt.of(buffer.poll()).ifPresent(oldest -> {
+                oldest.metrics.dequeued();
+                oldest.metrics.dropped();
+            });
+        }
+    }
+
+    private void overflow(final Entry entry) {
+        if (overflowPolicy == CallbackOverflowPolicy.CALLER_RUNS) {
+            runMetered(entry.metrics, entry.callback, entry.enqueuedAtNanos);
+        } else {
+            entry.metrics.dequeued();
+            entry.metrics.dropped();
+        }
+    }
+
+    private void drainLoop() {
+        final List<Entry> batch = new ArrayList<>(batchSize);
+        while (!disposed || !buffer.isEmpty()) {
+            try {
+                final Entry first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                batch.forEach(entry -> runMetered(entry.metrics, entry.callback, entry.enqueuedAtNanos));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed && !consumer.isAlive();
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final CallbackDispatchMetrics metrics;
+        private final Runnable callback;
+        private final long enqueuedAtNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package io.incognito.rest.client.handler.dispatch;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 스레드 수와 대기열 크기가 제한된 Scheduler 에서 Callback 을 수행한다.
+ * 대기열이 가득 찬 경우 Callback 을 버리고 지표에 기록한다.
+ */
+class SchedulerCallbackDispatcher extends AbstractMeteredCallbackDispatcher implements Disposable {
+    private final Scheduler scheduler;
+
+    SchedulerCallbackDispatcher(final String name, final int threadCap, final int queuedTaskCap) {
+        this.scheduler = Schedulers.newBoundedElastic(threadCap, queuedTaskCap, name, 60, true);
+    }
+
+    @Override
+    public void dispatch(final Object handler, final Runnable callback) {
+        final CallbackDispatchMetrics handlerMetrics = metricsOf(handler);
+        final long enqueuedAtNanos = System.nanoTime();
+        handlerMetrics.enqueued();
+        try {
+            scheduler.schedule(() -> runMetered(handlerMetrics, callback, enqueuedAtNanos));
+        } catch (final RejectedExecutionException e) {
+            handlerMetrics.dequeued();
+            handlerMetrics.dropped();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        scheduler.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return scheduler.isDisposed();
+    }
+}
@@ -0,0 +1,249 @@
+package io.incognito.rest.client.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.ResponseType;
+import io.incognito.rest.client.types.dto.SpillPolicy;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.util.Opt;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * {@link SpillPolicy} 에 따라 버퍼링한 응답 Body
+ * - 임계값 이하: Pooled 메모리 버퍼 (복사 없이 하나로 연결)
+ * - 임계값 초과: 임시 파일에 비동기로 기록한 뒤 파일 Channel 로 읽음 (Body 전체를 Heap 에 올리지 않음)
+ * {@link #close()} 에서 메모리 버퍼를 반환하고 임시 파일을 삭제한다.
+ * 임시 파일 생성, 닫기, 삭제와 변환은 Event Loop 를 막지 않도록 {@link Schedulers#boundedElastic()} 에서 수행한다.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BufferedBody implements AutoCloseable {
+    private static final Logger LOGGER = Loggers.getLogger(BufferedBody.class);
+
+    @Getter
+    private final long size;
+    private final DataBuffer memory;
+    private final Path file;
+
+    /**
+     * @return 임시 파일로 옮겨졌는지 여부
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * @return Body 를 읽는 InputStream (임시 파일이면 Blocking I/O 이므로 Event Loop 밖에서 사용)
+     * @throws IOException 임시 파일을 열지 못한 경우
+     */
+    public InputStream inputStream() throws IOException {
+        return file != null ? Files.newInputStream(file, StandardOpenOption.READ) : memory.asInputStream(false);
+    }
+
+    @Override
+    public void close() {
+        Opt.of(memory).ifPresent(DataBufferUtils::release);
+        Opt.of(file).ifPresent(BufferedBody::delete);
+    }
+
+    /**
+     * Body 를 버퍼링한 뒤 RESP 타입으로 변환하고, 변환이 끝나면 버퍼와 임시 파일을 정리한다.
+     *
+     * @param body 응답 Body
+     * @param policy 버퍼링 정책
+     * @param objectMapper 변환에 사용할 ObjectMapper (null 이면 {@link ClientResponseProcessor#DEFAULT_OBJECT_MAPPER})
+     * @param responseType 변환할 타입
+     * @param <RESP> 변환할 타입
+     * @return 변환된 객체 Mono (Body 가 비어 있으면 빈 Mono)
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> decode(final Flux<DataBuffer> body, final SpillPolicy policy, final ObjectMapper objectMapper, final ResponseType<RESP> responseType) {
+        final ObjectMapper mapper = Opt.of(objectMapper).orElse(ClientResponseProcessor.DEFAULT_OBJECT_MAPPER);
+        return Mono.usingWhen(buffer(body, policy),
+                buffered -> buffered.getSize() == 0 ? Mono.<RESP>empty() : Mono.fromCallable(() -> {
+                    try (InputStream inputStream = buffered.inputStream()) {
+                        return responseType.reader(mapper).<RESP>readValue(inputStream);
+                    }
+                }).subscribeOn(Schedulers.boundedElastic()),
+                buffered -> Mono.fromRunnable(buffered::close).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * Body 를 정책에 따라 메모리 또는 임시 파일에 버퍼링한다. (실패, 취소 시 버퍼와 임시 파일 정리)
+     *
+     * @param body 응답 Body
+     * @param policy 버퍼링 정책
+     * @return 버퍼링된 Body (사용 후 {@link #close()} 필요)
+     */
+    public static Mono<BufferedBody> buffer(final Flux<DataBuffer> body, final SpillPolicy policy) {
+        return Mono.defer(() -> {
+            final Spiller spiller = new Spiller(policy);
+            return body.concatMap(spiller::accept)
+                    .then(Mono.defer(spiller::complete))
+                    .doOnError(throwable -> spiller.discard())
+                    .doOnCancel(spiller::discard);
+        });
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to delete spilled response body: {}", file, e);
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    private static class Spiller {
+        private final SpillPolicy policy;
+        private final List<DataBuffer> buffers = new ArrayList<>();
+        private long size;
+        private long written;
+        private Path file;
+        private AsynchronousFileChannel channel;
+        /**
+         * 임시 파일을 여는 중인지 여부 (boundedElastic 에서 open() 실행 중에 취소된 경우 open() 이 정리)
+         */
+        private boolean opening;
+        private boolean discarded;
+
+        private Spiller(final SpillPolicy policy) {
+            this.policy = policy;
+        }
+
+        private synchronized Mono<Void> accept(final DataBuffer buffer) {
+            size += buffer.readableByteCount();
+            if (size > policy.getMaxBodySize()) {
+                DataBufferUtils.release(buffer);
+                final String message = "Response body exceeds " + policy.getMaxBodySize() + " bytes.";
+                return Mono.error(new ApiFailureException(ApiResult.builder().resultCode(ApiResultCode.INVALID_RESPONSE).failureMessage(message).build(), message));
+            }
+            if (channel == null && size <= policy.getInMemoryThreshold()) {
+                buffers.add(buffer);
+                return Mono.empty();
+            }
+            if (channel == null) {
+                // 임계값을 넘으면 지금까지의 메모리 버퍼를 임시 파일로 옮긴다.
+                buffers.add(buffer);
+                // 파일을 여는 동안 취소되면 open() 이 끝난 뒤 정리한다.
+                opening = true;
+                return Mono.fromCallable(this::open)
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(opened -> write(Flux.fromIterable(takeBuffers()), size));
+            }
+            return write(Flux.just(buffer), buffer.readableByteCount());
+        }
+
+        private Mono<Void> write(final Flux<DataBuffer> source, final long length) {
+            final long position = written;
+            written += length;
+            return DataBufferUtils.write(source, channel, position)
+                    .doOnNext(DataBufferUtils::release)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then();
+        }
+
+        /**
+         * 임시 파일을 만들고 쓰기 Channel 을 연다.
+         *
+         * @return 쓰기 Channel (여는 동안 취소되었으면 파일을 정리하고 null)
+         * @throws IOException 임시 파일을 만들거나 열지 못한 경우
+         */
+        private AsynchronousFileChannel open() throws IOException {
+            Files.createDirectories(policy.getDirectory());
+            final Path created = Files.createTempFile(policy.getDirectory(), policy.getFilePrefix(), ".tmp");
+            AsynchronousFileChannel opened = null;
+            try {
+                opened = AsynchronousFileChannel.open(created, StandardOpenOption.WRITE);
+            } finally {
+                synchronized (this) {
+                    opening = false;
+                    file = created;
+                    channel = opened;
+                    if (discarded) {
+                        cleanUp();
+                        opened = null;
+                    }
+                }
+            }
+            return opened;
+        }
+
+        private synchronized List<DataBuffer> takeBuffers() {
+            final List<DataBuffer> pending = new ArrayList<>(buffers);
+            buffers.clear();
+            return pending;
+        }
+
+        private synchronized Mono<BufferedBody> complete() {
+            if (channel == null) {
+                final DataBuffer memory = buffers.isEmpty() ? null : buffers.get(0).factory().join(new ArrayList<>(buffers));
+                buffers.clear();
+                return Mono.just(new BufferedBody(size, memory, null));
+            }
+            final AsynchronousFileChannel opened = channel;
+            return Mono.fromCallable(() -> {
+                opened.close();
+                synchronized (this) {
+                    // 이미 정리되었으면 빈 Mono, 아니면 임시 파일을 BufferedBody 로 넘긴다.
+                    final Path spilled = discarded ? null : file;
+                    channel = null;
+                    file = null;
+                    return spilled == null ? null : new BufferedBody(size, null, spilled);
+                }
+            }).subscribeOn(Schedulers.boundedElastic());
+        }
+
+        private synchronized void discard() {
+            discarded = true;
+            buffers.forEach(DataBufferUtils::release);
+            buffers.clear();
+            if (!opening) {
+                cleanUp();
+            }
+        }
+
+        /**
+         * 임시 파일 Channel 을 닫고 파일을 삭제한다. (Event Loop 를 막지 않도록 boundedElastic 에서 수행)
+         */
+        private synchronized void cleanUp() {
+            final AsynchronousFileChannel opened = channel;
+            final Path created = file;
+            channel = null;
+            file = null;
+            if (opened == null && created == null) {
+                return;
+            }
+            Schedulers.boundedElastic().schedule(() -> {
+                if (opened != null) {
+                    try {
+                        opened.close();
+                    } catch (final IOException ignored) {
+                        // 정리 중 실패는 무시한다.
+                    }
+                }
+                Opt.of(created).ifPresent(BufferedBody::delete);
+            });
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package io.incognito.rest.client.helper;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 응답 Body 의 원본 바이트 (String 변환은 읽는 시점에 수행)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CapturedBody {
+    private final byte[] bytes;
+    private final int length;
+    private final boolean truncated;
+    private final Charset charset;
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public String asString() {
+        return isEmpty() ? "" : new String(bytes, 0, length, charset);
+    }
+
+    /**
+     * @return 유효 길이만큼의 바이트 배열 (길이가 같으면 복사하지 않는다.)
+     */
+    public byte[] toByteArray() {
+        return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * 응답 Body 전체를 읽는다. (WebClient 의 maxInMemorySize 제한 적용)
+     *
+     * @param clientResponse 응답
+     * @return Body (없으면 빈 Body)
+     */
+    static Mono<CapturedBody> read(final ClientResponse clientResponse) {
+        final Charset charset = charsetOf(clientResponse);
+        return clientResponse.bodyToMono(DataBuffer.class)
+                .map(dataBuffer -> {
+                    try {
+                        final byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                        dataBuffer.read(bytes);
+                        return new CapturedBody(bytes, bytes.length, false, charset);
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
+                    }
+                })
+                .defaultIfEmpty(new CapturedBody(new byte[0], 0, false, charset));
+    }
+
+    /**
+     * 응답 Body 를 최대 maxBytes 까지만 보관하고 나머지는 읽어서 버린다. (큰 오류 페이지로 인한 메모리 증가 방지)
+     *
+     * @param clientResponse 응답
+     * @param maxBytes 보관할 최대 바이트 수
+     * @return Body (초과분은 잘림)
+     */
+    static Mono<CapturedBody> readAtMost(final ClientResponse clientResponse, final int maxBytes) {
+        final Charset charset = charsetOf(clientResponse);
+        final int limit = Math.max(0, maxBytes);
+        return clientResponse.bodyToFlux(DataBuffer.class)
+                .collect(() -> new Accumulator(limit), (accumulator, dataBuffer) -> {
+                    try {
+                        accumulator.append(dataBuffer);
+                    } finally {
+                        DataBufferUtils.release(dataBuffer);
+                    }
+                })
+                .map(accumulator -> accumulator.toCapturedBody(charset));
+    }
+
+    private static Charset charsetOf(final ClientResponse clientResponse) {
+        return clientResponse.headers().contentType()
+                .map(MimeType::getCharset)
+                .filter(Objects::nonNull)
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * DataBuffer 의 앞부분을 최대 limit 바이트까지 복사해 모은다. (DataBuffer 의 읽기 위치는 바꾸지 않음)
+     */
+    public static class Accumulator {
+        private final int limit;
+        private byte[] bytes = new byte[0];
+        private int length;
+        private boolean truncated;
+
+        public Accumulator(final int limit) {
+            this.limit = limit;
+        }
+
+        public void append(final DataBuffer dataBuffer) {
+            final int readable = dataBuffer.readableByteCount();
+            final int accepted = Math.min(readable, limit - length);
+            if (accepted < readable) {
+                truncated = true;
+            }
+            if (accepted <= 0) {
+                return;
+            }
+            if (bytes.length < length + accepted) {
+                bytes = Arrays.copyOf(bytes, Math.min(limit, Math.max(length + accepted, bytes.length * 2)));
+            }
+            dataBuffer.slice(dataBuffer.readPosition(), accepted).read(bytes, length, accepted);
+            length += accepted;
+        }
+
+        /**
+         * @param charset 문자열 변환에 사용할 Charset
+         * @return 모은 Body (잘린 UTF-8 Body 는 마지막 완전한 문자까지만 포함)
+         */
+        public CapturedBody toCapturedBody(final Charset charset) {
+            final int validLength = truncated && StandardCharsets.UTF_8.equals(charset) ? utf8Boundary(bytes, length) : length;
+            return new CapturedBody(bytes, validLength, truncated, charset);
+        }
+
+        /**
+         * @return 끝에서 완성되지 않은 UTF-8 문자를 제외한 길이
+         */
+        private static int utf8Boundary(final byte[] bytes, final int length) {
+            // 마지막 문자의 시작 바이트를 찾는다. (연속 바이트 10xxxxxx 는 최대 3개)
+            int start = length - 1;
+            while (start >= 0 && length - start <= 4 && (bytes[start] & 0xC0) == 0x80) {
+                start--;
+            }
+            if (start < 0 || length - start > 4) {
+                return length;
+            }
+            final int lead = bytes[start] & 0xFF;
+            final int expected = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+            return start + expected > length ? start : length;
+        }
+    }
+}
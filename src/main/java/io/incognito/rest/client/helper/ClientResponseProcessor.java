@@ -1,19 +1,34 @@
 package io.incognito.rest.client.helper;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClientRequestException;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import io.incognito.rest.client.IHttpClientExecutor;
+import io.incognito.rest.client.IHttpRequest;
 import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.exceptions.DeadlineExceededException;
 import io.incognito.rest.client.handler.HttpCallbackHandler;
+import io.incognito.rest.client.handler.dispatch.CallbackDispatcher;
 import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.Deadline;
+import io.incognito.rest.client.types.dto.HeaderRetentionPolicy;
+import io.incognito.rest.client.types.dto.ResponseType;
 import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
 import io.incognito.rest.client.types.dto.response.IBaseResponse;
 import io.incognito.rest.client.types.enums.ApiResultCode;
@@ -25,6 +40,37 @@ import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 public class ClientResponseProcessor {
+    private static final Duration RETRY_MIN_BACKOFF = Duration.ofSeconds(1);
+    /**
+     * 재시도 지연 시간의 Jitter 비율 (다음 지연 시간은 최대 (1 + Jitter) 배)
+     */
+    private static final double RETRY_JITTER = 0.5;
+    /**
+     * 요청 설정과 WebClient 어디에도 ObjectMapper 가 없을 때 응답 Body 변환에 사용할 기본 ObjectMapper
+     */
+    static final ObjectMapper DEFAULT_OBJECT_MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * 응답 Body 를 직접 변환할 때 사용할 ObjectMapper
+     * 요청 설정의 ObjectMapper, WebClient 의 Jackson Decoder 에 등록된 ObjectMapper ({@link io.incognito.rest.client.config.HttpClientConfigurer#webClientObjectMapper()}), 기본값 순으로 사용한다.
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param objectMapper 요청 설정의 ObjectMapper (null 이면 WebClient 에 등록된 ObjectMapper)
+     * @return ObjectMapper
+     */
+    public static ObjectMapper responseObjectMapper(final ClientResponse clientResponse, final ObjectMapper objectMapper) {
+        if (objectMapper != null) {
+            return objectMapper;
+        }
+        return clientResponse.strategies().messageReaders().stream()
+                .filter(DecoderHttpMessageReader.class::isInstance)
+                .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+                .filter(Jackson2JsonDecoder.class::isInstance)
+                .map(decoder -> ((Jackson2JsonDecoder) decoder).getObjectMapper())
+                .findFirst()
+                .orElse(DEFAULT_OBJECT_MAPPER);
+    }
+
     /**
      * HTTP 상태를 기반으로 API 결과 객체를 생성한다.
      *
@@ -67,9 +113,20 @@ public class ClientResponseProcessor {
      * @return 생성된 객체
      */
     public static <RESP extends IBaseResponse> Mono<RESP> createResponseInstance(final Class<RESP> responseType, final HttpStatus status, final MultiValueMap<String, String> responseHeaders) {
+        return createResponseInstance(ResponseType.of(responseType), status, responseHeaders);
+    }
+
+    /**
+     * RESP 타입의 객체를 생성한다.
+     *
+     * @param responseType 생성할 타입
+     * @param <RESP> 생성할 타입
+     * @return 생성된 객체
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> createResponseInstance(final ResponseType<RESP> responseType, final HttpStatus status, final MultiValueMap<String, String> responseHeaders) {
         try {
             return Mono.just(Opt.of(responseType).get().newInstance());
-        } catch (InstantiationException | IllegalAccessException e) {
+        } catch (final ReflectiveOperationException e) {
             return Mono.error(new ApiFailureException(deserializeFailure(status, responseHeaders, e.getMessage()), e.getMessage(), e));
         }
     }
@@ -82,50 +139,114 @@ public class ClientResponseProcessor {
      * @return 객체 타입 변환 함수
      */
     public static <RESP extends IBaseResponse> Function<ClientResponse, ? extends Mono<RESP>> exchangeResponse(final Class<RESP> responseType) {
-        return clientResponse -> {
-            // HTTP 응답 상태 코드와 헤더를 가져온다.
-            final HttpStatus statusCode = clientResponse.statusCode();
-            final MultiValueMap<String, String> responseHeaders = Opt.of(clientResponse.headers()).map(ClientResponse.Headers::asHttpHeaders).orElseGet(null);;
-
-            // 응답 상태 코드가 4xx, 5xx 이면 HTTP 통신 실패로 간주한다.
-            if (clientResponse.statusCode().is4xxClientError() || clientResponse.statusCode().is5xxServerError()) {
-                return clientResponse.bodyToMono(String.class)
-                        .switchIfEmpty(Mono.just(""))
+        return exchangeResponse(responseType, null);
+    }
+
+    /**
+     * Http Response 의 Body 를 RESP 타입의 객체로 변환한다.
+     *
+     * @param responseType 변환할 타입의 클래스 객체
+     * @param requestConfig 요청 설정 (오류 응답 Body 최대 보관 크기 등, null 이면 기본값)
+     * @param <RESP> 변환할 타입
+     * @return 객체 타입 변환 함수
+     */
+    public static <RESP extends IBaseResponse> Function<ClientResponse, ? extends Mono<RESP>> exchangeResponse(final Class<RESP> responseType, final IHttpRequest<?> requestConfig) {
+        return exchangeResponse(responseType, requestConfig, true);
+    }
+
+    /**
+     * Http Response 의 Body 를 RESP 타입의 객체로 변환한다.
+     *
+     * @param responseType 변환할 타입의 클래스 객체
+     * @param requestConfig 요청 설정 (오류 응답 Body 최대 보관 크기 등, null 이면 기본값)
+     * @param signalFailureAsError 4xx, 5xx 응답을 예외로 전달할지 여부 (false 이면 예외 없이 실패 결과가 설정된 응답 객체로 전달)
+     * @param <RESP> 변환할 타입
+     * @return 객체 타입 변환 함수
+     */
+    public static <RESP extends IBaseResponse> Function<ClientResponse, ? extends Mono<RESP>> exchangeResponse(final Class<RESP> responseType, final IHttpRequest<?> requestConfig, final boolean signalFailureAsError) {
+        return exchangeResponse(ResponseType.of(responseType), requestConfig, signalFailureAsError);
+    }
+
+    /**
+     * Http Response 의 Body 를 RESP 타입의 객체로 변환한다. (Generic 타입이면 요소 타입까지 한 번에 변환)
+     *
+     * @param responseType 변환할 타입
+     * @param requestConfig 요청 설정 (오류 응답 Body 최대 보관 크기 등, null 이면 기본값)
+     * @param signalFailureAsError 4xx, 5xx 응답을 예외로 전달할지 여부 (false 이면 예외 없이 실패 결과가 설정된 응답 객체로 전달)
+     * @param <RESP> 변환할 타입
+     * @return 객체 타입 변환 함수
+     */
+    public static <RESP extends IBaseResponse> Function<ClientResponse, ? extends Mono<RESP>> exchangeResponse(final ResponseType<RESP> responseType, final IHttpRequest<?> requestConfig, final boolean signalFailureAsError) {
+        return clientResponse -> exchangeResponse(clientResponse, retainedHeaders(clientResponse, requestConfig), responseType, requestConfig, signalFailureAsError);
+    }
+
+    /**
+     * Http Response 의 Body 를 RESP 타입의 객체로 변환한다. (보관할 응답 헤더를 이미 추출한 경우)
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param responseHeaders 보관할 응답 헤더 ({@link #retainedHeaders(ClientResponse, IHttpRequest)})
+     * @param responseType 변환할 타입
+     * @param requestConfig 요청 설정 (null 이면 기본값)
+     * @param signalFailureAsError 4xx, 5xx 응답을 예외로 전달할지 여부
+     * @param <RESP> 변환할 타입
+     * @return 변환된 RESP 객체 Mono
+     */
+    static <RESP extends IBaseResponse> Mono<RESP> exchangeResponse(final ClientResponse clientResponse, final MultiValueMap<String, String> responseHeaders, final ResponseType<RESP> responseType, final IHttpRequest<?> requestConfig, final boolean signalFailureAsError) {
+        final int maxErrorBodyBytes = Opt.of(requestConfig).map(IHttpRequest::getMaxErrorBodyBytes).orElse(IHttpRequest.DEFAULT_MAX_ERROR_BODY_BYTES);
+        // HTTP 응답 상태 코드를 가져온다.
+        final HttpStatus statusCode = clientResponse.statusCode();
+
+        // 응답 상태 코드가 4xx, 5xx 이면 HTTP 통신 실패로 간주한다. (오류 Body 는 최대 크기까지만 보관)
+        if (clientResponse.statusCode().is4xxClientError() || clientResponse.statusCode().is5xxServerError()) {
+            return CapturedBody.readAtMost(clientResponse, maxErrorBodyBytes)
+                    .flatMap(body -> {
+                        final ApiResult result = setupApiResult(statusCode, responseHeaders);
+                        result.setFailureDetail(Opt.of(body.asString()).filter(StringUtils::hasText).orElse(null));
+                        result.setFailureDetailTruncated(body.isTruncated() ? Boolean.TRUE : null);
+                        // 실패 메시지는 읽는 시점에 생성한다.
+                        result.setFailureMessageSupplier(() -> String.format("Failed to call API. Status Code: [%d] %s", statusCode.value(), statusCode.getReasonPhrase()));
+                        if (!signalFailureAsError) {
+                            return createResponseInstance(responseType, statusCode, responseHeaders).map(responseInstance -> {
+                                responseInstance.setApiResult(result);
+                                return responseInstance;
+                            });
+                        }
+                        return Mono.error(ApiFailureException.stackless(result));
+                    });
+        } else { // 정상 응답 처리
+            // EmptyOrStringBodyResponse 타입의 응답 처리 (예: empty response body 응답 또는 문자열 응답, 원본 바이트로 보관)
+            if (TypeUtil.isAssignableTypeOf(responseType.getRawClass(), EmptyOrStringBodyResponse.class)) {
+                return CapturedBody.read(clientResponse)
                         .flatMap(body -> {
-                            final ApiResult result = setupApiResult(statusCode, responseHeaders);
-                            result.setFailureDetail(Opt.of(body).filter(StringUtils::hasText).orElse(null));
-                            result.setFailureMessage(String.format("Failed to call API. Status Code: [%d] %s", statusCode.value(), statusCode.getReasonPhrase()));
-                            return Mono.error(new ApiFailureException(result));
-                        });
-            } else { // 정상 응답 처리
-                // EmptyOrStringBodyResponse 타입의 응답 처리 (예: empty response body 응답 또는 문자열 응답)
-                if (TypeUtil.isAssignableTypeOf(responseType, EmptyOrStringBodyResponse.class)) {
-                    return clientResponse.bodyToMono(String.class)
-                            .switchIfEmpty(Mono.just(""))
-                            .flatMap(bodyString -> {
-                                try {
-                                    return createResponseInstance(EmptyOrStringBodyResponse.class, statusCode, responseHeaders).map(emptyOrStringBodyResponse -> {
-                                        emptyOrStringBodyResponse.setBodyString(bodyString);
-                                        return responseType.cast(emptyOrStringBodyResponse);
-                                    });
-                                } catch (final Exception e) {
-                                    return Mono.error(new ApiFailureException(deserializeFailure(statusCode, responseHeaders, bodyString), e.getMessage(), e));
-                                }
-                            })
-                            .doOnNext(resp -> resp.setApiResult(setupApiResult(statusCode, responseHeaders)));
-                }
-                // 일반적인 응답 처리 (응답 바디를 RESP 타입으로 변환)
-                return clientResponse.bodyToMono(responseType)
-                        .switchIfEmpty(Mono.defer(() -> {
                             try {
-                                return Mono.just(responseType.newInstance());
+                                return createResponseInstance(EmptyOrStringBodyResponse.class, statusCode, responseHeaders).map(emptyOrStringBodyResponse -> {
+                                    emptyOrStringBodyResponse.setBody(body.toByteArray(), body.getCharset());
+                                    return responseType.getRawClass().cast(emptyOrStringBodyResponse);
+                                });
                             } catch (final Exception e) {
-                                return Mono.error(new ApiFailureException(deserializeFailure(statusCode, responseHeaders, e.getMessage()), e.getMessage(), e));
+                                return Mono.error(new ApiFailureException(deserializeFailure(statusCode, responseHeaders, body.asString()), e.getMessage(), e));
                             }
-                        }))
+                        })
                         .doOnNext(resp -> resp.setApiResult(setupApiResult(statusCode, responseHeaders)));
             }
-        };
+            // 일반적인 응답 처리 (응답 바디를 RESP 타입으로 변환)
+            // - Projection 이 있으면 지정한 값만 추출하여 변환
+            // - Spill 정책이 있으면 큰 Body 는 임시 파일에 버퍼링하여 변환 (WebClient 의 maxInMemorySize 미적용)
+            final Mono<RESP> decoded = Opt.of(requestConfig).map(IHttpRequest::getResponseProjection)
+                    .map(projection -> ResponseProjector.project(clientResponse.body(BodyExtractors.toDataBuffers()), projection, responseObjectMapper(clientResponse, requestConfig.getBodyObjectMapper()), responseType))
+                    .orElseGet(() -> Opt.of(requestConfig).map(IHttpRequest::getSpillPolicy)
+                            .map(policy -> BufferedBody.decode(clientResponse.body(BodyExtractors.toDataBuffers()), policy, responseObjectMapper(clientResponse, requestConfig.getBodyObjectMapper()), responseType))
+                            .orElseGet(() -> responseType.isGeneric() ? clientResponse.bodyToMono(responseType.getTypeReference()) : clientResponse.bodyToMono(responseType.getRawClass())));
+            return decoded
+                    .switchIfEmpty(Mono.defer(() -> {
+                        try {
+                            return Mono.just(responseType.newInstance());
+                        } catch (final Exception e) {
+                            return Mono.error(new ApiFailureException(deserializeFailure(statusCode, responseHeaders, e.getMessage()), e.getMessage(), e));
+                        }
+                    }))
+                    .doOnNext(resp -> resp.setApiResult(setupApiResult(statusCode, responseHeaders)));
+        }
     }
 
     /**
@@ -142,27 +263,102 @@ public class ClientResponseProcessor {
      * @return 변환된 RESP 객체 Mono
      */
     public static <RESP extends IBaseResponse> Mono<RESP> handleResponse(final ClientResponse clientResponse, final Class<RESP> responseType, final Integer retryCount) {
+        return handleResponse(clientResponse, responseType, retryCount, null);
+    }
+
+    /**
+     * ClientResponse 를 처리하여 RESP 타입의 객체로 변환한다.
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param responseType 변환할 타입의 클래스 객체
+     * @param retryCount 최대 재시도 횟수 (null 또는 0 이하의 정수 값일 때는 재시도 하지 않음)
+     * @param requestConfig 요청 설정 (null 이면 기본값)
+     * @param <RESP> 변환할 타입
+     * @return 변환된 RESP 객체 Mono
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> handleResponse(final ClientResponse clientResponse, final Class<RESP> responseType, final Integer retryCount, final IHttpRequest<?> requestConfig) {
+        return handleResponse(clientResponse, ResponseType.of(responseType), retryCount, requestConfig);
+    }
+
+    /**
+     * ClientResponse 를 처리하여 RESP 타입의 객체로 변환한다.
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param responseType 변환할 타입
+     * @param retryCount 최대 재시도 횟수 (null 또는 0 이하의 정수 값일 때는 재시도 하지 않음)
+     * @param requestConfig 요청 설정 (null 이면 기본값)
+     * @param <RESP> 변환할 타입
+     * @return 변환된 RESP 객체 Mono
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> handleResponse(final ClientResponse clientResponse, final ResponseType<RESP> responseType, final Integer retryCount, final IHttpRequest<?> requestConfig) {
         final HttpStatus status = clientResponse.statusCode();
-        final MultiValueMap<String, String> responseHeaders = Opt.of(clientResponse.headers()).map(ClientResponse.Headers::asHttpHeaders).orElseGet(null);
-        return exchangeResponse(responseType).apply(clientResponse)
+        final MultiValueMap<String, String> responseHeaders = retainedHeaders(clientResponse, requestConfig);
+        final int retries = Opt.of(retryCount).filter(i -> i > 0).orElse(0);
+        // 재시도하지 않으면 실패 응답을 예외 없이 전달하고 Retry 도 적용하지 않는다.
+        final Mono<RESP> exchanged = exchangeResponse(clientResponse, responseHeaders, responseType, requestConfig, retries > 0)
                 .switchIfEmpty(createResponseInstance(responseType, status, responseHeaders))
                 .doOnNext(response -> {
                     if (response.getApiResult() == null || response.getApiResult().getResultCode() == null) {
                         response.setApiResult(setupApiResult(clientResponse.statusCode(), responseHeaders));
                     }
-                })
-                // Retry
-                .retryWhen(Retry.backoff(
-                        Opt.of(retryCount).filter(i -> i > 0).orElse(0),
-                        Duration.ofSeconds(1)).onRetryExhaustedThrow(((retryBackoffSpec, retrySignal) -> findApiFailureException(retrySignal.failure()).orElseGet(() -> {
-                                final String message = "Retry exhausted after " + retrySignal.totalRetriesInARow() + " retries.";
-                                final ApiResult failureResult = setupApiResult(ApiResultCode.EXHAUSTED_RETIRES, responseHeaders, retrySignal.failure(), err -> message, Throwable::getMessage);
-                                return new ApiFailureException(failureResult, message, retrySignal.failure());
-                            }))))
-                .onErrorResume(ApiFailureException.class, throwable -> createResponseInstance(responseType, status, responseHeaders).map(responseInstance -> {
-                    responseInstance.setApiResult(throwable.getFailureResult());
-                    return responseInstance;
-                }));
+                });
+        final Mono<RESP> retried = retries == 0 ? exchanged : Mono.deferContextual(contextView -> {
+            final Optional<Deadline> deadline = Deadline.fromContext(contextView);
+            final AtomicInteger attempts = new AtomicInteger();
+            // Retry (남은 Deadline 이 다음 재시도 지연 시간의 최댓값보다 짧으면 재시도하지 않는다.)
+            return exchanged.retryWhen(Retry.backoff(retries, RETRY_MIN_BACKOFF)
+                    .jitter(RETRY_JITTER)
+                    .filter(err -> deadline.map(d -> d.covers(maxRetryBackoff(attempts.getAndIncrement()))).orElse(true))
+                    .onRetryExhaustedThrow(((retryBackoffSpec, retrySignal) -> findApiFailureException(retrySignal.failure()).orElseGet(() -> {
+                        final String message = "Retry exhausted after " + retrySignal.totalRetriesInARow() + " retries.";
+                        final ApiResult failureResult = setupApiResult(ApiResultCode.EXHAUSTED_RETIRES, responseHeaders, retrySignal.failure(), err -> message, Throwable::getMessage);
+                        return new ApiFailureException(failureResult, message, retrySignal.failure());
+                    }))));
+        });
+        return retried.onErrorResume(ApiFailureException.class, throwable -> createResponseInstance(responseType, status, responseHeaders).map(responseInstance -> {
+            responseInstance.setApiResult(throwable.getFailureResult());
+            return responseInstance;
+        }));
+    }
+
+    /**
+     * @param attempt 재시도 순번 (0 부터)
+     * @return 재시도 전 지연 시간의 최댓값 ({@link Retry#backoff} 의 지수 증가와 Jitter 반영)
+     */
+    private static Duration maxRetryBackoff(final int attempt) {
+        final long backoffMillis = RETRY_MIN_BACKOFF.toMillis() << Math.min(attempt, 30);
+        return Duration.ofMillis((long) (backoffMillis * (1 + RETRY_JITTER)));
+    }
+
+    /**
+     * 요청 설정의 헤더 보관 정책에 따라 ApiResult 에 보관할 응답 헤더를 추출한다.
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param requestConfig 요청 설정 (null 이면 전체 보관)
+     * @return 보관할 응답 헤더 (보관하지 않으면 null)
+     */
+    static MultiValueMap<String, String> retainedHeaders(final ClientResponse clientResponse, final IHttpRequest<?> requestConfig) {
+        final HeaderRetentionPolicy policy = Opt.of(requestConfig).map(IHttpRequest::getHeaderRetentionPolicy).orElse(HeaderRetentionPolicy.all());
+        return Opt.of(clientResponse.headers()).map(ClientResponse.Headers::asHttpHeaders).map(policy::retain).orElse(null);
+    }
+
+    /**
+     * Deadline 을 적용한다. (남은 시간이 지나면 {@link DeadlineExceededException} 발생)
+     * Deadline 은 Reactor Context 에 저장되어 재시도 여부 판단에 사용된다.
+     *
+     * @param exchanged Response Mono (Connection Pool 획득부터 응답 변환까지)
+     * @param deadline 요청 Deadline
+     * @param <RESP> Response 타입
+     * @return Deadline 이 적용된 Response Mono
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> applyDeadline(final Mono<RESP> exchanged, final Deadline deadline) {
+        if (deadline.isExpired()) {
+            return Mono.error(new DeadlineExceededException("Deadline exceeded before the request was sent."));
+        }
+        final Duration remaining = deadline.remaining();
+        return exchanged
+                .timeout(remaining, Mono.error(() -> new DeadlineExceededException("Deadline exceeded after " + remaining.toMillis() + "ms.")))
+                .contextWrite(ctx -> ctx.put(Deadline.CONTEXT_KEY, deadline));
     }
 
     /**
@@ -174,6 +370,18 @@ public class ClientResponseProcessor {
      * @return 예외 처리 로직이 추가된 Response Mono 변환 함수
      */
     public static <RESP extends IBaseResponse> Function<Mono<RESP>, Mono<RESP>> applyProcessErrorResumeAndSetCallbackHandler(final Class<RESP> responseType, final HttpCallbackHandler<RESP> handler, final IHttpClientExecutor.Context<?> context) {
+        return applyProcessErrorResumeAndSetCallbackHandler(ResponseType.of(responseType), handler, context);
+    }
+
+    /**
+     * processErrorResumeAndSetCallbackHandler 메서드에 partial application 적용 (ClientResponse 를 처리 중 발생한 예외 처리기를 등록한다.)
+     *
+     * @param responseType 변환할 타입
+     * @param handler HTTP 응답 Callback Handler
+     * @param <RESP> Response 타입
+     * @return 예외 처리 로직이 추가된 Response Mono 변환 함수
+     */
+    public static <RESP extends IBaseResponse> Function<Mono<RESP>, Mono<RESP>> applyProcessErrorResumeAndSetCallbackHandler(final ResponseType<RESP> responseType, final HttpCallbackHandler<RESP> handler, final IHttpClientExecutor.Context<?> context) {
         return responseMono -> processErrorResumeAndSetCallbackHandler(responseMono, responseType, handler, context);
     }
 
@@ -187,6 +395,19 @@ public class ClientResponseProcessor {
      * @return 예외 처리 로직이 추가된 Response Mono
      */
     public static <RESP extends IBaseResponse, CTX extends IHttpClientExecutor.Context<?>> Mono<RESP> processErrorResumeAndSetCallbackHandler(final Mono<RESP> exchanged, final Class<RESP> responseType, final HttpCallbackHandler<RESP> handler, final CTX context) {
+        return processErrorResumeAndSetCallbackHandler(exchanged, ResponseType.of(responseType), handler, context);
+    }
+
+    /**
+     * ClientResponse 를 처리 중 발생한 예외 처리기를 등록한다.
+     *
+     * @param exchanged Response Mono
+     * @param responseType 변환할 타입
+     * @param handler HTTP 응답 Callback Handler
+     * @param <RESP> Response 타입
+     * @return 예외 처리 로직이 추가된 Response Mono
+     */
+    public static <RESP extends IBaseResponse, CTX extends IHttpClientExecutor.Context<?>> Mono<RESP> processErrorResumeAndSetCallbackHandler(final Mono<RESP> exchanged, final ResponseType<RESP> responseType, final HttpCallbackHandler<RESP> handler, final CTX context) {
         final Opt<HttpCallbackHandler<RESP>> handlerOpt = Opt.of(handler);
         final HttpStatus status = HttpStatus.BAD_GATEWAY;
         try {
@@ -197,6 +418,12 @@ public class ClientResponseProcessor {
                                 responseInstance.setApiResult(setupApiResult(ApiResultCode.CONNECTION_TIMEOUT, null, throwable, err -> "Request Timeout", Throwable::getMessage));
                                 return responseInstance;
                             }))
+                    // Deadline Exception Handling (Deadline 이외의 TimeoutException 은 INVALID_SYSTEM)
+                    .onErrorResume(DeadlineExceededException.class, throwable -> createResponseInstance(responseType, HttpStatus.GATEWAY_TIMEOUT, null)
+                            .map(responseInstance -> {
+                                responseInstance.setApiResult(setupApiResult(ApiResultCode.DEADLINE_EXCEEDED, null, throwable, err -> "Deadline Exceeded", Throwable::getMessage));
+                                return responseInstance;
+                            }))
                     // Timeout Exception Handling
                     .onErrorResume(SslHandshakeTimeoutException.class, throwable -> createResponseInstance(responseType, status, null)
                             .map(responseInstance -> {
@@ -221,15 +448,45 @@ public class ClientResponseProcessor {
                                 }));
                                 return responseInstance;
                             }))
-                    .doOnSuccess(resp -> handlerOpt.ifPresent(handle -> handle.onResponse(resp, context)))
-                    .doOnError(err -> handlerOpt.ifPresent(handle -> handle.onError(err, context)))
-                    .doFinally(signal -> handlerOpt.ifPresent(handle -> handle.afterFinished(signal, context)));
+                    .transform(mono -> handlerOpt.map(handle -> setCallbackHandler(mono, handle, context)).orElse(mono));
         } catch (final Exception e) {
             handlerOpt.ifPresent(handle -> handle.onError(e, context));
             throw e;
         }
 }
 
+    /**
+     * Callback Handler 를 등록한다.
+     * Dispatcher 가 inline 이면 각 signal 에서 즉시 수행하고,
+     * 그 외에는 종료 시점에 응답/예외 Callback 과 afterFinished 를 하나의 작업으로 묶어 Dispatcher 에 넘긴다. (Netty I/O 스레드 점유 방지)
+     *
+     * @param exchanged Response Mono
+     * @param handler HTTP 응답 Callback Handler
+     * @param context 요청 Context
+     * @param <RESP> Response 타입
+     * @return Callback Handler 가 등록된 Response Mono
+     */
+    static <RESP extends IBaseResponse, CTX extends IHttpClientExecutor.Context<?>> Mono<RESP> setCallbackHandler(final Mono<RESP> exchanged, final HttpCallbackHandler<RESP> handler, final CTX context) {
+        final CallbackDispatcher dispatcher = Opt.of(context)
+                .map(IHttpClientExecutor.Context::getRequestConfig)
+                .map(IHttpRequest::getCallbackDispatcher)
+                .orElseGet(CallbackDispatcher::inline);
+        if (dispatcher.isInline()) {
+            return exchanged
+                    .doOnSuccess(resp -> handler.onResponse(resp, context))
+                    .doOnError(err -> handler.onError(err, context))
+                    .doFinally(signal -> handler.afterFinished(signal, context));
+        }
+        final AtomicReference<Runnable> outcome = new AtomicReference<>();
+        return exchanged
+                .doOnSuccess(resp -> outcome.set(() -> handler.onResponse(resp, context)))
+                .doOnError(err -> outcome.set(() -> handler.onError(err, context)))
+                .doFinally(signal -> dispatcher.dispatch(handler, () -> {
+                    Opt.of(outcome.get()).ifPresent(Runnable::run);
+                    handler.afterFinished(signal, context);
+                }));
+    }
+
     static Optional<ApiFailureException> findApiFailureException(final Throwable throwable) {
         if (throwable instanceof ApiFailureException) {
             return Optional.of((ApiFailureException) throwable);
@@ -239,6 +496,27 @@ public class ClientResponseProcessor {
         return Optional.empty();
     }
 
+    /**
+     * 요청 객체를 한 번만 직렬화한다.
+     *
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param request 요청 객체
+     * @return 직렬화된 요청 Body
+     * @throws ApiFailureException 직렬화 실패 ({@link ApiResultCode#FAILED_TO_SERIALIZE})
+     */
+    public static EncodedRequestBody encodeRequestBody(final ObjectMapper objectMapper, final Object request) {
+        try {
+            return EncodedRequestBody.encode(objectMapper, request);
+        } catch (final IOException e) {
+            final ApiResult failureResult = ApiResult.builder()
+                    .resultCode(ApiResultCode.FAILED_TO_SERIALIZE)
+                    .failureMessage("Failed to serialize the request body.")
+                    .failureDetail(e.getMessage())
+                    .build();
+            throw new ApiFailureException(failureResult, e.getMessage(), e);
+        }
+    }
+
     static ApiResult deserializeFailure(final HttpStatus status, final MultiValueMap<String, String> respHeaders, final String detailMessage) {
         return ApiResult.builder()
                 .resultCode(ApiResultCode.FAILED_TO_DESERIALIZE)
@@ -0,0 +1,77 @@
+package io.incognito.rest.client.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import reactor.core.publisher.Mono;
+
+/**
+ * 한 번만 직렬화(JSON)하여 Pooled ByteBuf 에 보관하는 요청 Body
+ * - 재시도/중복 요청마다 같은 바이트를 재사용한다. (매 전송마다 retainedDuplicate 로 참조 카운트 증가)
+ * - 정확한 Content-Length 를 설정하여 chunked 전송을 피한다.
+ * - 요청 처리가 끝나면 {@link #release()} 로 버퍼를 반환해야 한다.
+ */
+public class EncodedRequestBody {
+    private final ByteBuf buffer;
+
+    private EncodedRequestBody(final ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 요청 객체를 JSON 으로 직렬화한다.
+     *
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param value 요청 객체
+     * @return 직렬화된 요청 Body
+     * @throws IOException 직렬화 실패
+     */
+    public static EncodedRequestBody encode(final ObjectMapper objectMapper, final Object value) throws IOException {
+        final ByteBuf buffer = PooledByteBufAllocator.DEFAULT.buffer();
+        try (final OutputStream out = new ByteBufOutputStream(buffer)) {
+            objectMapper.writeValue(out, value);
+            return new EncodedRequestBody(buffer);
+        } catch (final IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    public int contentLength() {
+        return buffer.readableBytes();
+    }
+
+    /**
+     * @return 보관된 바이트를 전송하는 BodyInserter (호출마다 같은 버퍼를 공유)
+     */
+    public BodyInserter<ByteBuf, ReactiveHttpOutputMessage> inserter() {
+        return (message, context) -> {
+            message.getHeaders().setContentLength(contentLength());
+            return message.writeWith(Mono.fromSupplier(() -> wrap(message.bufferFactory())));
+        };
+    }
+
+    private DataBuffer wrap(final DataBufferFactory bufferFactory) {
+        if (bufferFactory instanceof NettyDataBufferFactory) {
+            return ((NettyDataBufferFactory) bufferFactory).wrap(buffer.retainedDuplicate());
+        }
+        return bufferFactory.wrap(buffer.nioBuffer());
+    }
+
+    public void release() {
+        if (buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package io.incognito.rest.client.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+import io.incognito.rest.client.IHttpRequest;
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.StreamReconnectPolicy;
+import io.incognito.rest.client.types.dto.response.StreamEventResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.StreamFormat;
+import io.incognito.rest.client.util.Opt;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * SSE, NDJSON Streaming 응답 처리
+ * - 이벤트(줄) 단위로 변환하므로 Stream 길이와 무관하게 메모리 사용량은 이벤트 하나의 크기로 제한된다. (Codec 의 maxInMemorySize)
+ * - 연결 실패, 변환 실패는 Flux 를 종료하지 않고 실패 ApiResult 가 설정된 이벤트로 전달한다.
+ */
+public class EventStreamProcessor {
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<ServerSentEvent<String>>() {};
+
+    /**
+     * 재연결 간에 유지되는 Stream 상태
+     */
+    @Getter
+    public static class Session {
+        private volatile String lastEventId;
+        private volatile Duration serverRetry;
+        private volatile boolean closed;
+        private int attempts;
+
+        /**
+         * 서버가 재연결하지 않도록 응답했음을 기록한다. (204, 4xx)
+         */
+        void close() {
+            closed = true;
+        }
+
+        void onEvent(final StreamEventResponse<?> event) {
+            if (event.isSuccess()) {
+                attempts = 0;
+                return;
+            }
+            final HttpStatus status = Opt.of(event.getApiResult()).map(ApiResult::getStatus).orElse(null);
+            if (status != null && status.is4xxClientError() && status != HttpStatus.TOO_MANY_REQUESTS) {
+                close();
+            }
+        }
+
+        boolean reconnect(final StreamReconnectPolicy policy) {
+            return !closed && ++attempts <= policy.getMaxAttempts();
+        }
+
+        Duration reconnectDelay(final StreamReconnectPolicy policy) {
+            return Opt.of(serverRetry).orElseGet(() -> policy.backoff(attempts));
+        }
+    }
+
+    /**
+     * 연결이 끝나면 정책에 따라 재연결하는 이벤트 Flux 를 만든다. (구독마다 별도의 Session 사용)
+     *
+     * @param connect Session 으로 연결하여 이벤트 Flux 를 만드는 함수 (오류 없이 종료되어야 함)
+     * @param policy 재연결 정책
+     * @param <T> 이벤트 데이터 타입
+     * @return 이벤트 Flux
+     */
+    public static <T> Flux<StreamEventResponse<T>> reconnecting(final Function<Session, Flux<StreamEventResponse<T>>> connect, final StreamReconnectPolicy policy) {
+        return Flux.defer(() -> {
+            final Session session = new Session();
+            return Flux.defer(() -> connect.apply(session))
+                    .doOnNext(session::onEvent)
+                    .repeatWhen(completions -> completions
+                            .takeWhile(ignored -> session.reconnect(policy))
+                            .concatMap(ignored -> Mono.delay(session.reconnectDelay(policy))));
+        });
+    }
+
+    /**
+     * Streaming 응답을 이벤트 단위로 변환한다.
+     *
+     * @param clientResponse ClientResponse 객체
+     * @param eventType 이벤트 데이터 타입
+     * @param format Stream 형식
+     * @param objectMapper 이벤트 데이터 변환에 사용할 ObjectMapper (null 이면 WebClient 에 등록된 ObjectMapper)
+     * @param session Stream 상태
+     * @param requestConfig 요청 설정 (null 이면 기본값)
+     * @param <T> 이벤트 데이터 타입
+     * @return 이벤트 Flux
+     */
+    public static <T> Flux<StreamEventResponse<T>> decode(final ClientResponse clientResponse, final Class<T> eventType, final StreamFormat format, final ObjectMapper objectMapper, final Session session, final IHttpRequest<?> requestConfig) {
+        final HttpStatus status = clientResponse.statusCode();
+        if (status.is4xxClientError() || status.is5xxServerError()) {
+            return ClientResponseProcessor.exchangeResponse(eventResponseType(eventType), requestConfig, false).apply(clientResponse).flux();
+        }
+        if (status == HttpStatus.NO_CONTENT) {
+            session.close();
+            return clientResponse.releaseBody().thenMany(Flux.empty());
+        }
+
+        final MultiValueMap<String, String> responseHeaders = ClientResponseProcessor.retainedHeaders(clientResponse, requestConfig);
+        final ObjectMapper mapper = ClientResponseProcessor.responseObjectMapper(clientResponse, objectMapper);
+        if (format == StreamFormat.NDJSON) {
+            return clientResponse.bodyToFlux(String.class)
+                    .filter(StringUtils::hasText)
+                    .map(line -> event(null, null, null, line, eventType, mapper, status, responseHeaders));
+        }
+        return clientResponse.bodyToFlux(SSE_TYPE)
+                .doOnNext(sse -> {
+                    // data 가 없는 이벤트도 id, retry 는 갱신한다.
+                    Opt.of(sse.id()).ifPresent(id -> session.lastEventId = id);
+                    Opt.of(sse.retry()).ifPresent(retry -> session.serverRetry = retry);
+                })
+                .filter(sse -> sse.data() != null)
+                .map(sse -> event(sse.id(), sse.event(), sse.retry(), sse.data(), eventType, mapper, status, responseHeaders));
+    }
+
+    /**
+     * 연결 중 발생한 예외를 실패 이벤트로 변환한다. (재연결 대상)
+     *
+     * @param throwable 예외 객체
+     * @param <T> 이벤트 데이터 타입
+     * @return 실패 이벤트
+     */
+    public static <T> Mono<StreamEventResponse<T>> connectionFailure(final Throwable throwable) {
+        final Optional<ApiFailureException> apiFailure = ClientResponseProcessor.findApiFailureException(throwable);
+        if (apiFailure.isPresent()) {
+            return ClientResponseProcessor.createResponseInstance(EventStreamProcessor.<T>eventResponseType(null), null, null).map(responseInstance -> {
+                responseInstance.setApiResult(apiFailure.get().getFailureResult());
+                return responseInstance;
+            });
+        }
+        return ClientResponseProcessor.processErrorResumeAndSetCallbackHandler(Mono.error(throwable), EventStreamProcessor.<T>eventResponseType(null), null, null);
+    }
+
+    static <T> StreamEventResponse<T> event(final String id, final String event, final Duration retry, final String data, final Class<T> eventType, final ObjectMapper mapper, final HttpStatus status, final MultiValueMap<String, String> responseHeaders) {
+        final StreamEventResponse<T> response = new StreamEventResponse<>(id, event, retry, null);
+        try {
+            response.setData(eventType == String.class ? eventType.cast(data) : mapper.readValue(data, eventType));
+            response.setApiResult(ClientResponseProcessor.setupApiResult(status, responseHeaders));
+        } catch (final IOException e) {
+            response.setApiResult(ApiResult.builder()
+                    .resultCode(ApiResultCode.FAILED_TO_DESERIALIZE)
+                    .status(status)
+                    .responseHeaders(responseHeaders)
+                    .failureMessage("Failed to deserialize the stream event.")
+                    .failureDetail(e.getMessage())
+                    .build());
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<StreamEventResponse<T>> eventResponseType(final Class<T> eventType) {
+        return (Class<StreamEventResponse<T>>) (Class<?>) StreamEventResponse.class;
+    }
+}
@@ -0,0 +1,179 @@
+package io.incognito.rest.client.helper;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.incognito.rest.client.types.dto.ResponseProjection;
+import io.incognito.rest.client.types.dto.ResponseType;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.util.Opt;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 응답 Body 를 Non-blocking Jackson Parser 로 읽으면서 {@link ResponseProjection} 의 값만 추출한다.
+ * - 추출 대상 경로 밖의 Subtree 는 Token 만 세면서 건너뛴다. (JsonNode, Map 등 객체를 만들지 않음)
+ * - 도착한 DataBuffer 를 바로 Parser 에 넣고 해제하므로 전체 Body 를 메모리에 모으지 않는다.
+ * - 모든 값을 추출하면 나머지 Body 는 파싱하지 않고 해제만 한다. (Connection 을 재사용할 수 있도록 끝까지 읽음)
+ */
+public class ResponseProjector {
+
+    /**
+     * Body 에서 추출한 값을 {속성 이름: 값} 객체로 모아 RESP 타입으로 변환한다.
+     *
+     * @param body 응답 Body
+     * @param projection 추출할 값
+     * @param objectMapper 변환에 사용할 ObjectMapper (null 이면 {@link ClientResponseProcessor#DEFAULT_OBJECT_MAPPER})
+     * @param responseType 변환할 타입
+     * @param <RESP> 변환할 타입
+     * @return 변환된 객체 Mono (Body 가 비어 있으면 빈 Mono)
+     */
+    public static <RESP extends IBaseResponse> Mono<RESP> project(final Flux<DataBuffer> body, final ResponseProjection projection, final ObjectMapper objectMapper, final ResponseType<RESP> responseType) {
+        final ObjectMapper mapper = Opt.of(objectMapper).orElse(ClientResponseProcessor.DEFAULT_OBJECT_MAPPER);
+        return Mono.using(() -> new Projection(mapper, projection), state -> body
+                .doOnNext(state::feed)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .then(Mono.fromCallable(() -> state.finish(responseType))), Projection::close);
+    }
+
+    private static class Frame {
+        private final String pointer;
+        private final boolean array;
+        private String field;
+        private int index = -1;
+
+        private Frame(final String pointer, final boolean array) {
+            this.pointer = pointer;
+            this.array = array;
+        }
+
+        private String child() {
+            return array ? pointer + '/' + (++index) : pointer + '/' + ResponseProjection.escape(field);
+        }
+    }
+
+    private static class Projection implements AutoCloseable {
+        private final ObjectMapper mapper;
+        private final ResponseProjection projection;
+        private final JsonParser parser;
+        private final TokenBuffer out;
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private boolean started;
+        private int remaining;
+        private int captureDepth;
+        private int skipDepth;
+
+        private Projection(final ObjectMapper mapper, final ResponseProjection projection) throws IOException {
+            this.mapper = mapper;
+            this.projection = projection;
+            this.parser = mapper.getFactory().createNonBlockingByteBufferParser();
+            this.out = new TokenBuffer(mapper, false);
+            this.remaining = projection.size();
+            out.writeStartObject();
+        }
+
+        /**
+         * DataBuffer 를 Parser 에 넣고 해제한다.
+         *
+         * @param buffer 응답 Body 조각
+         */
+        private void feed(final DataBuffer buffer) {
+            try {
+                if (buffer.readableByteCount() > 0) {
+                    started = true;
+                }
+                // 모든 값을 추출한 뒤의 Body 는 파싱하지 않는다.
+                if (remaining == 0) {
+                    return;
+                }
+                if (buffer.readableByteCount() > 0) {
+                    ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(buffer.asByteBuffer());
+                }
+                drain();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        private <RESP extends IBaseResponse> RESP finish(final ResponseType<RESP> responseType) throws IOException {
+            if (!started) {
+                return null;
+            }
+            if (remaining > 0) {
+                parser.getNonBlockingInputFeeder().endOfInput();
+                drain();
+            }
+            out.writeEndObject();
+            try (JsonParser projected = out.asParser(mapper)) {
+                return responseType.reader(mapper).readValue(projected);
+            }
+        }
+
+        private boolean drain() throws IOException {
+            JsonToken token;
+            while (remaining > 0 && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+            }
+            return remaining == 0;
+        }
+
+        private void onToken(final JsonToken token) throws IOException {
+            if (captureDepth > 0) {
+                out.copyCurrentEvent(parser);
+                captureDepth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+                remaining -= captureDepth == 0 ? 1 : 0;
+                return;
+            }
+            if (skipDepth > 0) {
+                skipDepth += token.isStructStart() ? 1 : token.isStructEnd() ? -1 : 0;
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                frames.peek().field = parser.getCurrentName();
+                return;
+            }
+            if (token.isStructEnd()) {
+                frames.pop();
+                return;
+            }
+            // 값의 시작: 추출 대상이면 복사, 추출 대상의 상위 경로이면 내려가고, 아니면 건너뛴다.
+            final String pointer = frames.isEmpty() ? "" : frames.peek().child();
+            final String property = projection.propertyOf(pointer);
+            if (property != null) {
+                out.writeFieldName(property);
+                out.copyCurrentEvent(parser);
+                captureDepth = token.isStructStart() ? 1 : 0;
+                remaining -= captureDepth == 0 ? 1 : 0;
+            } else if (token.isStructStart()) {
+                if (projection.isOnPath(pointer)) {
+                    frames.push(new Frame(pointer, token == JsonToken.START_ARRAY));
+                } else {
+                    skipDepth = 1;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+                out.close();
+            } catch (final IOException ignored) {
+                // 닫기 실패는 무시한다.
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package io.incognito.rest.client.lb;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Endpoint Group 의 구성원 (scheme, host, port 와 가중치)
+ */
+@Getter
+@ToString(of = {"scheme", "host", "port", "weight"})
+@EqualsAndHashCode(of = {"scheme", "host", "port"})
+public class Endpoint {
+    private final String scheme;
+    private final String host;
+    private final int port;
+    private final int weight;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong ejectedUntilNanos = new AtomicLong(System.nanoTime());
+
+    public Endpoint(final String scheme, final String host, final int port, final int weight) {
+        this.scheme = scheme;
+        this.host = host;
+        this.port = port;
+        this.weight = Math.max(1, weight);
+    }
+
+    /**
+     * @param uri Endpoint URI (예: https://10.0.0.1:8443)
+     * @param weight 가중치 (1 이상)
+     * @return Endpoint
+     */
+    public static Endpoint of(final String uri, final int weight) {
+        final URI parsed = URI.create(uri);
+        return new Endpoint(parsed.getScheme(), parsed.getHost(), parsed.getPort(), weight);
+    }
+
+    public static Endpoint of(final String uri) {
+        return of(uri, 1);
+    }
+
+    public int getOutstandingRequests() {
+        return outstanding.get();
+    }
+
+    public boolean isEjected() {
+        return ejectedUntilNanos.get() - System.nanoTime() > 0;
+    }
+
+    void acquire() {
+        outstanding.incrementAndGet();
+    }
+
+    void release() {
+        outstanding.decrementAndGet();
+    }
+
+    void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    /**
+     * 실패를 기록하고, 연속 실패 횟수가 기준에 도달하면 일정 시간 동안 선택 대상에서 제외한다.
+     */
+    void recordFailure(final int ejectionThreshold, final long ejectionNanos) {
+        if (consecutiveFailures.incrementAndGet() >= ejectionThreshold) {
+            consecutiveFailures.set(0);
+            ejectedUntilNanos.set(System.nanoTime() + ejectionNanos);
+        }
+    }
+}
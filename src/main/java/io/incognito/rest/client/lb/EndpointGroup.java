@@ -0,0 +1,193 @@
+package io.incognito.rest.client.lb;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.LoadBalancingStrategy;
+import io.incognito.rest.client.util.Opt;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+import reactor.core.publisher.Mono;
+
+/**
+ * 여러 Upstream Endpoint 에 요청을 분산하는 Client-side Load Balancer
+ * - 선택 전략: Power of Two Choices, Least Outstanding Requests, Weighted Round Robin
+ * - 연속으로 실패한 Endpoint 는 일정 시간 동안 선택 대상에서 제외(eject)한다.
+ * - 재시도는 아직 시도하지 않은 다른 Endpoint 로 보낸다. (멱등이 아닌 요청은 연결 실패로 요청을 보내지 못한 경우에만 재시도)
+ */
+@Getter
+@Builder
+public class EndpointGroup {
+    private final String name;
+    @Singular
+    private final List<Endpoint> endpoints;
+    @Builder.Default
+    private final LoadBalancingStrategy strategy = LoadBalancingStrategy.POWER_OF_TWO_CHOICES;
+    /**
+     * 실패로 간주할 API 결과 코드 (그 외 5xx 응답도 실패로 간주)
+     */
+    @Builder.Default
+    private final Set<ApiResultCode> unhealthyResultCodes = EnumSet.of(ApiResultCode.INVALID_NETWORK, ApiResultCode.CONNECTION_FAIL, ApiResultCode.CONNECTION_TIMEOUT);
+    @Builder.Default
+    private final int ejectionThreshold = 5;
+    @Builder.Default
+    private final Duration ejectionDuration = Duration.ofSeconds(30);
+    /**
+     * 다른 Endpoint 로 다시 보내도 되는 (멱등) HTTP Method
+     */
+    @Builder.Default
+    private final Set<HttpMethod> idempotentMethods = EnumSet.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE);
+    private final AtomicLong roundRobinCursor = new AtomicLong();
+
+    /**
+     * Endpoint 를 선택하여 요청을 수행한다. 실패 시 다른 Endpoint 로 최대 maxRetries 회 재시도한다. (멱등 요청으로 간주)
+     *
+     * @param exchange 선택된 Endpoint 로 요청을 수행하는 함수
+     * @param maxRetries 최대 재시도 횟수
+     * @param <RESP> Response 타입
+     * @return Response Mono
+     */
+    public <RESP extends IBaseResponse> Mono<RESP> execute(final Function<Endpoint, Mono<RESP>> exchange, final int maxRetries) {
+        return attempt(exchange, ConcurrentHashMap.newKeySet(), Math.max(0, maxRetries), true);
+    }
+
+    /**
+     * Endpoint 를 선택하여 요청을 수행한다. 실패 시 다른 Endpoint 로 최대 maxRetries 회 재시도한다.
+     * 멱등이 아닌 Method 는 연결 실패(요청을 보내지 못한 경우)만 재시도한다. (실패 응답, 응답 대기 중 Timeout 은 서버가 이미 처리했을 수 있으므로 재시도하지 않음)
+     *
+     * @param exchange 선택된 Endpoint 로 요청을 수행하는 함수
+     * @param maxRetries 최대 재시도 횟수
+     * @param method 요청 HTTP Method
+     * @param <RESP> Response 타입
+     * @return Response Mono
+     */
+    public <RESP extends IBaseResponse> Mono<RESP> execute(final Function<Endpoint, Mono<RESP>> exchange, final int maxRetries, final HttpMethod method) {
+        return attempt(exchange, ConcurrentHashMap.newKeySet(), Math.max(0, maxRetries), idempotentMethods.contains(method));
+    }
+
+    private <RESP extends IBaseResponse> Mono<RESP> attempt(final Function<Endpoint, Mono<RESP>> exchange, final Set<Endpoint> tried, final int remainingRetries, final boolean idempotent) {
+        // Endpoint 선택과 요청 수 증가를 구독 시점에 수행하고, 요청 함수가 즉시 실패해도 요청 수를 되돌린다.
+        return Mono.usingWhen(Mono.fromSupplier(() -> {
+                            final Endpoint endpoint = select(tried);
+                            tried.add(endpoint);
+                            endpoint.acquire();
+                            return endpoint;
+                        }),
+                        endpoint -> exchange.apply(endpoint)
+                                .doOnNext(resp -> {
+                                    if (isUnhealthy(resp.getApiResult())) {
+                                        endpoint.recordFailure(ejectionThreshold, ejectionDuration.toNanos());
+                                    } else {
+                                        endpoint.recordSuccess();
+                                    }
+                                })
+                                .doOnError(err -> {
+                                    if (isRetryable(err)) {
+                                        endpoint.recordFailure(ejectionThreshold, ejectionDuration.toNanos());
+                                    }
+                                }),
+                        endpoint -> Mono.fromRunnable(endpoint::release))
+                .flatMap(resp -> remainingRetries > 0 && idempotent && isUnhealthy(resp.getApiResult()) ? attempt(exchange, tried, remainingRetries - 1, true) : Mono.just(resp))
+                .onErrorResume(err -> remainingRetries > 0 && isRetryable(err) && (idempotent || isConnectFailure(err)), err -> attempt(exchange, tried, remainingRetries - 1, idempotent));
+    }
+
+    /**
+     * 시도하지 않은 정상 Endpoint 중에서 선택한다.
+     * 후보가 없으면 정상 Endpoint 전체, 그마저 없으면 전체 Endpoint 중에서 선택한다.
+     *
+     * @param excluded 제외할 Endpoint (이미 시도한 Endpoint)
+     * @return 선택된 Endpoint
+     */
+    public Endpoint select(final Set<Endpoint> excluded) {
+        if (endpoints == null || endpoints.isEmpty()) {
+            throw new IllegalStateException("Endpoint group '" + name + "' has no endpoints.");
+        }
+        final List<Endpoint> healthy = endpoints.stream().filter(endpoint -> !endpoint.isEjected()).collect(Collectors.toList());
+        final List<Endpoint> untried = healthy.stream().filter(endpoint -> !Opt.of(excluded).orElse(Collections.emptySet()).contains(endpoint)).collect(Collectors.toList());
+        final List<Endpoint> candidates = !untried.isEmpty() ? untried : !healthy.isEmpty() ? healthy : endpoints;
+
+        switch (strategy) {
+            case LEAST_OUTSTANDING_REQUESTS:
+                return leastOutstanding(candidates);
+            case WEIGHTED_ROUND_ROBIN:
+                return weightedRoundRobin(candidates);
+            case POWER_OF_TWO_CHOICES:
+            default:
+                return powerOfTwoChoices(candidates);
+        }
+    }
+
+    private static Endpoint powerOfTwoChoices(final List<Endpoint> candidates) {
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int first = random.nextInt(candidates.size());
+        final int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+        final Endpoint a = candidates.get(first);
+        final Endpoint b = candidates.get(second);
+        return a.getOutstandingRequests() <= b.getOutstandingRequests() ? a : b;
+    }
+
+    private static Endpoint leastOutstanding(final List<Endpoint> candidates) {
+        Endpoint selected = candidates.get(0);
+        for (final Endpoint candidate : candidates) {
+            if (candidate.getOutstandingRequests() < selected.getOutstandingRequests()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private Endpoint weightedRoundRobin(final List<Endpoint> candidates) {
+        final int totalWeight = candidates.stream().mapToInt(Endpoint::getWeight).sum();
+        long offset = Math.floorMod(roundRobinCursor.getAndIncrement(), (long) totalWeight);
+        for (final Endpoint candidate : candidates) {
+            offset -= candidate.getWeight();
+            if (offset < 0) {
+                return candidate;
+            }
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    private boolean isUnhealthy(final ApiResult apiResult) {
+        return Opt.of(apiResult).filter(result -> Opt.of(result.getResultCode()).filter(unhealthyResultCodes::contains).isPresent()
+                || Opt.of(result.getStatus()).filter(status -> status.is5xxServerError()).isPresent()).isPresent();
+    }
+
+    private static boolean isRetryable(final Throwable throwable) {
+        return throwable instanceof WebClientRequestException || throwable instanceof ReadTimeoutException;
+    }
+
+    /**
+     * @return 연결(DNS 조회 포함)에 실패하여 요청을 보내지 못했는지 여부
+     */
+    private static boolean isConnectFailure(final Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
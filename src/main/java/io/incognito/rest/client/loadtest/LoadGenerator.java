@@ -0,0 +1,198 @@
+package io.incognito.rest.client.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.enums.LoadModel;
+import io.incognito.rest.client.util.Opt;
+import lombok.Builder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link io.incognito.rest.client.IHttpClientExecutor} 호출을 일정한 부하로 발생시키고 지연 시간을 기록한다.
+ * - Open 모델: 요청마다 예정 시작 시각을 정하고, 지연 시간을 예정 시각부터 측정한다. (Coordinated Omission 보정)
+ * - Closed 모델: 고정된 수의 요청을 동시에 유지한다. expectedInterval 을 지정하면 HdrHistogram 의 보정을 적용한다.
+ * 지연 시간은 ApiResultCode 별로 기록되며, histogramLogPath 를 지정하면 구간별 HdrHistogram 로그를 파일로 남긴다.
+ */
+@Builder
+public class LoadGenerator {
+    private static final String ERROR = "ERROR";
+    private static final String EMPTY = "EMPTY";
+
+    /**
+     * 요청 1건을 생성하는 함수 (예: () -> executor.executeAsync(FooResponse.class))
+     */
+    private final Supplier<? extends Mono<? extends IBaseResponse>> call;
+    @Builder.Default
+    private final LoadModel model = LoadModel.OPEN_ARRIVAL_RATE;
+    /**
+     * Open 모델의 초당 요청 수 (0 보다 크고 유한해야 함)
+     */
+    @Builder.Default
+    private final double ratePerSecond = 100;
+    @Builder.Default
+    private final int concurrency = 16;
+    /**
+     * Closed 모델에서 요청 간 기대 간격 (지정 시 Coordinated Omission 보정)
+     */
+    private final Duration expectedInterval;
+    /**
+     * Open 모델에서 허용할 최대 동시 요청 수 (초과 시 요청을 발생시키지 않고 dropped 로 집계)
+     */
+    @Builder.Default
+    private final int maxOutstanding = 10_000;
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(30);
+    @Builder.Default
+    private final Duration reportInterval = Duration.ofSeconds(1);
+    @Builder.Default
+    private final Duration highestTrackableLatency = Duration.ofMinutes(1);
+    private final Path histogramLogPath;
+
+    /**
+     * 부하 테스트를 수행한다. (별도 스레드에서 수행되며 완료 시 결과를 전달)
+     *
+     * @return 부하 테스트 결과
+     * @throws IllegalArgumentException Open 모델의 초당 요청 수가 0 이하이거나 유한하지 않음
+     */
+    public Mono<LoadTestReport> run() {
+        if (model != LoadModel.CLOSED_CONCURRENCY && !(ratePerSecond > 0 && ratePerSecond < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("ratePerSecond must be positive and finite: " + ratePerSecond);
+        }
+        return Mono.fromCallable(this::runBlocking).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private LoadTestReport runBlocking() throws FileNotFoundException {
+        final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        final Map<String, Histogram> cumulative = new TreeMap<>();
+        final HistogramLogWriter logWriter = histogramLogPath == null ? null : new HistogramLogWriter(histogramLogPath.toFile());
+        final long startedAtMillis = System.currentTimeMillis();
+        Opt.of(logWriter).ifPresent(writer -> {
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(startedAtMillis);
+            writer.setBaseTime(startedAtMillis);
+            writer.outputLegend();
+        });
+        final Disposable intervalLogging = Schedulers.single().schedulePeriodically(
+                () -> flushIntervals(recorders, cumulative, logWriter), reportInterval.toNanos(), reportInterval.toNanos(), TimeUnit.NANOSECONDS);
+
+        final long startedAt = System.nanoTime();
+        final long dropped;
+        try {
+            dropped = model == LoadModel.CLOSED_CONCURRENCY ? runClosed(recorders, startedAt) : runOpen(recorders, startedAt);
+        } finally {
+            intervalLogging.dispose();
+        }
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        flushIntervals(recorders, cumulative, logWriter);
+        Opt.of(logWriter).ifPresent(HistogramLogWriter::close);
+
+        final Histogram total = newHistogram();
+        cumulative.values().forEach(total::add);
+        return new LoadTestReport(elapsed, cumulative, total, dropped);
+    }
+
+    private long runOpen(final Map<String, Recorder> recorders, final long startedAt) {
+        // 간격을 정수로 자르면 누적 오차가 생기고 (초당 10억 건 이상이면 간격이 0), 예정 시각은 요청 순번으로 매번 계산한다.
+        final double intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        final long endAt = startedAt + duration.toNanos();
+        final AtomicLong outstanding = new AtomicLong();
+        final LongAdder dropped = new LongAdder();
+        for (long i = 0; ; i++) {
+            final long intendedStart = startedAt + (long) (i * intervalNanos);
+            if (intendedStart - endAt >= 0) {
+                break;
+            }
+            parkUntil(intendedStart);
+            if (outstanding.get() >= maxOutstanding) {
+                dropped.increment();
+                continue;
+            }
+            outstanding.incrementAndGet();
+            // 실제 전송 시각이 아닌 예정 시각부터 측정하여 대기(queueing) 시간을 지연 시간에 포함한다.
+            timedCall()
+                    .doFinally(signal -> outstanding.decrementAndGet())
+                    .subscribe(code -> recorderOf(recorders, code).recordValue(clamp(System.nanoTime() - intendedStart)));
+        }
+        while (outstanding.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return dropped.sum();
+    }
+
+    private long runClosed(final Map<String, Recorder> recorders, final long startedAt) {
+        final long endAt = startedAt + duration.toNanos();
+        final long expectedIntervalNanos = Opt.of(expectedInterval).map(Duration::toNanos).orElse(0L);
+        Flux.range(0, Math.max(1, concurrency))
+                .flatMap(worker -> Mono.defer(() -> {
+                            final long sentAt = System.nanoTime();
+                            return timedCall().doOnNext(code -> {
+                                final Recorder recorder = recorderOf(recorders, code);
+                                final long latency = clamp(System.nanoTime() - sentAt);
+                                if (expectedIntervalNanos > 0) {
+                                    recorder.recordValueWithExpectedInterval(latency, expectedIntervalNanos);
+                                } else {
+                                    recorder.recordValue(latency);
+                                }
+                            });
+                        })
+                        .repeat(() -> System.nanoTime() - endAt < 0), Math.max(1, concurrency))
+                .blockLast();
+        return 0L;
+    }
+
+    /**
+     * @return 요청 1건의 결과 코드 Mono (예외는 ERROR, 빈 응답은 EMPTY)
+     */
+    private Mono<String> timedCall() {
+        return Mono.defer(call::get)
+                .map(response -> Opt.of(response.getApiResult()).map(result -> Opt.of(result.getResultCode()).map(Enum::name).orElse(EMPTY)).orElse(EMPTY))
+                .defaultIfEmpty(EMPTY)
+                .onErrorReturn(ERROR);
+    }
+
+    private Recorder recorderOf(final Map<String, Recorder> recorders, final String code) {
+        return recorders.computeIfAbsent(code, key -> new Recorder(highestTrackableLatency.toNanos(), 3));
+    }
+
+    private synchronized void flushIntervals(final Map<String, Recorder> recorders, final Map<String, Histogram> cumulative, final HistogramLogWriter logWriter) {
+        recorders.forEach((code, recorder) -> {
+            final Histogram interval = recorder.getIntervalHistogram();
+            interval.setTag(code);
+            Opt.of(logWriter).ifPresent(writer -> writer.outputIntervalHistogram(interval));
+            cumulative.computeIfAbsent(code, key -> newHistogram()).add(interval);
+        });
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(highestTrackableLatency.toNanos(), 3);
+    }
+
+    private long clamp(final long latencyNanos) {
+        return Math.min(Math.max(latencyNanos, 1L), highestTrackableLatency.toNanos());
+    }
+
+    private static void parkUntil(final long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.incognito.rest.client.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 테스트 결과 (결과 코드 별 처리량과 지연 시간 분포)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadTestReport {
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+    private final Duration elapsed;
+    /**
+     * 결과 코드 별 지연 시간 분포 (ns, Coordinated Omission 보정)
+     */
+    private final Map<String, Histogram> histograms;
+    private final Histogram total;
+    /**
+     * 최대 동시 요청 수 초과로 발생시키지 못한 요청 수 (Open 모델, 지연 시간 분포에는 포함되지 않음)
+     */
+    private final long dropped;
+
+    /**
+     * @return 예정된 요청 중 발생시키지 못한 비율 (0 ~ 1, 백분위 지연 시간은 나머지 요청만의 분포)
+     */
+    public double getDroppedRatio() {
+        final long scheduled = total.getTotalCount() + dropped;
+        return scheduled == 0 ? 0.0 : (double) dropped / scheduled;
+    }
+
+    public double getThroughputPerSecond() {
+        final double seconds = elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        return seconds <= 0 ? 0.0 : total.getTotalCount() / seconds;
+    }
+
+    /**
+     * @return 결과 코드 별 처리량, 백분위 지연 시간(ms) 표 (발생시키지 못한 요청은 DROPPED 행에 건수만 표시)
+     */
+    public String toTable() {
+        final StringBuilder table = new StringBuilder();
+        table.append(String.format("elapsed=%.1fs throughput=%.1f/s dropped=%d (%.2f%%)%n", elapsed.toMillis() / 1000.0, getThroughputPerSecond(), dropped, getDroppedRatio() * 100));
+        table.append(String.format("%-24s %10s %10s", "result", "count", "rate/s"));
+        for (final double percentile : PERCENTILES) {
+            table.append(String.format(" %10s", "p" + percentile));
+        }
+        table.append(String.format(" %10s%n", "max"));
+        histograms.forEach((code, histogram) -> appendRow(table, code, histogram));
+        if (dropped > 0) {
+            appendDroppedRow(table);
+        }
+        appendRow(table, "TOTAL", total);
+        return table.toString();
+    }
+
+    private void appendRow(final StringBuilder table, final String code, final Histogram histogram) {
+        final double seconds = Math.max(elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1), 1e-9);
+        table.append(String.format("%-24s %10d %10.1f", code, histogram.getTotalCount(), histogram.getTotalCount() / seconds));
+        for (final double percentile : PERCENTILES) {
+            table.append(String.format(" %10.2f", toMillis(histogram.getValueAtPercentile(percentile))));
+        }
+        table.append(String.format(" %10.2f%n", toMillis(histogram.getMaxValue())));
+    }
+
+    private void appendDroppedRow(final StringBuilder table) {
+        final double seconds = Math.max(elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1), 1e-9);
+        table.append(String.format("%-24s %10d %10.1f", "DROPPED", dropped, dropped / seconds));
+        for (int i = 0; i <= PERCENTILES.length; i++) {
+            table.append(String.format(" %10s", "-"));
+        }
+        table.append(String.format("%n"));
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return toTable();
+    }
+}
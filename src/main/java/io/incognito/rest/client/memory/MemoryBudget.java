@@ -0,0 +1,343 @@
+package io.incognito.rest.client.memory;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Client 전체 In-flight Body 메모리 예산 (모든 Executor 가 공유)
+ * - 응답 Body 는 읽기 전에(Content-Length 가 없으면 DataBuffer 가 도착할 때마다) 예산을 예약하고, 요청 처리가 끝나면 반환한다. (예산이 없으면 읽기를 멈추고 대기)
+ * - 한 번에 직렬화한 요청 Body 도 직렬화 전에 요청을 수락받고, 전송하는 동안 예산을 사용한다.
+ * - 사용량이 수락 기준 이상이면 새 요청은 대기하며, 최대 대기 시간을 넘으면 {@link ApiResultCode#MEMORY_BUDGET_EXHAUSTED} 로 거절한다.
+ * Body 읽기 대기가 새 요청 수락보다 우선한다. (진행 중인 요청이 끝나야 예산이 반환되므로)
+ * Content-Length 가 없는(chunked) 응답은 DataBuffer 마다 예약하므로, 일부만 읽은 응답들이 서로의 반환을 기다리다 최대 대기 시간 후 함께 실패할 수 있다.
+ * (maxBytes 는 동시에 읽는 chunked 응답 수 × Body 크기보다 크게 설정)
+ */
+public class MemoryBudget {
+    private static final Class<Lease> LEASE_CONTEXT_KEY = Lease.class;
+
+    @Getter
+    private final MemoryBudgetConfig config;
+    private final ArrayDeque<Waiter> reads = new ArrayDeque<>();
+    private final ArrayDeque<Waiter> admissions = new ArrayDeque<>();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private long used;
+    private long peak;
+
+    private static class Waiter {
+        private final MonoSink<Void> sink;
+        /**
+         * 예약할 바이트 수 (새 요청 수락 대기이면 0)
+         */
+        private final long bytes;
+        private final Lease owner;
+        private boolean granted;
+
+        private Waiter(final MonoSink<Void> sink, final long bytes, final Lease owner) {
+            this.sink = sink;
+            this.bytes = bytes;
+            this.owner = owner;
+        }
+    }
+
+    public MemoryBudget(final MemoryBudgetConfig config) {
+        if (config.getMaxBytes() <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive: " + config.getMaxBytes());
+        }
+        this.config = config;
+    }
+
+    /**
+     * 사용량이 수락 기준 미만이 될 때까지 기다린다.
+     *
+     * @return 수락되면 완료되는 Mono (최대 대기 시간을 넘으면 {@link ApiResultCode#MEMORY_BUDGET_EXHAUSTED} 실패)
+     */
+    public Mono<Void> admit() {
+        return await(0, null, true);
+    }
+
+    /**
+     * 바이트를 예약한다. (예산이 부족하면 반환될 때까지 기다린다.)
+     *
+     * @param bytes 예약할 바이트 수
+     * @return 예약되면 완료되는 Mono (최대 대기 시간을 넘거나 예산보다 크면 {@link ApiResultCode#MEMORY_BUDGET_EXHAUSTED} 실패)
+     */
+    public Mono<Void> reserve(final long bytes) {
+        return reserve(bytes, null);
+    }
+
+    public void release(final long bytes) {
+        release(bytes, null);
+    }
+
+    /**
+     * 요청 1건의 예산 사용 기록 (요청 처리가 끝나면 {@link Lease#close()} 로 한 번에 반환)
+     *
+     * @return Lease
+     */
+    public Lease lease() {
+        return new Lease(null);
+    }
+
+    /**
+     * 요청 1건이 사용하는 예산 (요청 Body, 응답 Body)
+     * 같은 요청이 이미 예약한 바이트(상위 Lease 포함)는 자신의 예약을 막지 않는다. (요청 Body 를 예약한 요청이 자기 응답을 기다리며 멈추지 않도록)
+     * 따라서 사용량은 요청 1건의 예약만큼 최대 바이트 수를 넘을 수 있다.
+     */
+    public class Lease implements AutoCloseable {
+        private final Lease parent;
+        /**
+         * 예약한 바이트 수 (MemoryBudget 의 Lock 으로 보호)
+         */
+        private long held;
+
+        private Lease(final Lease parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * @return 같은 요청에서 예약을 공유하는 하위 Lease (재시도마다 응답 Body 예약을 따로 반환할 때 사용)
+         */
+        public Lease child() {
+            return new Lease(this);
+        }
+
+        /**
+         * 바이트를 예약한다. (이 요청이 이미 예약한 바이트는 제외하고 판단)
+         *
+         * @param bytes 예약할 바이트 수
+         * @return 예약되면 완료되는 Mono
+         */
+        public Mono<Void> reserve(final long bytes) {
+            return MemoryBudget.this.reserve(bytes, this);
+        }
+
+        /**
+         * 응답 Body 를 읽는 만큼 예산을 사용하도록 응답을 감싼다.
+         *
+         * @param clientResponse 응답
+         * @return 예산을 사용하는 응답
+         */
+        public ClientResponse track(final ClientResponse clientResponse) {
+            return track(clientResponse, Long.MAX_VALUE);
+        }
+
+        /**
+         * 응답 Body 를 읽는 만큼(최대 maxTrackedBytes 까지) 예산을 사용하도록 응답을 감싼다.
+         * Content-Length 가 있으면 Body 를 읽기 전에 한 번에 예약하고(일부만 보관한 요청끼리 서로 기다리지 않도록), 없으면 DataBuffer 가 도착할 때마다 예약한다.
+         *
+         * @param clientResponse 응답
+         * @param maxTrackedBytes 예산을 사용할 최대 바이트 수 (임시 파일로 옮기는 Body 는 메모리에 보관하는 크기까지만)
+         * @return 예산을 사용하는 응답
+         */
+        public ClientResponse track(final ClientResponse clientResponse, final long maxTrackedBytes) {
+            final long contentLength = clientResponse.headers().contentLength().orElse(-1L);
+            if (contentLength >= 0) {
+                final long bytes = Math.min(contentLength, maxTrackedBytes);
+                return clientResponse.mutate().body(body -> reserve(bytes).thenMany(body)).build();
+            }
+            return clientResponse.mutate().body(body -> Flux.defer(() -> {
+                final long[] remaining = {maxTrackedBytes};
+                return body.concatMap(buffer -> {
+                    final long bytes = Math.min(buffer.readableByteCount(), remaining[0]);
+                    remaining[0] -= bytes;
+                    if (bytes == 0 || tryReserve(bytes, this)) {
+                        return Mono.just(buffer);
+                    }
+                    return reserve(bytes)
+                            .thenReturn(buffer)
+                            .doOnError(throwable -> DataBufferUtils.release(buffer))
+                            .doOnCancel(() -> DataBufferUtils.release(buffer));
+                });
+            })).build();
+        }
+
+        /**
+         * @param context Reactor Context
+         * @return Context 에 이 Lease 를 지정한 Context (하위 요청 처리에서 {@link #fromContext} 로 조회)
+         */
+        public Context bind(final Context context) {
+            return context.put(LEASE_CONTEXT_KEY, this);
+        }
+
+        @Override
+        public void close() {
+            final long bytes;
+            synchronized (MemoryBudget.this) {
+                bytes = held;
+            }
+            release(bytes, this);
+        }
+
+        private long ownedLocked() {
+            return held + (parent == null ? 0 : parent.ownedLocked());
+        }
+    }
+
+    /**
+     * @param contextView Reactor Context
+     * @return 요청 처리 중인 Lease (요청 수락과 요청 Body 예약을 이미 마친 요청)
+     */
+    public static Optional<Lease> fromContext(final ContextView contextView) {
+        return contextView.getOrEmpty(LEASE_CONTEXT_KEY);
+    }
+
+    private Mono<Void> reserve(final long bytes, final Lease owner) {
+        if (bytes > config.getMaxBytes()) {
+            return Mono.error(() -> {
+                rejected.increment();
+                return exhausted(bytes);
+            });
+        }
+        return await(bytes, owner, false);
+    }
+
+    private void release(final long bytes, final Lease owner) {
+        if (bytes <= 0) {
+            return;
+        }
+        final List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            used -= bytes;
+            if (owner != null) {
+                owner.held -= bytes;
+            }
+            // Body 읽기 대기를 먼저 깨우고, 남은 예산이 수락 기준 미만이면 새 요청을 수락한다.
+            while (!reads.isEmpty() && fits(reads.peekFirst().bytes, reads.peekFirst().owner)) {
+                final Waiter waiter = reads.pollFirst();
+                reserveLocked(waiter.bytes, waiter.owner);
+                waiter.granted = true;
+                granted.add(waiter);
+            }
+            while (reads.isEmpty() && !admissions.isEmpty() && used < config.watermarkBytes()) {
+                final Waiter waiter = admissions.pollFirst();
+                waiter.granted = true;
+                granted.add(waiter);
+            }
+        }
+        granted.forEach(waiter -> waiter.sink.success());
+    }
+
+    private Mono<Void> await(final long bytes, final Lease owner, final boolean admission) {
+        return Mono.<Void>create(sink -> {
+            final Waiter waiter;
+            synchronized (this) {
+                if (admission ? admissions.isEmpty() && reads.isEmpty() && used < config.watermarkBytes() : reads.isEmpty() && fits(bytes, owner)) {
+                    reserveLocked(bytes, owner);
+                    waiter = null;
+                } else {
+                    waiter = new Waiter(sink, bytes, owner);
+                    (admission ? admissions : reads).addLast(waiter);
+                }
+            }
+            if (waiter == null) {
+                sink.success();
+                return;
+            }
+            delayed.increment();
+            sink.onCancel(() -> cancel(waiter, admission));
+        }).timeout(config.getMaxWait(), Mono.error(() -> {
+            rejected.increment();
+            return exhausted(bytes);
+        }));
+    }
+
+    private synchronized boolean tryReserve(final long bytes, final Lease owner) {
+        if (!reads.isEmpty() || !fits(bytes, owner)) {
+            return false;
+        }
+        reserveLocked(bytes, owner);
+        return true;
+    }
+
+    private void cancel(final Waiter waiter, final boolean admission) {
+        synchronized (this) {
+            if ((admission ? admissions : reads).remove(waiter) || !waiter.granted) {
+                return;
+            }
+        }
+        // 예약과 취소가 동시에 일어난 경우 예약한 바이트를 반환한다.
+        release(waiter.bytes, waiter.owner);
+    }
+
+    /**
+     * @param bytes 예약할 바이트 수
+     * @param owner 예약하는 요청의 Lease (이 요청이 이미 예약한 바이트는 제외하고 판단)
+     */
+    private boolean fits(final long bytes, final Lease owner) {
+        return used - (owner == null ? 0 : owner.ownedLocked()) + bytes <= config.getMaxBytes();
+    }
+
+    private void reserveLocked(final long bytes, final Lease owner) {
+        used += bytes;
+        peak = Math.max(peak, used);
+        if (owner != null) {
+            owner.held += bytes;
+        }
+    }
+
+    private ApiFailureException exhausted(final long bytes) {
+        final ApiResult failureResult = ApiResult.builder()
+                .resultCode(ApiResultCode.MEMORY_BUDGET_EXHAUSTED)
+                .failureMessage(String.format("Body memory budget exhausted (requested: %d, used: %d, max: %d bytes).", bytes, getUsedBytes(), config.getMaxBytes()))
+                .build();
+        return ApiFailureException.stackless(failureResult);
+    }
+
+    /**
+     * @return 사용 중인 바이트 수 (Gauge)
+     */
+    public synchronized long getUsedBytes() {
+        return used;
+    }
+
+    public synchronized long getPeakBytes() {
+        return peak;
+    }
+
+    public long getMaxBytes() {
+        return config.getMaxBytes();
+    }
+
+    /**
+     * @return 사용률 (0 ~ 1, Gauge)
+     */
+    public double getUtilization() {
+        return (double) getUsedBytes() / config.getMaxBytes();
+    }
+
+    public synchronized int getWaitingReads() {
+        return reads.size();
+    }
+
+    public synchronized int getWaitingAdmissions() {
+        return admissions.size();
+    }
+
+    /**
+     * @return 예산을 기다린 횟수 (새 요청 수락, Body 읽기)
+     */
+    public long getDelayedCount() {
+        return delayed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,34 @@
+package io.incognito.rest.client.memory;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Client 전체 In-flight Body 메모리 예산 설정
+ */
+@Builder
+@ToString
+@Getter
+public class MemoryBudgetConfig {
+    /**
+     * 동시에 메모리에 보관할 수 있는 요청/응답 Body 의 최대 바이트 수
+     */
+    private final long maxBytes;
+    /**
+     * 사용량이 이 비율 이상이면 새 요청은 사용량이 내려갈 때까지 대기한다. (0 ~ 1)
+     */
+    @Builder.Default
+    private final double admissionWatermark = 0.9;
+    /**
+     * 새 요청 수락, Body 읽기가 예산을 기다릴 최대 시간 (초과하면 {@link io.incognito.rest.client.types.enums.ApiResultCode#MEMORY_BUDGET_EXHAUSTED})
+     */
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(1);
+
+    long watermarkBytes() {
+        return (long) (maxBytes * Math.min(Math.max(admissionWatermark, 0.0), 1.0));
+    }
+}
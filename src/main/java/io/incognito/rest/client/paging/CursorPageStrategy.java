@@ -0,0 +1,27 @@
+package io.incognito.rest.client.paging;
+
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+class CursorPageStrategy<RESP extends IBaseResponse, E> implements PageStrategy<RESP, E> {
+    private final String cursorParam;
+    private final Function<? super RESP, String> nextCursor;
+    private final Function<? super RESP, ? extends List<E>> elements;
+
+    @Override
+    public List<E> elements(final RESP response) {
+        return elements.apply(response);
+    }
+
+    @Override
+    public PageRequest next(final RESP response, final PageRequest current) {
+        final String cursor = nextCursor.apply(response);
+        return StringUtils.hasText(cursor) ? current.with(cursorParam, cursor) : null;
+    }
+}
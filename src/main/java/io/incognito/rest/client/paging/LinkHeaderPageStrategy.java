@@ -0,0 +1,51 @@
+package io.incognito.rest.client.paging;
+
+import java.net.URI;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.util.Opt;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RFC 8288 Link 헤더의 rel="next" URI 로 다음 페이지를 요청한다.
+ */
+@RequiredArgsConstructor
+class LinkHeaderPageStrategy<RESP extends IBaseResponse, E> implements PageStrategy<RESP, E> {
+    private static final String LINK_HEADER = "Link";
+    private static final Pattern LINK_VALUE = Pattern.compile("<([^>]*)>((?:\\s*;\\s*[^;,]+)*)");
+    private static final Pattern REL_NEXT = Pattern.compile(";\\s*rel\\s*=\\s*\"?(?:[^\";,]*\\s)?next(?:\\s[^\";,]*)?\"?", Pattern.CASE_INSENSITIVE);
+
+    private final Function<? super RESP, ? extends List<E>> elements;
+
+    @Override
+    public List<E> elements(final RESP response) {
+        return elements.apply(response);
+    }
+
+    @Override
+    public PageRequest next(final RESP response, final PageRequest current) {
+        final List<String> links = Opt.of(response.getApiResult())
+                .map(ApiResult::getResponseHeaders)
+                .map(headers -> headers.get(LINK_HEADER))
+                .orElse(null);
+        if (links == null) {
+            return null;
+        }
+        for (final String link : links) {
+            final Matcher matcher = LINK_VALUE.matcher(link);
+            while (matcher.find()) {
+                if (REL_NEXT.matcher(matcher.group(2)).find()) {
+                    final URI uri = URI.create(matcher.group(1).trim());
+                    // 상대 URI 는 현재 페이지 URI 기준으로 해석 (첫 페이지는 요청 시점에 Base URL 기준으로 해석)
+                    return PageRequest.ofUri(current.getUri() != null ? current.getUri().resolve(uri) : uri);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package io.incognito.rest.client.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.util.Opt;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * page 번호 또는 offset 으로 페이지를 요청한다.
+ * 다음 페이지 요청이 응답과 무관하므로 여러 페이지를 동시에 요청하고, 요소 수가 pageSize 보다 적은 페이지를 마지막으로 판단한다.
+ */
+@RequiredArgsConstructor
+class OffsetPageStrategy<RESP extends IBaseResponse, E> implements PageStrategy<RESP, E> {
+    private final String positionParam;
+    private final long start;
+    private final long step;
+    private final String sizeParam;
+    private final int pageSize;
+    private final Function<? super RESP, ? extends List<E>> elements;
+
+    @Override
+    public PageRequest first() {
+        final PageRequest first = PageRequest.first().with(positionParam, start);
+        return Opt.of(sizeParam).map(param -> first.with(param, pageSize)).orElse(first);
+    }
+
+    @Override
+    public List<E> elements(final RESP response) {
+        return elements.apply(response);
+    }
+
+    @Override
+    public PageRequest next(final RESP response, final PageRequest current) {
+        final long position = Long.parseLong(current.getQueryParams().getFirst(positionParam));
+        return current.with(positionParam, position + step);
+    }
+
+    @Override
+    public boolean isSequential() {
+        return false;
+    }
+
+    @Override
+    public boolean isLast(final RESP response, final PageRequest current) {
+        return Opt.of(elements.apply(response)).map(List::size).orElse(0) < pageSize;
+    }
+}
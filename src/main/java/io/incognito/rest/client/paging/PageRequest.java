@@ -0,0 +1,49 @@
+package io.incognito.rest.client.paging;
+
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.net.URI;
+import java.util.Collections;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 페이지 요청 정보
+ * - queryParams: 요청 설정의 Query Parameter 에 덮어쓸 페이지 파라미터 (cursor, page, offset 등)
+ * - uri: 응답이 알려준 다음 페이지 URI (Link 헤더 등, 지정되면 요청 설정의 URL 대신 사용)
+ */
+@ToString
+@Getter
+public class PageRequest {
+    private static final PageRequest FIRST = new PageRequest(new LinkedMultiValueMap<>(), null);
+
+    private final MultiValueMap<String, String> queryParams;
+    private final URI uri;
+
+    private PageRequest(final MultiValueMap<String, String> queryParams, final URI uri) {
+        this.queryParams = queryParams;
+        this.uri = uri;
+    }
+
+    /**
+     * @return 요청 설정 그대로의 첫 페이지 요청
+     */
+    public static PageRequest first() {
+        return FIRST;
+    }
+
+    public static PageRequest ofUri(final URI uri) {
+        return new PageRequest(new LinkedMultiValueMap<>(), uri);
+    }
+
+    /**
+     * @return 주어진 Query Parameter 가 추가(덮어쓰기)된 새 페이지 요청
+     */
+    public PageRequest with(final String name, final Object value) {
+        final MultiValueMap<String, String> params = new LinkedMultiValueMap<>(queryParams);
+        params.put(name, Collections.singletonList(String.valueOf(value)));
+        return new PageRequest(params, uri);
+    }
+}
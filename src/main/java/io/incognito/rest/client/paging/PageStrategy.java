@@ -0,0 +1,74 @@
+package io.incognito.rest.client.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+
+/**
+ * 페이지 응답에서 요소 목록과 다음 페이지 요청을 추출하는 전략
+ * - cursor: 응답 Body 의 cursor 값을 다음 요청의 Query Parameter 로 전달
+ * - linkHeader: 응답의 Link 헤더(rel="next") URI 로 다음 페이지 요청
+ * - pageNumber, offset: 응답과 무관하게 다음 페이지를 계산할 수 있으므로 여러 페이지를 동시에 미리 요청
+ *
+ * @param <RESP> 페이지 응답 타입
+ * @param <E> 요소 타입
+ */
+public interface PageStrategy<RESP extends IBaseResponse, E> {
+    /**
+     * @return 첫 페이지 요청
+     */
+    default PageRequest first() {
+        return PageRequest.first();
+    }
+
+    /**
+     * @param response 페이지 응답
+     * @return 페이지의 요소 목록
+     */
+    List<E> elements(RESP response);
+
+    /**
+     * 다음 페이지 요청을 계산한다.
+     *
+     * @param response 현재 페이지 응답 ({@link #isSequential()} 이 false 이면 null)
+     * @param current 현재 페이지 요청
+     * @return 다음 페이지 요청 (null 이면 마지막 페이지)
+     */
+    PageRequest next(RESP response, PageRequest current);
+
+    /**
+     * @return 다음 페이지 요청을 계산하려면 현재 페이지 응답이 필요한지 여부
+     */
+    default boolean isSequential() {
+        return true;
+    }
+
+    /**
+     * @param response 페이지 응답
+     * @param current 현재 페이지 요청
+     * @return 마지막 페이지 여부
+     */
+    default boolean isLast(final RESP response, final PageRequest current) {
+        return next(response, current) == null;
+    }
+
+    static <RESP extends IBaseResponse, E> PageStrategy<RESP, E> cursor(final String cursorParam, final Function<? super RESP, String> nextCursor, final Function<? super RESP, ? extends List<E>> elements) {
+        return new CursorPageStrategy<>(cursorParam, nextCursor, elements);
+    }
+
+    /**
+     * Link 헤더로 다음 페이지를 찾는다. (Link 헤더가 {@link io.incognito.rest.client.types.dto.HeaderRetentionPolicy} 에 의해 보관되어야 함)
+     */
+    static <RESP extends IBaseResponse, E> PageStrategy<RESP, E> linkHeader(final Function<? super RESP, ? extends List<E>> elements) {
+        return new LinkHeaderPageStrategy<>(elements);
+    }
+
+    static <RESP extends IBaseResponse, E> PageStrategy<RESP, E> pageNumber(final String pageParam, final int firstPage, final String sizeParam, final int pageSize, final Function<? super RESP, ? extends List<E>> elements) {
+        return new OffsetPageStrategy<>(pageParam, firstPage, 1, sizeParam, pageSize, elements);
+    }
+
+    static <RESP extends IBaseResponse, E> PageStrategy<RESP, E> offset(final String offsetParam, final String limitParam, final int limit, final Function<? super RESP, ? extends List<E>> elements) {
+        return new OffsetPageStrategy<>(offsetParam, 0, limit, limitParam, limit, elements);
+    }
+}
@@ -0,0 +1,83 @@
+package io.incognito.rest.client.paging;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.util.Opt;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 페이지 요청을 이어 붙여 요소 Flux 를 만든다.
+ * - 하위 구독자가 현재 페이지의 요소를 소비하는 동안 최대 prefetch 개의 다음 페이지를 미리 요청한다.
+ *   (다음 페이지 요청이 현재 응답에 의존하는 전략은 한 번에 한 페이지만 요청하며, prefetch 는 받아 둘 페이지 수로만 사용)
+ * - 하위 구독자의 요청(back-pressure)이 없으면 현재 페이지와 prefetch 개의 다음 페이지 이상은 요청하지 않는다.
+ * - 실패한 페이지는 {@link ApiFailureException} 으로 Flux 를 종료한다.
+ *   (미리 요청한 페이지의 실패는 앞 페이지가 모두 마지막 페이지가 아닌 것으로 확인된 뒤에 발생시키므로, 마지막 페이지 이후의 실패는 무시된다.)
+ */
+public class Paginator {
+    public static final int DEFAULT_PREFETCH = 2;
+
+    @RequiredArgsConstructor
+    private static class Page<RESP> {
+        private final PageRequest request;
+        private final RESP response;
+        /**
+         * 미리 요청한 페이지의 실패 (순서대로 방출된 뒤에 발생)
+         */
+        private final Throwable failure;
+
+        private Page(final PageRequest request, final RESP response) {
+            this(request, response, null);
+        }
+    }
+
+    /**
+     * @param strategy 페이지 전략
+     * @param fetcher 페이지 요청 함수
+     * @param prefetch 미리 요청할 페이지 수 (1 이상, 순차 전략이면 받아 둘 페이지 수)
+     * @param <RESP> 페이지 응답 타입
+     * @param <E> 요소 타입
+     * @return 요소 Flux
+     */
+    public static <RESP extends IBaseResponse, E> Flux<E> paginate(final PageStrategy<RESP, E> strategy, final Function<PageRequest, Mono<RESP>> fetcher, final int prefetch) {
+        final int depth = Math.max(1, prefetch);
+        final Function<PageRequest, Mono<Page<RESP>>> fetchPage = request -> fetcher.apply(request)
+                .flatMap(response -> response.isSuccess()
+                        ? Mono.just(new Page<>(request, response))
+                        : Mono.error(new ApiFailureException(response.getApiResult())));
+
+        final Flux<Page<RESP>> pages;
+        if (strategy.isSequential()) {
+            // 다음 페이지 요청이 현재 응답에 의존: 응답을 받는 즉시 다음 페이지 요청 (동시에 한 페이지만 요청하며, expand 의 두 번째 인자는 대기열 크기 힌트)
+            pages = Flux.defer(() -> fetchPage.apply(strategy.first()))
+                    .expand(page -> Opt.of(strategy.next(page.response, page.request)).map(fetchPage).orElseGet(Mono::empty), depth);
+        } else {
+            // 다음 페이지 요청을 미리 계산 가능: 최대 prefetch 개를 동시에 요청하고 순서대로 방출 (마지막 페이지 이후의 요청은 취소)
+            pages = Flux.<PageRequest, PageRequest>generate(strategy::first, (request, sink) -> {
+                        // 다음 페이지 요청이 없으면(마지막 페이지 이후) 종료한다.
+                        if (request == null) {
+                            sink.complete();
+                            return null;
+                        }
+                        sink.next(request);
+                        return strategy.next(null, request);
+                    })
+                    .flatMapSequential(request -> fetchPage.apply(request).onErrorResume(err -> Mono.just(new Page<>(request, null, err))), depth, 1)
+                    .takeUntil(page -> page.failure == null && strategy.isLast(page.response, page.request))
+                    .handle((page, sink) -> {
+                        if (page.failure == null) {
+                            sink.next(page);
+                        } else {
+                            sink.error(page.failure);
+                        }
+                    });
+        }
+        // 요소를 소비 중인 현재 페이지 하나만 받아 두고, 다음 페이지는 위의 prefetch 범위에서만 요청한다.
+        return pages.concatMapIterable(page -> Opt.<List<E>>of(strategy.elements(page.response)).orElseGet(Collections::emptyList), 1);
+    }
+}
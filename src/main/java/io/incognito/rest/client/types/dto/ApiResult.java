@@ -1,5 +1,6 @@
 package io.incognito.rest.client.types.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
@@ -7,9 +8,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.util.MultiValueMap;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import io.incognito.rest.client.types.enums.ApiResultCode;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -20,7 +21,6 @@ import lombok.experimental.SuperBuilder;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @SuperBuilder
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
@@ -30,6 +30,30 @@ public class ApiResult {
     private ApiResultCode resultCode;
     private String failureMessage;
     private String failureDetail;
+    private Boolean failureDetailTruncated;
+    /**
+     * 실패 메시지 생성 함수 ({@link #getFailureMessage()} 호출 시점에 한 번만 생성, 전체 인자 생성자에는 포함하지 않음)
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    private transient Supplier<String> failureMessageSupplier;
+
+    public ApiResult(final HttpStatus status, final MultiValueMap<String, String> responseHeaders, final ApiResultCode resultCode, final String failureMessage, final String failureDetail, final Boolean failureDetailTruncated) {
+        this.status = status;
+        this.responseHeaders = responseHeaders;
+        this.resultCode = resultCode;
+        this.failureMessage = failureMessage;
+        this.failureDetail = failureDetail;
+        this.failureDetailTruncated = failureDetailTruncated;
+    }
+
+    public String getFailureMessage() {
+        if (failureMessage == null && failureMessageSupplier != null) {
+            failureMessage = failureMessageSupplier.get();
+            failureMessageSupplier = null;
+        }
+        return failureMessage;
+    }
 
     public String getCode() {
         return getResultCode().getCode();
@@ -0,0 +1,157 @@
+package io.incognito.rest.client.types.dto;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 이름/값을 하나의 배열에 번갈아 저장하는 읽기 전용 헤더 (ApiResult 에 보관되는 응답 헤더의 메모리 절감)
+ * 조회는 배열을 순차 탐색하며(이름 대소문자 무시), Map 전체가 필요할 때만 {@link #toMultiValueMap()} 으로 생성한다.
+ */
+public final class CompactHeaders extends AbstractMap<String, List<String>> implements MultiValueMap<String, String> {
+    private static final String[] EMPTY = new String[0];
+
+    private final String[] namesAndValues;
+
+    private CompactHeaders(final String[] namesAndValues) {
+        this.namesAndValues = namesAndValues;
+    }
+
+    /**
+     * 조건을 만족하는 이름의 헤더만 복사한다.
+     *
+     * @param headers 원본 헤더
+     * @param retainName 보관할 헤더 이름 조건
+     * @return 압축된 헤더
+     */
+    public static CompactHeaders of(final MultiValueMap<String, String> headers, final Predicate<String> retainName) {
+        if (headers == null || headers.isEmpty()) {
+            return new CompactHeaders(EMPTY);
+        }
+        final List<String> flat = new ArrayList<>(headers.size() * 2);
+        headers.forEach((name, values) -> {
+            if (values != null && retainName.test(name)) {
+                values.forEach(value -> {
+                    flat.add(name);
+                    flat.add(value);
+                });
+            }
+        });
+        return new CompactHeaders(flat.toArray(EMPTY));
+    }
+
+    public static CompactHeaders of(final MultiValueMap<String, String> headers) {
+        return of(headers, name -> true);
+    }
+
+    @Override
+    public String getFirst(final String name) {
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i].equalsIgnoreCase(name)) {
+                return namesAndValues[i + 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<String> get(final Object name) {
+        if (!(name instanceof String)) {
+            return null;
+        }
+        List<String> values = null;
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i].equalsIgnoreCase((String) name)) {
+                if (values == null) {
+                    values = new ArrayList<>(1);
+                }
+                values.add(namesAndValues[i + 1]);
+            }
+        }
+        return values == null ? null : Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public boolean containsKey(final Object name) {
+        return name instanceof String && getFirst((String) name) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return namesAndValues.length == 0;
+    }
+
+    /**
+     * @return 헤더 이름 수 (대소문자 무시)
+     */
+    @Override
+    public int size() {
+        return keySet().size();
+    }
+
+    /**
+     * @return 헤더 이름 (처음 나온 순서, 대소문자 무시)
+     */
+    @Override
+    public Set<String> keySet() {
+        final Set<String> names = Collections.newSetFromMap(new LinkedCaseInsensitiveMap<>(namesAndValues.length / 2));
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            names.add(namesAndValues[i]);
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @return 헤더 전체를 담은 MultiValueMap (호출 시마다 새로 생성)
+     */
+    public MultiValueMap<String, String> toMultiValueMap() {
+        final MultiValueMap<String, String> map = new LinkedMultiValueMap<>(new LinkedCaseInsensitiveMap<>(namesAndValues.length / 2));
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            map.add(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return map;
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        return Collections.unmodifiableMap(toMultiValueMap()).entrySet();
+    }
+
+    @Override
+    public Map<String, String> toSingleValueMap() {
+        return toMultiValueMap().toSingleValueMap();
+    }
+
+    @Override
+    public void add(final String key, final String value) {
+        throw new UnsupportedOperationException("CompactHeaders is read-only.");
+    }
+
+    @Override
+    public void addAll(final String key, final List<? extends String> values) {
+        throw new UnsupportedOperationException("CompactHeaders is read-only.");
+    }
+
+    @Override
+    public void addAll(final MultiValueMap<String, String> values) {
+        throw new UnsupportedOperationException("CompactHeaders is read-only.");
+    }
+
+    @Override
+    public void set(final String key, final String value) {
+        throw new UnsupportedOperationException("CompactHeaders is read-only.");
+    }
+
+    @Override
+    public void setAll(final Map<String, String> values) {
+        throw new UnsupportedOperationException("CompactHeaders is read-only.");
+    }
+}
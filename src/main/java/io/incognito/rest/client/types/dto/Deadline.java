@@ -0,0 +1,89 @@
+package io.incognito.rest.client.types.dto;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 1건(Connection Pool 획득, 모든 재시도, 응답 변환 포함)에 허용된 종료 시각 (ms 정밀도)
+ * - Reactor Context 에 {@link #CONTEXT_KEY} 로 전파된다.
+ * - Upstream 에는 {@link #HEADER_NAME} 헤더로 남은 시간(ms)을 전달한다.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class Deadline {
+    public static final String HEADER_NAME = "X-Request-Deadline-Ms";
+    public static final Class<Deadline> CONTEXT_KEY = Deadline.class;
+
+    private final long expiresAtNanos;
+
+    /**
+     * 현재 시각으로부터 주어진 시간 뒤에 만료되는 Deadline 을 생성한다.
+     *
+     * @param timeout 허용 시간
+     * @return Deadline
+     */
+    public static Deadline after(final Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Reactor Context 에 설정된 Deadline 을 조회한다.
+     *
+     * @param contextView Reactor Context
+     * @return Deadline
+     */
+    public static Optional<Deadline> fromContext(final ContextView contextView) {
+        return contextView.getOrEmpty(CONTEXT_KEY);
+    }
+
+    /**
+     * Reactor Context 의 Deadline 과 요청별 허용 시간 중 먼저 만료되는 Deadline 을 구한다.
+     *
+     * @param contextView Reactor Context
+     * @param timeout 요청별 허용 시간 (null 이면 Context 의 Deadline 만 사용)
+     * @return Deadline (둘 다 없으면 empty)
+     */
+    public static Optional<Deadline> resolve(final ContextView contextView, final Duration timeout) {
+        final Optional<Deadline> inherited = fromContext(contextView);
+        if (timeout == null) {
+            return inherited;
+        }
+        final Deadline own = after(timeout);
+        return Optional.of(inherited.map(own::earlier).orElse(own));
+    }
+
+    public Deadline earlier(final Deadline other) {
+        return other == null || expiresAtNanos - other.expiresAtNanos <= 0 ? this : other;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param duration 수행에 필요한 시간
+     * @return 남은 시간 안에 주어진 시간을 수행할 수 있는지 여부
+     */
+    public boolean covers(final Duration duration) {
+        return remaining().compareTo(duration) > 0;
+    }
+
+    /**
+     * @return Upstream 에 전달할 헤더 값 (남은 시간, ms)
+     */
+    public String toHeaderValue() {
+        return String.valueOf(TimeUnit.NANOSECONDS.toMillis(remaining().toNanos()));
+    }
+}
@@ -0,0 +1,63 @@
+package io.incognito.rest.client.types.dto;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * {@link ApiResult#getResponseHeaders()} 에 보관할 응답 헤더 범위
+ * - none: 보관하지 않음
+ * - allowlist: 지정한 이름의 헤더만 보관 (대소문자 무시)
+ * - all: 전체 보관 (복사하지 않고 원본 응답 헤더를 그대로 보관)
+ * allowlist 로 보관되는 헤더는 {@link CompactHeaders} 로 압축된다. 두 경우 모두 읽기 전용이다. (원본 응답 헤더는 읽기 전용 {@link HttpHeaders})
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class HeaderRetentionPolicy {
+    private static final HeaderRetentionPolicy NONE = new HeaderRetentionPolicy(false, null);
+    private static final HeaderRetentionPolicy ALL = new HeaderRetentionPolicy(true, null);
+
+    private final boolean retain;
+    private final Set<String> allowedNames;
+
+    public static HeaderRetentionPolicy none() {
+        return NONE;
+    }
+
+    public static HeaderRetentionPolicy all() {
+        return ALL;
+    }
+
+    public static HeaderRetentionPolicy allowlist(final Collection<String> headerNames) {
+        return new HeaderRetentionPolicy(true, headerNames.stream().map(name -> name.toLowerCase(Locale.ROOT)).collect(Collectors.toSet()));
+    }
+
+    public static HeaderRetentionPolicy allowlist(final String... headerNames) {
+        return allowlist(Arrays.asList(headerNames));
+    }
+
+    /**
+     * 정책에 따라 보관할 헤더를 추출한다.
+     *
+     * @param headers 응답 헤더
+     * @return 보관할 헤더 (보관하지 않으면 null)
+     */
+    public MultiValueMap<String, String> retain(final MultiValueMap<String, String> headers) {
+        if (!retain || headers == null) {
+            return null;
+        }
+        if (allowedNames == null) {
+            return headers;
+        }
+        return CompactHeaders.of(headers, name -> allowedNames.contains(name.toLowerCase(Locale.ROOT)));
+    }
+}
@@ -0,0 +1,125 @@
+package io.incognito.rest.client.types.dto;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 응답 Body 에서 추출할 값의 위치 (JsonPointer) 와 추출한 값을 담을 속성 이름
+ * - pointers: JsonPointer 목록 (속성 이름은 마지막 경로 이름, 예: /data/user/id -> id, 이름이 겹치면 {@link IllegalArgumentException})
+ * - paths: 점으로 구분한 경로 목록 (예: data.items.0.id -> /data/items/0/id)
+ * - and: 속성 이름을 지정하여 추가
+ * 추출한 값은 {속성 이름: 값} 형태의 객체로 응답 타입 (작은 DTO 또는 {@link io.incognito.rest.client.types.dto.response.MapResponse}) 에 변환되며,
+ * 추출 대상이 아닌 Subtree 는 객체로 만들지 않고 건너뛴다. (이미 추출하는 값 안쪽의 위치는 따로 추출하지 않음)
+ */
+@ToString(of = "properties")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ResponseProjection {
+    /**
+     * JsonPointer -> 속성 이름
+     */
+    private final Map<String, String> properties;
+    /**
+     * 추출 대상 JsonPointer 의 상위 경로 (추출 대상 포함, 이 경로 밖의 Subtree 는 건너뜀)
+     */
+    private final Set<String> prefixes;
+
+    public static ResponseProjection pointers(final String... pointers) {
+        final Map<String, String> properties = new LinkedHashMap<>();
+        Arrays.stream(pointers).map(JsonPointer::compile).forEach(pointer -> {
+            final String previous = properties.putIfAbsent(lastSegment(pointer), pointer.toString());
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate property name '" + lastSegment(pointer) + "' for pointers: " + previous + ", " + pointer + " (use of() or and() to name them)");
+            }
+        });
+        return of(properties);
+    }
+
+    public static ResponseProjection paths(final String... paths) {
+        return pointers(Arrays.stream(paths).map(ResponseProjection::toPointer).toArray(String[]::new));
+    }
+
+    /**
+     * @param properties 속성 이름 -> JsonPointer
+     * @return ResponseProjection
+     * @throws IllegalArgumentException 같은 JsonPointer 를 여러 속성 이름으로 지정한 경우
+     */
+    public static ResponseProjection of(final Map<String, String> properties) {
+        final Map<String, String> byPointer = new LinkedHashMap<>();
+        properties.forEach((property, pointer) -> {
+            final String previous = byPointer.putIfAbsent(JsonPointer.compile(pointer).toString(), property);
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate pointer '" + pointer + "' for properties: " + previous + ", " + property);
+            }
+        });
+        final Set<String> prefixes = new HashSet<>();
+        byPointer.keySet().forEach(pointer -> {
+            for (JsonPointer head = JsonPointer.compile(pointer); head != null; head = head.head()) {
+                prefixes.add(head.toString());
+            }
+        });
+        return new ResponseProjection(Collections.unmodifiableMap(byPointer), Collections.unmodifiableSet(prefixes));
+    }
+
+    public ResponseProjection and(final String property, final String pointer) {
+        final Map<String, String> merged = new LinkedHashMap<>();
+        properties.forEach((p, name) -> merged.put(name, p));
+        merged.put(property, pointer);
+        return of(merged);
+    }
+
+    /**
+     * @param pointer JsonPointer 문자열
+     * @return 추출할 속성 이름 (추출 대상이 아니면 null)
+     */
+    public String propertyOf(final String pointer) {
+        return properties.get(pointer);
+    }
+
+    /**
+     * @param pointer JsonPointer 문자열
+     * @return 추출 대상 또는 추출 대상의 상위 경로인지 여부 (아니면 Subtree 를 건너뛴다.)
+     */
+    public boolean isOnPath(final String pointer) {
+        return prefixes.contains(pointer);
+    }
+
+    public int size() {
+        return properties.size();
+    }
+
+    static String toPointer(final String path) {
+        if (path.isEmpty()) {
+            return "";
+        }
+        final StringBuilder builder = new StringBuilder();
+        for (final String segment : path.split("\\.")) {
+            builder.append('/').append(escape(segment));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * JsonPointer 경로 이름 Escape ('~' -> '~0', '/' -> '~1')
+     *
+     * @param segment 경로 이름
+     * @return Escape 된 경로 이름
+     */
+    public static String escape(final String segment) {
+        return segment.indexOf('~') < 0 && segment.indexOf('/') < 0 ? segment : segment.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String lastSegment(final JsonPointer pointer) {
+        final JsonPointer last = pointer.last();
+        return last == null ? "" : last.getMatchingProperty();
+    }
+}
@@ -0,0 +1,99 @@
+package io.incognito.rest.client.types.dto;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 응답 객체의 타입 (Generic 타입 포함)
+ * - {@code ListResponse<Foo>}, {@code MapResponse<String, Foo>} 처럼 Generic 인자가 있는 응답 타입도 요소 타입까지 한 번에 변환한다.
+ * - 타입 별로 생성하여 재사용하며 (해석된 타입, 원시 클래스), ObjectMapper 별 ObjectReader (JavaType, Root Deserializer) 도 보관한다.
+ * - 캐시는 Soft Reference 로 보관하므로 (Spring {@link ConcurrentReferenceHashMap}) 동적으로 만든 타입이나 ObjectMapper 가 많아도 메모리가 부족하면 정리된다.
+ *
+ * @param <RESP> 응답 객체의 타입
+ */
+@ToString(of = "type")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResponseType<RESP extends IBaseResponse> {
+    private static final Map<Type, ResponseType<?>> CACHE = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 응답 타입 (Class, ParameterizedType 또는 JavaType)
+     */
+    @Getter
+    private final Type type;
+    /**
+     * 응답 객체 생성에 사용할 원시 클래스
+     */
+    @Getter
+    private final Class<RESP> rawClass;
+    /**
+     * WebClient Decoder 에 넘길 타입 참조
+     */
+    @Getter
+    private final ParameterizedTypeReference<RESP> typeReference;
+    private final Map<ObjectMapper, ObjectReader> readers = new ConcurrentReferenceHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public static <RESP extends IBaseResponse> ResponseType<RESP> of(final Class<RESP> responseType) {
+        return (ResponseType<RESP>) CACHE.computeIfAbsent(responseType, type -> new ResponseType<>(type, responseType, ParameterizedTypeReference.forType(type)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <RESP extends IBaseResponse> ResponseType<RESP> of(final ParameterizedTypeReference<RESP> responseType) {
+        return (ResponseType<RESP>) CACHE.computeIfAbsent(responseType.getType(), type -> new ResponseType<>(type, (Class<RESP>) ResolvableType.forType(type).resolve(), responseType));
+    }
+
+    /**
+     * @param responseType Jackson JavaType (원시 클래스는 {@link IBaseResponse} 구현체여야 한다.)
+     * @param <RESP> 응답 객체의 타입
+     * @return 응답 타입
+     */
+    @SuppressWarnings("unchecked")
+    public static <RESP extends IBaseResponse> ResponseType<RESP> of(final JavaType responseType) {
+        if (!IBaseResponse.class.isAssignableFrom(responseType.getRawClass())) {
+            throw new IllegalArgumentException("Response type must implement IBaseResponse: " + responseType);
+        }
+        return (ResponseType<RESP>) CACHE.computeIfAbsent(responseType, type -> new ResponseType<>(type, (Class<RESP>) responseType.getRawClass(), ParameterizedTypeReference.forType(type)));
+    }
+
+    /**
+     * @return Generic 인자가 있는 타입인지 여부 (아니면 원시 클래스로 변환)
+     */
+    public boolean isGeneric() {
+        return !(type instanceof Class);
+    }
+
+    /**
+     * 응답 Body 가 없을 때 사용할 빈 응답 객체를 생성한다.
+     *
+     * @return 응답 객체
+     * @throws ReflectiveOperationException 기본 생성자가 없거나 접근할 수 없음
+     */
+    public RESP newInstance() throws ReflectiveOperationException {
+        return rawClass.getDeclaredConstructor().newInstance();
+    }
+
+    /**
+     * ObjectMapper 별로 해석해 둔 ObjectReader 를 반환한다.
+     *
+     * @param mapper ObjectMapper
+     * @return 이 타입으로 변환하는 ObjectReader
+     */
+    public ObjectReader reader(final ObjectMapper mapper) {
+        return readers.computeIfAbsent(mapper, m -> m.readerFor(m.constructType(type)));
+    }
+}
@@ -0,0 +1,40 @@
+package io.incognito.rest.client.types.dto;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 응답 Body 버퍼링 정책 (메모리 + 임시 파일)
+ * Body 가 inMemoryThreshold 이하이면 Pooled 메모리 버퍼에 보관하고, 초과하면 임시 파일로 옮겨 InputStream 으로 읽으며 변환한다.
+ * WebClient 의 maxInMemorySize 제한 대신 maxBodySize 제한을 적용하며, 임시 파일은 응답 처리가 끝나면 삭제한다.
+ */
+@Builder
+@ToString
+@Getter
+public class SpillPolicy {
+    /**
+     * 메모리에 보관할 최대 바이트 수 (초과하면 임시 파일 사용)
+     */
+    @Builder.Default
+    private final int inMemoryThreshold = 256 * 1024;
+    /**
+     * 허용할 최대 Body 바이트 수 (초과하면 {@link io.incognito.rest.client.types.enums.ApiResultCode#INVALID_RESPONSE})
+     */
+    @Builder.Default
+    private final int maxBodySize = 512 * 1024 * 1024;
+    /**
+     * 임시 파일 디렉토리
+     */
+    @Builder.Default
+    private final Path directory = Paths.get(System.getProperty("java.io.tmpdir"));
+    @Builder.Default
+    private final String filePrefix = "rest-client-body-";
+
+    public static SpillPolicy defaults() {
+        return SpillPolicy.builder().build();
+    }
+}
@@ -0,0 +1,47 @@
+package io.incognito.rest.client.types.dto;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Streaming 응답의 재연결 정책
+ * 연결 종료, 네트워크 오류, 5xx, 429 응답이면 재연결하고 그 외 4xx, 204 응답이면 종료한다.
+ * 대기 시간은 서버가 retry 필드로 지정한 값을 우선하며, 없으면 initialDelay 부터 maxDelay 까지 2배씩 늘린다.
+ */
+@Builder
+@ToString
+@Getter
+public class StreamReconnectPolicy {
+    private static final StreamReconnectPolicy NONE = StreamReconnectPolicy.builder().maxAttempts(0).build();
+
+    /**
+     * 연속 재연결 최대 횟수 (이벤트를 정상 수신하면 초기화)
+     */
+    @Builder.Default
+    private final int maxAttempts = Integer.MAX_VALUE;
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofSeconds(1);
+    @Builder.Default
+    private final Duration maxDelay = Duration.ofSeconds(30);
+
+    public static StreamReconnectPolicy none() {
+        return NONE;
+    }
+
+    public static StreamReconnectPolicy defaults() {
+        return StreamReconnectPolicy.builder().build();
+    }
+
+    /**
+     * @param attempt 연속 재연결 횟수 (1부터)
+     * @return 재연결 대기 시간
+     */
+    public Duration backoff(final int attempt) {
+        final long multiplier = 1L << Math.min(Math.max(attempt - 1, 0), 30);
+        final Duration delay = initialDelay.multipliedBy(multiplier);
+        return delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+    }
+}
@@ -0,0 +1,82 @@
+package io.incognito.rest.client.types.dto.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.ArrayBuilders;
+
+import java.io.IOException;
+import java.util.stream.DoubleStream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 실수 배열 응답 (예: 시계열 [0.5, 1.25, 3])
+ * 요소를 Double 로 Boxing 하지 않고 double[] 에 바로 채운다. (요소 당 8 byte)
+ */
+@JsonDeserialize(using = DoubleArrayResponse.Deserializer.class)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class DoubleArrayResponse extends BaseApiResponse {
+    private static final double[] EMPTY = new double[0];
+
+    /**
+     * 응답 값 (요소 수와 길이가 같음)
+     */
+    @Getter
+    private double[] values = EMPTY;
+
+    @ToString.Include
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public double get(final int index) {
+        return values[index];
+    }
+
+    public DoubleStream stream() {
+        return DoubleStream.of(values);
+    }
+
+    /**
+     * JSON 배열을 Jackson 의 Chunk 단위 Primitive 배열 Builder 로 읽어 정확한 길이의 double[] 로 만든다.
+     */
+    public static class Deserializer extends StdDeserializer<DoubleArrayResponse> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(DoubleArrayResponse.class);
+        }
+
+        @Override
+        public DoubleArrayResponse deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return (DoubleArrayResponse) ctxt.handleUnexpectedToken(DoubleArrayResponse.class, p);
+            }
+            final ArrayBuilders.DoubleBuilder builder = ctxt.getArrayBuilders().getDoubleBuilder();
+            double[] chunk = builder.resetAndStart();
+            int index = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                final double value = token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT ? p.getDoubleValue() : _parseDoublePrimitive(p, ctxt);
+                if (index >= chunk.length) {
+                    chunk = builder.appendCompletedChunk(chunk, index);
+                    index = 0;
+                }
+                chunk[index++] = value;
+            }
+            return new DoubleArrayResponse(builder.completeAndClearBuffer(chunk, index));
+        }
+    }
+}
@@ -1,16 +1,69 @@
 package io.incognito.rest.client.types.dto.response;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import io.incognito.rest.client.util.Opt;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
 import lombok.ToString;
 
-@ToString(callSuper = true)
-@AllArgsConstructor
+/**
+ * 빈 응답 또는 문자열 응답
+ * 응답 Body 는 원본 바이트로 보관하고, {@link #getBodyString()} 호출 시점에 한 번만 문자열로 변환한다.
+ */
+@ToString(callSuper = true, exclude = "body")
 @NoArgsConstructor
-@Getter
-@Setter
 public class EmptyOrStringBodyResponse extends BaseApiResponse implements IBaseResponse {
+    private byte[] body;
+    private Charset charset = StandardCharsets.UTF_8;
     private String bodyString;
+
+    public EmptyOrStringBodyResponse(final String bodyString) {
+        this.bodyString = bodyString;
+    }
+
+    public String getBodyString() {
+        if (bodyString == null && body != null) {
+            bodyString = new String(body, charset);
+        }
+        return bodyString;
+    }
+
+    public void setBodyString(final String bodyString) {
+        this.bodyString = bodyString;
+        this.body = null;
+    }
+
+    /**
+     * @return 응답 Body 원본 바이트 (문자열로 설정된 경우 UTF-8 인코딩 결과)
+     */
+    @JsonIgnore
+    public byte[] getBody() {
+        if (body == null && bodyString != null) {
+            return bodyString.getBytes(charset);
+        }
+        return body;
+    }
+
+    /**
+     * 응답 Body 원본 바이트를 설정한다. (문자열 변환은 읽는 시점에 수행)
+     *
+     * @param body 원본 바이트
+     * @param charset 문자열 변환에 사용할 Charset
+     */
+    public void setBody(final byte[] body, final Charset charset) {
+        this.body = body;
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
+        this.bodyString = null;
+    }
+
+    /**
+     * @return 응답 Body 바이트 수 (문자열로 설정된 경우 Charset 으로 인코딩한 바이트 수)
+     */
+    @JsonIgnore
+    public int getBodyLength() {
+        return Opt.of(getBody()).map(bytes -> bytes.length).orElse(0);
+    }
 }
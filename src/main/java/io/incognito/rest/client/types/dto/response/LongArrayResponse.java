@@ -0,0 +1,82 @@
+package io.incognito.rest.client.types.dto.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.ArrayBuilders;
+
+import java.io.IOException;
+import java.util.stream.LongStream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 정수 배열 응답 (예: [1, 2, 3])
+ * 요소를 Long 으로 Boxing 하지 않고 long[] 에 바로 채운다. (요소 당 8 byte)
+ */
+@JsonDeserialize(using = LongArrayResponse.Deserializer.class)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class LongArrayResponse extends BaseApiResponse {
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * 응답 값 (요소 수와 길이가 같음)
+     */
+    @Getter
+    private long[] values = EMPTY;
+
+    @ToString.Include
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public long get(final int index) {
+        return values[index];
+    }
+
+    public LongStream stream() {
+        return LongStream.of(values);
+    }
+
+    /**
+     * JSON 배열을 Jackson 의 Chunk 단위 Primitive 배열 Builder 로 읽어 정확한 길이의 long[] 로 만든다.
+     */
+    public static class Deserializer extends StdDeserializer<LongArrayResponse> {
+        private static final long serialVersionUID = 1L;
+
+        public Deserializer() {
+            super(LongArrayResponse.class);
+        }
+
+        @Override
+        public LongArrayResponse deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return (LongArrayResponse) ctxt.handleUnexpectedToken(LongArrayResponse.class, p);
+            }
+            final ArrayBuilders.LongBuilder builder = ctxt.getArrayBuilders().getLongBuilder();
+            long[] chunk = builder.resetAndStart();
+            int index = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                final long value = token == JsonToken.VALUE_NUMBER_INT ? p.getLongValue() : _parseLongPrimitive(p, ctxt);
+                if (index >= chunk.length) {
+                    chunk = builder.appendCompletedChunk(chunk, index);
+                    index = 0;
+                }
+                chunk[index++] = value;
+            }
+            return new LongArrayResponse(builder.completeAndClearBuffer(chunk, index));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package io.incognito.rest.client.types.dto.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+import lombok.ToString;
+
+/**
+ * 키 -> 정수 값 맵 응답 (예: {"id-1": 10, "id-2": 3})
+ * 값을 Long 으로 Boxing 하지 않고 Open Addressing 으로 키 배열과 long[] 에 바로 채운다. (Entry, Boxing 객체 미생성)
+ * 키 타입은 응답 타입의 Generic 인자로 변환한다. (예: {@code ObjectLongMapResponse<Integer>}, 원시 타입이면 String)
+ *
+ * @param <K> 키 타입
+ */
+@JsonDeserialize(using = ObjectLongMapResponse.Deserializer.class)
+@ToString(callSuper = true, onlyExplicitlyIncluded = true)
+public class ObjectLongMapResponse<K> extends BaseApiResponse {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private Object[] keys;
+    private long[] values;
+    private int size;
+
+    public ObjectLongMapResponse() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 예상 키 개수
+     */
+    public ObjectLongMapResponse(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    @ToString.Include
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(final Object key) {
+        return key != null && keys[indexOf(key)] != null;
+    }
+
+    /**
+     * @param key 키
+     * @param defaultValue 키가 없을 때의 값
+     * @return 키의 값
+     */
+    public long getOrDefault(final Object key, final long defaultValue) {
+        if (key == null) {
+            return defaultValue;
+        }
+        final int index = indexOf(key);
+        return keys[index] == null ? defaultValue : values[index];
+    }
+
+    /**
+     * @param key 키
+     * @return 키의 값 (키가 없으면 0)
+     */
+    public long getLong(final Object key) {
+        return getOrDefault(key, 0L);
+    }
+
+    /**
+     * @param key 키 (null 불가)
+     * @param value 값
+     */
+    public void put(final K key, final long value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key must not be null.");
+        }
+        int index = indexOf(key);
+        if (keys[index] == null) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                rehash(keys.length << 1);
+                index = indexOf(key);
+            }
+            keys[index] = key;
+            size++;
+        }
+        values[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(final ObjLongConsumer<? super K> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept((K) keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return Boxing 된 값의 Map 복사본 (작은 맵을 다른 API 에 넘길 때 사용)
+     */
+    public Map<K, Long> toMap() {
+        final Map<K, Long> map = new LinkedHashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    private int indexOf(final Object key) {
+        final int mask = keys.length - 1;
+        int index = mix(key.hashCode()) & mask;
+        while (keys[index] != null && !keys[index].equals(key)) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(final int capacity) {
+        final Object[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                final int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new Object[capacity];
+        values = new long[capacity];
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final int required = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(required - 1) << 1);
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * JSON 객체를 읽어 키는 Generic 인자 타입으로 변환하고, 값은 long 으로 바로 채운다.
+     */
+    public static class Deserializer extends StdDeserializer<ObjectLongMapResponse<?>> implements ContextualDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 키 변환기 (null 이면 JSON 필드 이름 그대로 사용)
+         */
+        private final KeyDeserializer keyDeserializer;
+
+        public Deserializer() {
+            this(null);
+        }
+
+        private Deserializer(final KeyDeserializer keyDeserializer) {
+            super(ObjectLongMapResponse.class);
+            this.keyDeserializer = keyDeserializer;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) throws JsonMappingException {
+            final JavaType type = ctxt.getContextualType();
+            final JavaType keyType = type == null ? null : type.containedType(0);
+            if (keyType == null || keyType.hasRawClass(Object.class) || keyType.hasRawClass(String.class)) {
+                return this;
+            }
+            return new Deserializer(ctxt.findKeyDeserializer(keyType, property));
+        }
+
+        @Override
+        public ObjectLongMapResponse<?> deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (ObjectLongMapResponse<?>) ctxt.handleUnexpectedToken(ObjectLongMapResponse.class, p);
+            }
+            final ObjectLongMapResponse<Object> response = new ObjectLongMapResponse<>();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                final String name = p.currentName();
+                final Object key = keyDeserializer == null ? name : keyDeserializer.deserializeKey(name, ctxt);
+                token = p.nextToken();
+                response.put(key, token == JsonToken.VALUE_NUMBER_INT ? p.getLongValue() : _parseLongPrimitive(p, ctxt));
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.incognito.rest.client.types.dto.response;
+
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Streaming 응답의 이벤트 (SSE 이벤트 또는 NDJSON 한 줄)
+ * 이벤트마다 ApiResult 가 설정되며, 변환에 실패한 이벤트는 {@link io.incognito.rest.client.types.enums.ApiResultCode#FAILED_TO_DESERIALIZE} 로 전달된다.
+ *
+ * @param <T> 이벤트 데이터 타입
+ */
+@ToString(callSuper = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class StreamEventResponse<T> extends BaseApiResponse {
+    /**
+     * SSE 이벤트 ID (NDJSON 이면 null)
+     */
+    private String id;
+    /**
+     * SSE 이벤트 이름 (NDJSON 이면 null)
+     */
+    private String event;
+    /**
+     * 서버가 지정한 재연결 대기 시간 (SSE retry 필드)
+     */
+    private Duration retry;
+    private T data;
+}
@@ -0,0 +1,13 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum AdmissionSchedulingMode {
+    STRICT("항상 높은 우선순위의 대기 요청을 먼저 수행"),
+    WEIGHTED_FAIR("우선순위 별 가중치 비율로 대기 요청을 수행 (Smooth Weighted Round Robin)");
+
+    private final String description;
+}
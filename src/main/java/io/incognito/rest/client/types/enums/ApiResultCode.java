@@ -20,6 +20,10 @@ public enum ApiResultCode {
     EXHAUSTED_RETIRES("1102", "최대 재시도 횟수 초과", "Exhausted retries"),
     CONNECTION_FAIL("1103", "TCP 연결 실패", "Failed to connect TCP socket"),
     CONNECTION_TIMEOUT("1104", "연결 시간 초과", "Connection timeout"),
+    DEADLINE_EXCEEDED("1105", "요청 기한 초과", "Deadline exceeded"),
+    ADMISSION_REJECTED("1106", "요청 대기열 초과", "Admission queue full"),
+    BULKHEAD_FULL("1107", "Bulkhead 용량 초과", "Bulkhead full"),
+    MEMORY_BUDGET_EXHAUSTED("1108", "메모리 예산 초과", "Body memory budget exhausted"),
     UNKNOWN_STATUS("9999", "알 수 없는 상태", "Invalid API Status");
 
     private final String code;
@@ -0,0 +1,14 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum CallbackOverflowPolicy {
+    DROP_NEWEST("새로 들어온 Callback 을 버린다."),
+    DROP_OLDEST("가장 오래된 Callback 을 버리고 새 Callback 을 적재한다."),
+    CALLER_RUNS("호출한 스레드(Netty I/O 스레드)에서 즉시 수행한다.");
+
+    private final String description;
+}
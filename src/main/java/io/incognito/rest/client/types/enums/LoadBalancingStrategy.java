@@ -0,0 +1,14 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum LoadBalancingStrategy {
+    POWER_OF_TWO_CHOICES("임의의 두 Endpoint 중 처리 중인 요청이 적은 쪽 선택"),
+    LEAST_OUTSTANDING_REQUESTS("처리 중인 요청이 가장 적은 Endpoint 선택"),
+    WEIGHTED_ROUND_ROBIN("가중치 비율에 따라 순차 선택");
+
+    private final String description;
+}
@@ -0,0 +1,13 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum LoadModel {
+    OPEN_ARRIVAL_RATE("고정 도착률 (응답 대기와 무관하게 일정 간격으로 요청 발생)"),
+    CLOSED_CONCURRENCY("고정 동시성 (응답을 받은 후 다음 요청 발생)");
+
+    private final String description;
+}
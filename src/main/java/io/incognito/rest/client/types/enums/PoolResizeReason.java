@@ -0,0 +1,13 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum PoolResizeReason {
+    ACQUIRE_LATENCY("Connection 획득 대기 시간이 확장 기준을 연속으로 넘어 Pool 을 늘렸다."),
+    IDLE("유휴 Connection 비율이 축소 기준을 연속으로 넘어 Pool 을 줄였다.");
+
+    private final String description;
+}
@@ -0,0 +1,27 @@
+package io.incognito.rest.client.types.enums;
+
+import java.util.Optional;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.util.context.ContextView;
+
+/**
+ * 요청 우선순위 (선언 순서가 높은 우선순위)
+ * 요청 설정의 우선순위는 Reactor Context 에 {@link #CONTEXT_KEY} 로 지정하여 호출 단위로 변경할 수 있다.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum RequestPriority {
+    CRITICAL("사용자 응답 경로 등 지연에 민감한 요청"),
+    NORMAL("일반 요청"),
+    BULK("배치, 동기화 등 대량 요청");
+
+    public static final Class<RequestPriority> CONTEXT_KEY = RequestPriority.class;
+
+    private final String description;
+
+    public static Optional<RequestPriority> fromContext(final ContextView contextView) {
+        return contextView.getOrEmpty(CONTEXT_KEY);
+    }
+}
@@ -0,0 +1,16 @@
+package io.incognito.rest.client.types.enums;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum StreamFormat {
+    SERVER_SENT_EVENTS(MediaType.TEXT_EVENT_STREAM, "Server-Sent Events (Last-Event-ID 로 이어받기)"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "줄 단위 JSON (Newline Delimited JSON)");
+
+    private final MediaType mediaType;
+    private final String description;
+}
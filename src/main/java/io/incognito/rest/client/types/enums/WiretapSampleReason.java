@@ -0,0 +1,14 @@
+package io.incognito.rest.client.types.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum WiretapSampleReason {
+    RATE("표본 비율로 선택된 요청"),
+    RESULT_CODE("결과 코드가 수집 대상인 요청"),
+    LATENCY("응답 시간이 기준 이상인 요청");
+
+    private final String description;
+}
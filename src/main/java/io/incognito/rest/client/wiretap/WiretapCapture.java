@@ -0,0 +1,254 @@
+package io.incognito.rest.client.wiretap;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ClientHttpResponseDecorator;
+import org.springframework.util.MimeType;
+
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.incognito.rest.client.helper.CapturedBody;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.WiretapSampleReason;
+import io.incognito.rest.client.util.Opt;
+import io.netty.handler.ssl.SslHandshakeTimeoutException;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 표본 Wiretap 수집기 (reactor-netty wiretap 처럼 모든 바이트를 로그로 남기지 않고, 선택된 요청만 메모리에 보관)
+ * - 표본 비율은 요청 시작 시점에, 결과 코드와 응답 시간 기준은 응답 Header 를 받은 시점에 판단한다.
+ * - 선택된 요청은 Header 전체와 요청/응답 Body 의 앞부분을 {@link WiretapRingBuffer} 에 보관하고, {@link #dump()} 로 꺼낸다.
+ * - 응답 Header 를 받으면 먼저 기록하고, 응답 Body 를 다 읽으면 Body 를 포함한 기록으로 바꾼다. (Body 를 읽지 않은 요청도 기록)
+ * 선택되지 않은 요청은 Connector 를 그대로 통과한다.
+ * 응답 기준만 있는 요청은 요청 시작 시각과 기록 여부만 추적하며, 요청 Body 는 {@link WiretapConfig#isCaptureRequestBodyForResponseCriteria()} 일 때만 미리 복사한다.
+ */
+public class WiretapCapture {
+    private static final String REDACTED = "****";
+    private static final AtomicIntegerFieldUpdater<Tap> RECORDED = AtomicIntegerFieldUpdater.newUpdater(Tap.class, "recorded");
+
+    @Getter
+    private final WiretapConfig config;
+    private final WiretapRingBuffer buffer;
+    private final LongAdder sampled = new LongAdder();
+
+    public WiretapCapture(final WiretapConfig config) {
+        this.config = config;
+        this.buffer = new WiretapRingBuffer(config.getCapacity());
+    }
+
+    /**
+     * @param connector 실제 요청을 수행할 Connector
+     * @return 표본 수집을 수행하는 Connector
+     */
+    public ClientHttpConnector decorate(final ClientHttpConnector connector) {
+        return (method, uri, requestCallback) -> connect(connector, method, uri, requestCallback);
+    }
+
+    /**
+     * @return 보관 중인 수집 기록 (오래된 순)
+     */
+    public List<WiretapRecord> dump() {
+        return buffer.snapshot();
+    }
+
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * @return 수집한 전체 건수 (Ring Buffer 에서 덮어쓴 것 포함)
+     */
+    public long getSampledCount() {
+        return sampled.sum();
+    }
+
+    private Mono<ClientHttpResponse> connect(final ClientHttpConnector connector, final HttpMethod method, final URI uri, final Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        final boolean rateSampled = config.getSampleRate() > 0 && ThreadLocalRandom.current().nextDouble() < config.getSampleRate();
+        if (!rateSampled && !config.hasResponseCriteria()) {
+            return connector.connect(method, uri, requestCallback);
+        }
+        final Tap tap = new Tap(method, uri, rateSampled);
+        return connector.connect(method, uri, request -> requestCallback.apply(tap.request(request)))
+                .map(tap::response)
+                .doOnError(tap::failed)
+                .doOnCancel(tap::cancelled);
+    }
+
+    private Charset charsetOf(final HttpHeaders headers) {
+        return Opt.of(headers.getContentType()).map(MimeType::getCharset).orElse(StandardCharsets.UTF_8);
+    }
+
+    private HttpHeaders redact(final HttpHeaders headers) {
+        final HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (config.isRedacted(name)) {
+                copy.set(name, REDACTED);
+            } else {
+                copy.addAll(name, values);
+            }
+        });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    /**
+     * 요청 1건의 수집 상태
+     */
+    private class Tap {
+        private final HttpMethod method;
+        private final URI uri;
+        private final boolean rateSampled;
+        private final long startMillis = System.currentTimeMillis();
+        private final long startNanos = System.nanoTime();
+        /**
+         * 요청 Body 앞부분 (복사하지 않으면 null)
+         */
+        private final CapturedBody.Accumulator requestBody;
+        /**
+         * 기록 여부 (0, 1: {@link #RECORDED} 로 변경)
+         */
+        volatile int recorded;
+        private ClientHttpRequest request;
+
+        private Tap(final HttpMethod method, final URI uri, final boolean rateSampled) {
+            this.method = method;
+            this.uri = uri;
+            this.rateSampled = rateSampled;
+            final boolean captureRequestBody = config.getMaxBodyBytes() > 0 && (rateSampled || config.isCaptureRequestBodyForResponseCriteria());
+            this.requestBody = captureRequestBody ? new CapturedBody.Accumulator(config.getMaxBodyBytes()) : null;
+        }
+
+        private ClientHttpRequest request(final ClientHttpRequest delegate) {
+            this.request = delegate;
+            if (requestBody == null) {
+                return delegate;
+            }
+            return new ClientHttpRequestDecorator(delegate) {
+                @Override
+                public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+                    return super.writeWith(Flux.from(body).doOnNext(requestBody::append));
+                }
+
+                @Override
+                public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                    return super.writeAndFlushWith(Flux.from(body).map(chunk -> Flux.from(chunk).doOnNext(requestBody::append)));
+                }
+            };
+        }
+
+        private ClientHttpResponse response(final ClientHttpResponse response) {
+            final Duration timeToHeaders = Duration.ofNanos(System.nanoTime() - startNanos);
+            final ApiResultCode resultCode = ApiResultCode.fromHttpStatus(HttpStatus.resolve(response.getRawStatusCode()));
+            final WiretapSampleReason reason = reasonOf(resultCode, timeToHeaders);
+            if (reason == null) {
+                return response;
+            }
+            final CapturedBody.Accumulator responseBody = new CapturedBody.Accumulator(config.getMaxBodyBytes());
+            final WiretapRecord.WiretapRecordBuilder record = builder(reason)
+                    .status(response.getRawStatusCode())
+                    .resultCode(resultCode)
+                    .responseHeaders(redact(response.getHeaders()))
+                    .timeToHeaders(timeToHeaders);
+            final Long sequence = record(record);
+            if (sequence == null) {
+                return response;
+            }
+            return new ClientHttpResponseDecorator(response) {
+                @Override
+                public Flux<DataBuffer> getBody() {
+                    // 응답 Body 를 다 읽거나(실패, 취소 포함) 한 시점에 Body 를 포함한 기록으로 바꾼다.
+                    return super.getBody()
+                            .doOnNext(responseBody::append)
+                            .doFinally(signal -> buffer.replace(record
+                                    .sequence(sequence)
+                                    .responseBody(responseBody.toCapturedBody(charsetOf(response.getHeaders())))
+                                    .latency(Duration.ofNanos(System.nanoTime() - startNanos))
+                                    .build()));
+                }
+            };
+        }
+
+        private void failed(final Throwable throwable) {
+            final ApiResultCode resultCode = throwable instanceof ReadTimeoutException ? ApiResultCode.CONNECTION_TIMEOUT
+                    : throwable instanceof SslHandshakeTimeoutException ? ApiResultCode.CONNECTION_FAIL
+                    : ApiResultCode.INVALID_NETWORK;
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            final WiretapSampleReason reason = reasonOf(resultCode, elapsed);
+            if (reason != null) {
+                record(builder(reason).resultCode(resultCode).error(String.valueOf(throwable)));
+            }
+        }
+
+        /**
+         * 응답 Header 를 받기 전에 취소된 요청 (Deadline, 상위 Timeout 등)
+         */
+        private void cancelled() {
+            final WiretapSampleReason reason = reasonOf(null, Duration.ofNanos(System.nanoTime() - startNanos));
+            if (reason != null) {
+                record(builder(reason).error("Cancelled before response headers"));
+            }
+        }
+
+        /**
+         * @param resultCode 결과 코드 (취소되어 결과가 없으면 null)
+         * @param elapsed 요청 시작부터의 시간
+         */
+        private WiretapSampleReason reasonOf(final ApiResultCode resultCode, final Duration elapsed) {
+            if (rateSampled) {
+                return WiretapSampleReason.RATE;
+            }
+            if (resultCode != null && config.getResultCodes().contains(resultCode)) {
+                return WiretapSampleReason.RESULT_CODE;
+            }
+            if (config.getLatencyThreshold() != null && elapsed.compareTo(config.getLatencyThreshold()) >= 0) {
+                return WiretapSampleReason.LATENCY;
+            }
+            return null;
+        }
+
+        private WiretapRecord.WiretapRecordBuilder builder(final WiretapSampleReason reason) {
+            final HttpHeaders requestHeaders = request == null ? HttpHeaders.EMPTY : request.getHeaders();
+            return WiretapRecord.builder()
+                    .timestamp(Instant.ofEpochMilli(startMillis))
+                    .reason(reason)
+                    .method(method)
+                    .uri(uri)
+                    .requestHeaders(redact(requestHeaders))
+                    .requestBody(requestBody == null ? null : requestBody.toCapturedBody(charsetOf(requestHeaders)));
+        }
+
+        /**
+         * @return 기록한 순번 (이미 기록했으면 null)
+         */
+        private Long record(final WiretapRecord.WiretapRecordBuilder record) {
+            if (!RECORDED.compareAndSet(this, 0, 1)) {
+                return null;
+            }
+            sampled.increment();
+            final long sequence = buffer.nextSequence();
+            buffer.put(record
+                    .sequence(sequence)
+                    .latency(Duration.ofNanos(System.nanoTime() - startNanos))
+                    .build());
+            return sequence;
+        }
+    }
+}
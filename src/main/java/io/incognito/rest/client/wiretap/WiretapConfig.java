@@ -0,0 +1,68 @@
+package io.incognito.rest.client.wiretap;
+
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 표본 Wiretap 수집 설정
+ * 요청은 표본 비율, 결과 코드, 응답 시간 기준 중 하나라도 만족하면 수집한다.
+ */
+@Builder
+@ToString
+@Getter
+public class WiretapConfig {
+    /**
+     * 요청 시작 시점에 수집할 표본 비율 (0 ~ 1)
+     */
+    private final double sampleRate;
+    /**
+     * 응답의 결과 코드({@link ApiResultCode#fromHttpStatus}, 전송 오류 포함)가 포함되면 수집
+     */
+    @Builder.Default
+    private final Set<ApiResultCode> resultCodes = Collections.emptySet();
+    /**
+     * 응답 Header 까지의 시간이 이 값 이상이면 수집 (null 이면 미적용)
+     */
+    private final Duration latencyThreshold;
+    /**
+     * 요청/응답 Body 마다 보관할 최대 바이트 수 (0 이면 Header 만 수집)
+     */
+    @Builder.Default
+    private final int maxBodyBytes = 1024;
+    /**
+     * 결과 코드, 응답 시간 기준으로 수집될 수 있는 요청의 요청 Body 앞부분도 미리 복사할지 여부
+     * (false 이면 표본 비율로 선택된 요청만 요청 Body 를 수집하고, 응답 기준으로 수집된 기록의 요청 Body 는 null)
+     */
+    private final boolean captureRequestBodyForResponseCriteria;
+    /**
+     * 보관할 최대 수집 건수 (2의 거듭제곱으로 올림, 가득 차면 가장 오래된 것부터 덮어씀)
+     */
+    @Builder.Default
+    private final int capacity = 256;
+    /**
+     * 값을 가리고 수집할 Header (대소문자 무시)
+     */
+    @Builder.Default
+    private final Set<String> redactedHeaders = new HashSet<>(Arrays.asList(HttpHeaders.AUTHORIZATION, HttpHeaders.PROXY_AUTHORIZATION, HttpHeaders.COOKIE, HttpHeaders.SET_COOKIE));
+
+    /**
+     * @return 응답을 받은 뒤에 수집 여부를 정하는 기준이 있는지 여부 (있으면 모든 요청의 시작 시각과 Header 를 추적)
+     */
+    boolean hasResponseCriteria() {
+        return !resultCodes.isEmpty() || latencyThreshold != null;
+    }
+
+    boolean isRedacted(final String headerName) {
+        return redactedHeaders.stream().anyMatch(headerName::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,65 @@
+package io.incognito.rest.client.wiretap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+import io.incognito.rest.client.helper.CapturedBody;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.WiretapSampleReason;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 수집한 요청/응답 1건 (Header 전체, Body 는 앞부분만)
+ */
+@Builder
+@ToString
+@Getter
+public class WiretapRecord {
+    private final long sequence;
+    private final Instant timestamp;
+    private final WiretapSampleReason reason;
+    private final HttpMethod method;
+    private final URI uri;
+    private final HttpHeaders requestHeaders;
+    /**
+     * 요청 Body 앞부분 (복사하지 않았으면 null: {@link WiretapConfig#isCaptureRequestBodyForResponseCriteria()})
+     */
+    @ToString.Exclude
+    private final CapturedBody requestBody;
+    /**
+     * HTTP 상태 코드 (전송 오류이면 null)
+     */
+    private final Integer status;
+    private final ApiResultCode resultCode;
+    private final HttpHeaders responseHeaders;
+    @ToString.Exclude
+    private final CapturedBody responseBody;
+    /**
+     * 응답 Header 까지의 시간
+     */
+    private final Duration timeToHeaders;
+    /**
+     * 응답 Body 까지 받은 전체 시간
+     */
+    private final Duration latency;
+    /**
+     * 전송 오류 메시지
+     */
+    private final String error;
+
+    @ToString.Include(name = "requestBody")
+    private String requestBodyString() {
+        return requestBody == null ? null : requestBody.asString();
+    }
+
+    @ToString.Include(name = "responseBody")
+    private String responseBodyString() {
+        return responseBody == null ? null : responseBody.asString();
+    }
+}
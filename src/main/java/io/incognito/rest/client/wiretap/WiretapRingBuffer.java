@@ -0,0 +1,86 @@
+package io.incognito.rest.client.wiretap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 Lock-free Ring Buffer (가득 차면 가장 오래된 것부터 덮어씀)
+ * 쓰기는 순번 증가와 슬롯 교체(Compare-and-set)뿐이며, 읽기는 순번으로 덮어쓴 슬롯을 걸러낸다.
+ * 같은 슬롯에 늦게 도착한 이전 순번의 기록은 더 새로운 기록을 덮어쓰지 않는다.
+ */
+public class WiretapRingBuffer {
+    private final AtomicReferenceArray<WiretapRecord> slots;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+
+    /**
+     * @param capacity 보관할 최대 건수 (2의 거듭제곱으로 올림)
+     */
+    public WiretapRingBuffer(final int capacity) {
+        final int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return 다음 기록의 순번
+     */
+    long nextSequence() {
+        return next.getAndIncrement();
+    }
+
+    void put(final WiretapRecord record) {
+        final int index = (int) (record.getSequence() & mask);
+        while (true) {
+            final WiretapRecord current = slots.get(index);
+            if (current != null && current.getSequence() > record.getSequence()) {
+                return;
+            }
+            if (slots.compareAndSet(index, current, record)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 같은 순번의 기록이 아직 슬롯에 있으면 새 기록으로 바꾼다. (이미 덮어썼으면 버림)
+     *
+     * @param record 바꿀 기록
+     */
+    void replace(final WiretapRecord record) {
+        final int index = (int) (record.getSequence() & mask);
+        final WiretapRecord current = slots.get(index);
+        if (current != null && current.getSequence() == record.getSequence()) {
+            slots.compareAndSet(index, current, record);
+        }
+    }
+
+    /**
+     * @return 보관 중인 기록 (오래된 순)
+     */
+    public List<WiretapRecord> snapshot() {
+        final long end = next.get();
+        final long start = Math.max(0, end - slots.length());
+        final List<WiretapRecord> records = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            final WiretapRecord record = slots.get((int) (sequence & mask));
+            // 아직 쓰는 중이거나 이미 덮어쓴 슬롯은 건너뛴다.
+            if (record != null && record.getSequence() == sequence) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
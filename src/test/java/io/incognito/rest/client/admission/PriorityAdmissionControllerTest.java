@@ -0,0 +1,180 @@
+package io.incognito.rest.client.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.enums.AdmissionSchedulingMode;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.RequestPriority;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class PriorityAdmissionControllerTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static PriorityAdmissionController controller(final int maxConcurrency, final AdmissionSchedulingMode mode) {
+        return new PriorityAdmissionController(AdmissionConfig.builder().maxConcurrency(maxConcurrency).schedulingMode(mode).build());
+    }
+
+    /**
+     * 대기 중인 요청이 수락되면 수락 순서대로 Permit 을 모은다.
+     */
+    private static void enqueue(final PriorityAdmissionController controller, final RequestPriority priority, final List<PriorityAdmissionController.Permit> granted) {
+        controller.acquire(priority).subscribe(granted::add);
+    }
+
+    private static List<RequestPriority> grantOneByOne(final PriorityAdmissionController.Permit holder, final List<PriorityAdmissionController.Permit> granted, final int count) {
+        final List<RequestPriority> order = new ArrayList<>();
+        PriorityAdmissionController.Permit running = holder;
+        for (int i = 0; i < count; i++) {
+            running.release();
+            running = granted.get(i);
+            order.add(running.getPriority());
+        }
+        return order;
+    }
+
+    @Test
+    void strictModeAlwaysAdmitsHighestPriorityFirst() {
+        final PriorityAdmissionController controller = controller(1, AdmissionSchedulingMode.STRICT);
+        final PriorityAdmissionController.Permit holder = controller.acquire(RequestPriority.NORMAL).block(TIMEOUT);
+        final List<PriorityAdmissionController.Permit> granted = Collections.synchronizedList(new ArrayList<>());
+        for (final RequestPriority priority : Arrays.asList(RequestPriority.BULK, RequestPriority.NORMAL, RequestPriority.CRITICAL, RequestPriority.NORMAL, RequestPriority.CRITICAL)) {
+            enqueue(controller, priority, granted);
+        }
+        assertTrue(granted.isEmpty());
+
+        assertEquals(Arrays.asList(RequestPriority.CRITICAL, RequestPriority.CRITICAL, RequestPriority.NORMAL, RequestPriority.NORMAL, RequestPriority.BULK),
+                grantOneByOne(holder, granted, 5));
+    }
+
+    @Test
+    void weightedFairModeAdmitsByWeightRatio() {
+        final PriorityAdmissionController controller = controller(1, AdmissionSchedulingMode.WEIGHTED_FAIR);
+        final PriorityAdmissionController.Permit holder = controller.acquire(RequestPriority.NORMAL).block(TIMEOUT);
+        final List<PriorityAdmissionController.Permit> granted = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 30; i++) {
+            for (final RequestPriority priority : RequestPriority.values()) {
+                enqueue(controller, priority, granted);
+            }
+        }
+
+        // 기본 가중치 CRITICAL:NORMAL:BULK = 8:4:1, 모든 우선순위가 대기 중이면 13건마다 정확히 이 비율로 수락
+        final Map<RequestPriority, Integer> counts = new EnumMap<>(RequestPriority.class);
+        grantOneByOne(holder, granted, 26).forEach(priority -> counts.merge(priority, 1, Integer::sum));
+        assertEquals(16, counts.get(RequestPriority.CRITICAL));
+        assertEquals(8, counts.get(RequestPriority.NORMAL));
+        assertEquals(2, counts.get(RequestPriority.BULK));
+    }
+
+    @Test
+    void reservedPermitsAreNotTakenByOtherPriorities() {
+        final PriorityAdmissionController controller = new PriorityAdmissionController(AdmissionConfig.builder()
+                .maxConcurrency(3)
+                .reservedPermits(Collections.singletonMap(RequestPriority.CRITICAL, 1))
+                .build());
+        final List<PriorityAdmissionController.Permit> granted = Collections.synchronizedList(new ArrayList<>());
+        enqueue(controller, RequestPriority.NORMAL, granted);
+        enqueue(controller, RequestPriority.BULK, granted);
+        enqueue(controller, RequestPriority.NORMAL, granted);
+        // 공용 슬롯(2)이 차면 전용 슬롯이 비어 있어도 다른 우선순위는 기다린다.
+        assertEquals(2, granted.size());
+        assertEquals(1, controller.getMetrics().get(RequestPriority.NORMAL).getQueueDepth());
+
+        final PriorityAdmissionController.Permit critical = controller.acquire(RequestPriority.CRITICAL).block(TIMEOUT);
+        assertNotNull(critical);
+
+        // 전용 슬롯을 반환해도 다른 우선순위에 넘기지 않는다.
+        critical.release();
+        assertEquals(2, granted.size());
+
+        granted.get(0).release();
+        assertEquals(3, granted.size());
+        assertEquals(RequestPriority.NORMAL, granted.get(2).getPriority());
+    }
+
+    @Test
+    void rejectsWhenPriorityQueueIsFull() {
+        final PriorityAdmissionController controller = new PriorityAdmissionController(AdmissionConfig.builder().maxConcurrency(1).maxQueueDepth(1).build());
+        final PriorityAdmissionController.Permit holder = controller.acquire(RequestPriority.NORMAL).block(TIMEOUT);
+        final List<PriorityAdmissionController.Permit> granted = Collections.synchronizedList(new ArrayList<>());
+        enqueue(controller, RequestPriority.NORMAL, granted);
+
+        final ApiFailureException rejected = assertThrows(ApiFailureException.class, () -> controller.acquire(RequestPriority.NORMAL).block(TIMEOUT));
+        assertEquals(ApiResultCode.ADMISSION_REJECTED, rejected.getFailureResult().getResultCode());
+        assertEquals(1, controller.getMetrics().get(RequestPriority.NORMAL).getRejectedCount());
+
+        // 대기열 한도는 우선순위 별로 적용된다.
+        enqueue(controller, RequestPriority.BULK, granted);
+        assertEquals(1, controller.getMetrics().get(RequestPriority.BULK).getQueueDepth());
+        holder.release();
+        assertEquals(1, granted.size());
+    }
+
+    @Test
+    void releasesPermitWhenAdmittedRequestIsCancelled() {
+        final PriorityAdmissionController controller = controller(1, AdmissionSchedulingMode.WEIGHTED_FAIR);
+        final Disposable running = controller.admit(RequestPriority.NORMAL, Mono.never()).subscribe();
+        final List<PriorityAdmissionController.Permit> granted = Collections.synchronizedList(new ArrayList<>());
+        enqueue(controller, RequestPriority.BULK, granted);
+        assertTrue(granted.isEmpty());
+
+        running.dispose();
+        assertEquals(1, granted.size());
+        assertEquals(0, controller.getMetrics().get(RequestPriority.NORMAL).getInFlight());
+    }
+
+    @Test
+    void returnsPermitGrantedToCancelledWaiter() throws InterruptedException {
+        final PriorityAdmissionController controller = controller(1, AdmissionSchedulingMode.WEIGHTED_FAIR);
+        for (int i = 0; i < 500; i++) {
+            final PriorityAdmissionController.Permit holder = controller.acquire(RequestPriority.NORMAL).block(TIMEOUT);
+            final Disposable waiting = controller.admit(RequestPriority.CRITICAL, Mono.never()).subscribe();
+
+            // 수락과 취소가 동시에 일어나도 넘겨받은 슬롯은 반환된다.
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread releasing = new Thread(() -> {
+                awaitQuietly(start);
+                holder.release();
+            });
+            final Thread cancelling = new Thread(() -> {
+                awaitQuietly(start);
+                waiting.dispose();
+            });
+            releasing.start();
+            cancelling.start();
+            start.countDown();
+            releasing.join();
+            cancelling.join();
+
+            // 슬롯이 반환되었으면 대기 없이 바로 수락된다.
+            final List<PriorityAdmissionController.Permit> next = new ArrayList<>();
+            enqueue(controller, RequestPriority.BULK, next);
+            assertEquals(1, next.size(), "iteration " + i);
+            assertEquals(0, controller.getMetrics().get(RequestPriority.CRITICAL).getQueueDepth(), "iteration " + i);
+            next.get(0).release();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
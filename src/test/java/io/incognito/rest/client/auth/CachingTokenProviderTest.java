@@ -0,0 +1,175 @@
+package io.incognito.rest.client.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class CachingTokenProviderTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String SCOPE = TokenProvider.DEFAULT_SCOPE;
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private final MutableClock clock = new MutableClock();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private CachingTokenProvider<String> provider(final Function<Integer, Mono<IssuedToken<String>>> fetcher) {
+        return CachingTokenProvider.<String>builder()
+                .fetcher(scope -> fetcher.apply(fetches.incrementAndGet()))
+                .refreshAhead(Duration.ofSeconds(60))
+                .refreshBackoff(Duration.ofSeconds(1))
+                .clock(clock)
+                .build();
+    }
+
+    private static Mono<IssuedToken<String>> issued(final int fetch) {
+        return Mono.just(IssuedToken.expiresIn("token-" + fetch, Duration.ofSeconds(100)));
+    }
+
+    @Test
+    void sharesOneFetchBetweenConcurrentCallers() {
+        final Sinks.One<IssuedToken<String>> pending = Sinks.one();
+        final CachingTokenProvider<String> provider = provider(fetch -> pending.asMono());
+
+        final Mono<List<String>> tokens = Flux.range(0, 10).flatMap(i -> provider.getToken(SCOPE)).collectList().cache();
+        tokens.subscribe();
+        pending.tryEmitValue(IssuedToken.expiresIn("token", Duration.ofSeconds(100)));
+
+        assertEquals(10, tokens.block(TIMEOUT).stream().filter("token"::equals).count());
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void refreshesAheadOfExpiryWithoutBlockingCallers() {
+        final CachingTokenProvider<String> provider = provider(CachingTokenProviderTest::issued);
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+        assertEquals(1, fetches.get());
+
+        // 갱신 구간에서는 기존 인증 정보를 반환하고 백그라운드에서 갱신한다.
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+        assertEquals(2, fetches.get());
+        assertEquals("token-2", provider.getToken(SCOPE).block(TIMEOUT));
+    }
+
+    @Test
+    void invalidatesOnlyTheRejectedToken() {
+        final CachingTokenProvider<String> provider = provider(CachingTokenProviderTest::issued);
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+
+        provider.invalidate(SCOPE, "token-0");
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+
+        provider.invalidate(SCOPE, "token-1");
+        assertEquals("token-2", provider.getToken(SCOPE).block(TIMEOUT));
+        assertEquals(2, fetches.get());
+    }
+
+    @Test
+    void backsOffBetweenFailedBackgroundRefreshes() {
+        final CachingTokenProvider<String> provider = provider(fetch -> fetch == 1 ? issued(fetch) : Mono.error(new IllegalStateException("token endpoint down")));
+        provider.getToken(SCOPE).block(TIMEOUT);
+
+        clock.advance(Duration.ofSeconds(50));
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+        assertEquals(2, fetches.get());
+
+        // 실패 직후에는 다시 갱신하지 않는다. (1초, 2초, ... 대기)
+        assertEquals("token-1", provider.getToken(SCOPE).block(TIMEOUT));
+        assertEquals(2, fetches.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        provider.getToken(SCOPE).block(TIMEOUT);
+        assertEquals(3, fetches.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        provider.getToken(SCOPE).block(TIMEOUT);
+        assertEquals(3, fetches.get());
+
+        clock.advance(Duration.ofSeconds(1));
+        provider.getToken(SCOPE).block(TIMEOUT);
+        assertEquals(4, fetches.get());
+    }
+
+    private static EmptyOrStringBodyResponse event(final ApiResultCode resultCode, final HttpStatus status) {
+        final EmptyOrStringBodyResponse response = new EmptyOrStringBodyResponse();
+        response.setApiResult(ApiResult.builder().resultCode(resultCode).status(status).build());
+        return response;
+    }
+
+    @Test
+    void reconnectsStreamOnceWithAFreshTokenAfter401() {
+        final CachingTokenProvider<String> provider = provider(CachingTokenProviderTest::issued);
+        final AtomicInteger connects = new AtomicInteger();
+        final Function<String, Flux<EmptyOrStringBodyResponse>> connect = token -> {
+            connects.incrementAndGet();
+            return "token-1".equals(token)
+                    ? Flux.just(event(ApiResultCode.INVALID_AUTH, HttpStatus.UNAUTHORIZED))
+                    : Flux.just(event(ApiResultCode.SUCCESS, HttpStatus.OK), event(ApiResultCode.SUCCESS, HttpStatus.OK));
+        };
+
+        final List<EmptyOrStringBodyResponse> events = provider.exchangeMany(SCOPE, connect).collectList().block(TIMEOUT);
+        assertEquals(2, events.size());
+        assertTrue(events.stream().allMatch(EmptyOrStringBodyResponse::isSuccess));
+        assertEquals(2, connects.get());
+    }
+
+    @Test
+    void passesTheSecondRejectionThrough() {
+        final CachingTokenProvider<String> provider = provider(CachingTokenProviderTest::issued);
+        final AtomicInteger connects = new AtomicInteger();
+
+        final List<EmptyOrStringBodyResponse> events = provider.exchangeMany(SCOPE, token -> {
+            connects.incrementAndGet();
+            return Flux.just(event(ApiResultCode.INVALID_AUTH, HttpStatus.UNAUTHORIZED));
+        }).collectList().block(TIMEOUT);
+
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).isSuccess());
+        assertEquals(2, connects.get());
+        assertEquals(2, fetches.get());
+    }
+}
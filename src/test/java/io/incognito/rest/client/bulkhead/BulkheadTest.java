@@ -0,0 +1,169 @@
+package io.incognito.rest.client.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.incognito.rest.client.config.HttpClientConfigurer;
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.stub.StubClientExecutor;
+import io.incognito.rest.client.stub.StubResponse;
+import io.incognito.rest.client.stub.StubRoute;
+import io.incognito.rest.client.stub.StubScenario;
+import io.incognito.rest.client.stub.StubServer;
+import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.resources.ConnectionProvider;
+
+class BulkheadTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+
+    private Bulkhead bulkhead(final int maxConcurrency, final int maxQueueDepth) {
+        final BulkheadConfig config = BulkheadConfig.builder().name("test").maxConcurrency(maxConcurrency).maxQueueDepth(maxQueueDepth).build();
+        final Bulkhead bulkhead = new Bulkhead(config, ConnectionProvider.create("bulkhead-test", 1), null);
+        bulkheads.add(bulkhead);
+        return bulkhead;
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkheads.forEach(Bulkhead::dispose);
+    }
+
+    @Test
+    void rejectsZeroConcurrency() {
+        final BulkheadConfig config = BulkheadConfig.builder().name("test").maxQueueDepth(10).build();
+        final ConnectionProvider connectionProvider = ConnectionProvider.create("bulkhead-test", 1);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> new Bulkhead(config, connectionProvider, null));
+        } finally {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    void rejectsWhenSlotsAndQueueAreFull() {
+        final Bulkhead bulkhead = bulkhead(1, 1);
+        final Sinks.One<String> first = Sinks.one();
+        final List<String> results = Collections.synchronizedList(new ArrayList<>());
+        bulkhead.execute(first.asMono()).subscribe(results::add);
+        bulkhead.execute(Mono.just("queued")).subscribe(results::add);
+        assertEquals(1, bulkhead.getInFlight());
+        assertEquals(1, bulkhead.getQueueDepth());
+
+        final ApiFailureException rejected = assertThrows(ApiFailureException.class, () -> bulkhead.execute(Mono.just("rejected")).block(TIMEOUT));
+        assertEquals(ApiResultCode.BULKHEAD_FULL, rejected.getFailureResult().getResultCode());
+        assertEquals(1, bulkhead.getRejectedCount());
+
+        first.tryEmitValue("first");
+        assertEquals(2, results.size());
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    void handsSlotToQueuedRequestsInOrder() {
+        final Bulkhead bulkhead = bulkhead(1, 2);
+        final Sinks.One<String> first = Sinks.one();
+        final Sinks.One<String> second = Sinks.one();
+        final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        bulkhead.execute(first.asMono().doOnSubscribe(s -> started.add("first"))).subscribe();
+        bulkhead.execute(second.asMono().doOnSubscribe(s -> started.add("second"))).subscribe();
+        bulkhead.execute(Mono.just("third").doOnSubscribe(s -> started.add("third"))).subscribe();
+        assertEquals(Collections.singletonList("first"), started);
+
+        // 슬롯을 반환하면 동시 수행 수를 줄이지 않고 먼저 기다린 요청에 넘긴다.
+        first.tryEmitValue("first");
+        assertEquals(Arrays.asList("first", "second"), started);
+        assertEquals(1, bulkhead.getInFlight());
+        assertEquals(1, bulkhead.getQueueDepth());
+
+        second.tryEmitValue("second");
+        assertEquals(Arrays.asList("first", "second", "third"), started);
+        assertEquals(0, bulkhead.getInFlight());
+        assertEquals(3, bulkhead.getAdmittedCount());
+    }
+
+    @Test
+    void removesCancelledRequestFromQueue() {
+        final Bulkhead bulkhead = bulkhead(1, 1);
+        final Sinks.One<String> first = Sinks.one();
+        final List<String> started = Collections.synchronizedList(new ArrayList<>());
+        bulkhead.execute(first.asMono()).subscribe();
+        final Disposable queued = bulkhead.execute(Mono.just("cancelled").doOnSubscribe(s -> started.add("cancelled"))).subscribe();
+
+        queued.dispose();
+        assertEquals(0, bulkhead.getQueueDepth());
+        // 취소한 요청 자리에 다른 요청이 대기할 수 있다.
+        bulkhead.execute(Mono.just("next").doOnSubscribe(s -> started.add("next"))).subscribe();
+        assertEquals(1, bulkhead.getQueueDepth());
+
+        first.tryEmitValue("first");
+        assertEquals(Collections.singletonList("next"), started);
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    void rejectsRequestWhoseWebClientUsesAnotherPool() {
+        final StubScenario scenario = StubScenario.builder()
+                .route(StubRoute.builder().path("/ok").response(StubResponse.builder().status(200).body("ok").build()).build())
+                .build();
+        final HttpClientConfigurer configurer = new HttpClientConfigurer(5, 5, 5, 1024 * 1024, 10) {
+            @Override
+            public ConnectionObserver connectionObserver() {
+                return (connection, newState) -> { };
+            }
+
+            @Override
+            public ObjectMapper webClientObjectMapper() {
+                return new ObjectMapper();
+            }
+
+            @Override
+            public List<BulkheadConfig> bulkheadConfigs() {
+                return Collections.singletonList(BulkheadConfig.builder().name("isolated").maxConcurrency(2).build());
+            }
+        };
+        try (StubServer server = StubServer.start(scenario)) {
+            final Bulkhead isolated = configurer.bulkhead("isolated");
+            final StubClientExecutor matching = new StubClientExecutor(configurer.apiWebClient("isolated", null, null).mutate().baseUrl(server.getBaseUrl()).build(), HttpMethod.GET, "/ok") {
+                @Override
+                public Bulkhead getBulkhead() {
+                    return isolated;
+                }
+            };
+            final StubClientExecutor mismatched = new StubClientExecutor(configurer.apiWebClient(null, null).mutate().baseUrl(server.getBaseUrl()).build(), HttpMethod.GET, "/ok") {
+                @Override
+                public Bulkhead getBulkhead() {
+                    return isolated;
+                }
+            };
+
+            assertTrue(matching.executeAsync(EmptyOrStringBodyResponse.class, 0, null).block(TIMEOUT).isSuccess());
+            final EmptyOrStringBodyResponse rejected = mismatched.executeAsync(EmptyOrStringBodyResponse.class, 0, null).block(TIMEOUT);
+            assertFalse(rejected.isSuccess());
+            assertTrue(rejected.getApiResult().getFailureMessage().contains("isolated"), rejected.getApiResult().getFailureMessage());
+            assertEquals(1, server.getConnectionCount());
+        } finally {
+            configurer.dispose();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.incognito.rest.client.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.incognito.rest.client.bulkhead.BulkheadConfig;
+import io.incognito.rest.client.stub.LatencySpec;
+import io.incognito.rest.client.stub.StubResponse;
+import io.incognito.rest.client.stub.StubRoute;
+import io.incognito.rest.client.stub.StubScenario;
+import io.incognito.rest.client.stub.StubServer;
+import reactor.core.publisher.Flux;
+import reactor.netty.ConnectionObserver;
+
+class HttpClientConfigurerWarmUpTest {
+    private static final int CONNECTIONS = 3;
+
+    private StubServer server;
+    private HttpClientConfigurer configurer;
+
+    @BeforeEach
+    void setUp() {
+        server = StubServer.start(StubScenario.builder()
+                .route(StubRoute.builder().path("/ok").response(StubResponse.builder().status(200).body("ok").build()).latency(LatencySpec.fixed(100)).build())
+                .build());
+        configurer = new HttpClientConfigurer(5, 5, 5, 1024 * 1024, 10) {
+            @Override
+            public ConnectionObserver connectionObserver() {
+                return (connection, newState) -> { };
+            }
+
+            @Override
+            public ObjectMapper webClientObjectMapper() {
+                return new ObjectMapper();
+            }
+
+            @Override
+            public List<BulkheadConfig> bulkheadConfigs() {
+                return Collections.singletonList(BulkheadConfig.builder().name("isolated").maxConcurrency(CONNECTIONS).maxConnections(CONNECTIONS).build());
+            }
+
+            @Override
+            public List<WarmUpTarget> warmUpTargets() {
+                return Arrays.asList(
+                        WarmUpTarget.builder().url(server.getBaseUrl() + "/ok").method(HttpMethod.GET).connections(CONNECTIONS).build(),
+                        WarmUpTarget.builder().url(server.getBaseUrl() + "/ok").method(HttpMethod.GET).connections(CONNECTIONS).bulkhead("isolated").build());
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        configurer.dispose();
+        server.close();
+    }
+
+    private void callConcurrently(final WebClient webClient) {
+        Flux.range(0, CONNECTIONS)
+                .flatMap(i -> webClient.get().uri(server.getBaseUrl() + "/ok").retrieve().bodyToMono(String.class))
+                .then()
+                .block(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void webClientReusesWarmedConnections() {
+        configurer.warmUp().block(Duration.ofSeconds(10));
+        assertEquals(CONNECTIONS * 2, server.getConnectionCount());
+
+        callConcurrently(configurer.apiWebClient(null, null));
+        callConcurrently(configurer.apiWebClient("isolated", null, null));
+
+        assertEquals(CONNECTIONS * 2, server.getConnectionCount());
+    }
+}
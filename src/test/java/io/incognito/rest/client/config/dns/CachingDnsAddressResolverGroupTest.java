@@ -0,0 +1,77 @@
+package io.incognito.rest.client.config.dns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.incognito.rest.client.stub.StubDnsServer;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.util.concurrent.GlobalEventExecutor;
+
+class CachingDnsAddressResolverGroupTest {
+    private StubDnsServer dns;
+    private CachingDnsAddressResolverGroup group;
+    private AddressResolver<InetSocketAddress> resolver;
+
+    @BeforeEach
+    void setUp() {
+        dns = StubDnsServer.start()
+                .answer("api.test", "10.0.0.1", 60)
+                .answer("short.test", "10.0.0.2", 0);
+        group = new CachingDnsAddressResolverGroup(DnsResolverConfig.builder()
+                .nameServers(Collections.singletonList(dns.getAddress()))
+                .resolvedAddressTypes(ResolvedAddressTypes.IPV4_ONLY)
+                .build());
+        resolver = group.getResolver(GlobalEventExecutor.INSTANCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        group.close();
+        dns.close();
+    }
+
+    private InetSocketAddress resolve(final String hostname) throws Exception {
+        return resolver.resolve(InetSocketAddress.createUnresolved(hostname, 443)).get();
+    }
+
+    @Test
+    void cachesAnswerWithinTtl() throws Exception {
+        assertEquals("10.0.0.1", resolve("api.test").getAddress().getHostAddress());
+        assertEquals("10.0.0.1", resolve("API.test").getAddress().getHostAddress());
+
+        assertEquals(1, dns.getQueryCount("api.test"));
+        assertEquals(1, group.getMetrics().getMissCount());
+        assertEquals(1, group.getMetrics().getHitCount());
+    }
+
+    @Test
+    void appliesMinimumTtlToZeroTtlAnswers() throws Exception {
+        resolve("short.test");
+        resolve("short.test");
+
+        assertEquals(1, dns.getQueryCount("short.test"));
+    }
+
+    @Test
+    void cachesNegativeAnswers() {
+        final ExecutionException first = assertThrows(ExecutionException.class, () -> resolve("missing.test"));
+        final int queried = dns.getQueryCount("missing.test");
+        final ExecutionException second = assertThrows(ExecutionException.class, () -> resolve("missing.test"));
+
+        assertInstanceOf(UnknownHostException.class, first.getCause());
+        assertInstanceOf(UnknownHostException.class, second.getCause());
+        assertEquals(queried, dns.getQueryCount("missing.test"));
+        assertEquals(1, group.getMetrics().getNegativeHitCount());
+    }
+}
@@ -0,0 +1,118 @@
+package io.incognito.rest.client.declarative.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+import javax.tools.JavaFileObject;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+
+class DeclarativeClientProcessorTest {
+    private static final JavaFileObject BASE_API = JavaFileObjects.forSourceLines("demo.BaseApi",
+            "package demo;",
+            "",
+            "import io.incognito.rest.client.declarative.PathParam;",
+            "import io.incognito.rest.client.declarative.Request;",
+            "import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;",
+            "import reactor.core.publisher.Mono;",
+            "",
+            "public interface BaseApi<ID> {",
+            "    @Request(path = \"/items/{id}\")",
+            "    Mono<EmptyOrStringBodyResponse> get(@PathParam(\"id\") ID id);",
+            "}");
+
+    @Test
+    void implementsInheritedMethods() {
+        final Compilation compilation = compile(BASE_API, JavaFileObjects.forSourceLines("demo.ItemApi",
+                "package demo;",
+                "",
+                "import io.incognito.rest.client.declarative.DeclarativeClient;",
+                "import io.incognito.rest.client.declarative.Request;",
+                "import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;",
+                "import reactor.core.publisher.Mono;",
+                "",
+                "@DeclarativeClient",
+                "public interface ItemApi extends BaseApi<Long> {",
+                "    @Request(path = \"/items\")",
+                "    Mono<EmptyOrStringBodyResponse> list();",
+                "",
+                "    default String name() {",
+                "        return \"items\";",
+                "    }",
+                "}"));
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("demo.ItemApiImpl")
+                .contentsAsUtf8String()
+                .contains("get(final java.lang.Long id)");
+    }
+
+    @Test
+    void rejectsPathVariableWithoutPathParam() {
+        final Compilation compilation = compile(JavaFileObjects.forSourceLines("demo.UserApi",
+                "package demo;",
+                "",
+                "import io.incognito.rest.client.declarative.DeclarativeClient;",
+                "import io.incognito.rest.client.declarative.PathParam;",
+                "import io.incognito.rest.client.declarative.Request;",
+                "import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;",
+                "import reactor.core.publisher.Mono;",
+                "",
+                "@DeclarativeClient",
+                "public interface UserApi {",
+                "    @Request(path = \"/users/{userId}\")",
+                "    Mono<EmptyOrStringBodyResponse> get(@PathParam(\"id\") long id);",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Path variable {userId} in '/users/{userId}' has no matching @PathParam.");
+    }
+
+    @Test
+    void rejectsPathParamWithoutPathVariable() {
+        final Compilation compilation = compile(JavaFileObjects.forSourceLines("demo.UserApi",
+                "package demo;",
+                "",
+                "import io.incognito.rest.client.declarative.DeclarativeClient;",
+                "import io.incognito.rest.client.declarative.PathParam;",
+                "import io.incognito.rest.client.declarative.Request;",
+                "import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;",
+                "import reactor.core.publisher.Mono;",
+                "",
+                "@DeclarativeClient",
+                "public interface UserApi {",
+                "    @Request(path = \"/users\")",
+                "    Mono<EmptyOrStringBodyResponse> get(@PathParam(\"id\") long id);",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("@PathParam(\"id\") does not match any path variable in '/users'.");
+    }
+
+    @Test
+    void rejectsHeaderWithoutSeparator() {
+        final Compilation compilation = compile(JavaFileObjects.forSourceLines("demo.UserApi",
+                "package demo;",
+                "",
+                "import io.incognito.rest.client.declarative.DeclarativeClient;",
+                "import io.incognito.rest.client.declarative.Request;",
+                "import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;",
+                "import reactor.core.publisher.Mono;",
+                "",
+                "@DeclarativeClient",
+                "public interface UserApi {",
+                "    @Request(path = \"/users\", headers = {\"Accept: application/json\", \"X-Trace-Id\"})",
+                "    Mono<EmptyOrStringBodyResponse> list();",
+                "}"));
+
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Invalid header 'X-Trace-Id' in @Request (expected \"Name: value\").");
+    }
+
+    private static Compilation compile(final JavaFileObject... sources) {
+        return javac().withProcessors(new DeclarativeClientProcessor()).compile(sources);
+    }
+}
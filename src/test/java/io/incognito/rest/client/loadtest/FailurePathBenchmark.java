@@ -0,0 +1,112 @@
+package io.incognito.rest.client.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.incognito.rest.client.IHttpRequest;
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.helper.ClientResponseProcessor;
+import io.incognito.rest.client.lb.Endpoint;
+import io.incognito.rest.client.paging.PageRequest;
+import io.incognito.rest.client.stub.StubClientExecutor;
+import io.incognito.rest.client.stub.StubResponse;
+import io.incognito.rest.client.stub.StubRoute;
+import io.incognito.rest.client.stub.StubScenario;
+import io.incognito.rest.client.stub.StubServer;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.ClientContextImpl;
+import io.incognito.rest.client.types.dto.Deadline;
+import io.incognito.rest.client.types.dto.ResponseType;
+import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
+import io.incognito.rest.client.types.dto.response.IBaseResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.LoadModel;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 4xx, 5xx 실패 응답 처리 비용 측정 (같은 503 경로에서 이전 처리 방식과 현재 처리 방식 비교)
+ * - 이전: Stack trace 를 채우는 예외, 즉시 생성하는 실패 메시지(String.format), 재시도 횟수 0 에도 Retry.backoff 적용 후 응답 객체로 변환
+ * - 현재: 재시도하지 않으면 예외 없이 응답 객체로 전달, 실패 메시지는 읽는 시점에 생성
+ * 결과는 표로 출력한다. (mvn test -Pbenchmark)
+ */
+@Tag("benchmark")
+class FailurePathBenchmark {
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration", 5L));
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+
+    @Test
+    void failureResponsesWithoutRetry() {
+        final StubScenario scenario = StubScenario.builder()
+                .route(StubRoute.builder().path("/fail").response(StubResponse.builder().status(503).body("{\"message\":\"unavailable\"}").build()).build())
+                .build();
+        try (StubServer server = StubServer.start(scenario)) {
+            final LoadTestReport legacy = measure(new LegacyFailurePathExecutor(server, "/fail"));
+            final LoadTestReport current = measure(new StubClientExecutor(server, "/fail"));
+            System.out.println("[503 Service Unavailable, retryCount=0, before: stackful exception + String.format + Retry.backoff]\n" + legacy.toTable());
+            System.out.println("[503 Service Unavailable, retryCount=0, after: response object + lazy message + no Retry]\n" + current.toTable());
+            System.out.printf("after/before throughput ratio: %.2f%n", current.getThroughputPerSecond() / legacy.getThroughputPerSecond());
+
+            assertEquals(Collections.singleton(ApiResultCode.INVALID_RESPONSE.name()), legacy.getHistograms().keySet());
+            assertEquals(Collections.singleton(ApiResultCode.INVALID_RESPONSE.name()), current.getHistograms().keySet());
+            assertTrue(current.getTotal().getTotalCount() > 0);
+        }
+    }
+
+    private static LoadTestReport measure(final StubClientExecutor executor) {
+        final LoadGenerator.LoadGeneratorBuilder generator = LoadGenerator.builder()
+                .call(() -> executor.executeAsync(EmptyOrStringBodyResponse.class, 0, null))
+                .model(LoadModel.CLOSED_CONCURRENCY)
+                .concurrency(CONCURRENCY);
+        // Warm-up (JIT, Connection Pool)
+        generator.duration(Duration.ofSeconds(1)).build().run().block();
+        return generator.duration(DURATION).build().run().block();
+    }
+
+    /**
+     * 이전 실패 응답 처리 방식으로 응답을 변환하는 Executor (요청 전송, 요청 설정은 현재 방식과 동일)
+     */
+    private static class LegacyFailurePathExecutor extends StubClientExecutor {
+        private static final Duration RETRY_MIN_BACKOFF = Duration.ofSeconds(1);
+
+        private LegacyFailurePathExecutor(final StubServer server, final String url) {
+            super(server, url);
+        }
+
+        @Override
+        public <RESP extends IBaseResponse> Mono<RESP> exchangeOnce(final Function<WebClient.RequestBodySpec, ? extends WebClient.RequestHeadersSpec<?>> customizer, final Endpoint endpoint, final PageRequest page, final String auth, final Deadline deadline, final ClientContextImpl<IHttpRequest<String>> context, final ResponseType<RESP> responseType, final Integer retryCount) {
+            return customizer.apply(authorizedBuilder(auth, endpoint, page))
+                    .exchangeToMono(clientResponse -> handleResponse(clientResponse, responseType.getRawClass(), retryCount));
+        }
+
+        private static <RESP extends IBaseResponse> Mono<RESP> handleResponse(final ClientResponse clientResponse, final Class<RESP> responseType, final Integer retryCount) {
+            final HttpStatus status = clientResponse.statusCode();
+            final MultiValueMap<String, String> responseHeaders = clientResponse.headers().asHttpHeaders();
+            return clientResponse.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .flatMap(body -> {
+                        final ApiResult result = ClientResponseProcessor.setupApiResult(status, responseHeaders);
+                        result.setFailureDetail(body.isEmpty() ? null : body);
+                        result.setFailureMessage(String.format("Failed to call API. Status Code: [%d] %s", status.value(), status.getReasonPhrase()));
+                        return Mono.<RESP>error(new ApiFailureException(result));
+                    })
+                    .retryWhen(Retry.backoff(Math.max(0, retryCount == null ? 0 : retryCount), RETRY_MIN_BACKOFF)
+                            .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()))
+                    .onErrorResume(ApiFailureException.class, throwable -> ClientResponseProcessor.createResponseInstance(responseType, status, responseHeaders).map(responseInstance -> {
+                        responseInstance.setApiResult(throwable.getFailureResult());
+                        return responseInstance;
+                    }));
+        }
+    }
+}
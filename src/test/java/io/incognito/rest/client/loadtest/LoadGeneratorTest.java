@@ -0,0 +1,61 @@
+package io.incognito.rest.client.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import reactor.core.publisher.Mono;
+
+class LoadGeneratorTest {
+    private static EmptyOrStringBodyResponse success() {
+        final EmptyOrStringBodyResponse response = new EmptyOrStringBodyResponse();
+        response.setApiResult(ApiResult.builder().resultCode(ApiResultCode.SUCCESS).build());
+        return response;
+    }
+
+    @Test
+    void rejectsInvalidRate() {
+        for (final double rate : new double[]{0, -1, Double.NaN, Double.POSITIVE_INFINITY}) {
+            final LoadGenerator generator = LoadGenerator.builder().call(() -> Mono.just(success())).ratePerSecond(rate).build();
+            assertThrows(IllegalArgumentException.class, generator::run, "rate: " + rate);
+        }
+    }
+
+    @Test
+    void schedulesRatesAboveOneBillionPerSecond() {
+        final LoadTestReport report = LoadGenerator.builder()
+                .call(() -> Mono.just(success()))
+                .ratePerSecond(2e9)
+                .duration(Duration.ofNanos(50_000))
+                .build()
+                .run()
+                .block(Duration.ofSeconds(30));
+
+        assertEquals(100_000, report.getTotal().getTotalCount());
+        assertEquals(0, report.getDropped());
+    }
+
+    @Test
+    void reportsDroppedRequestsNextToPercentiles() {
+        final LoadTestReport report = LoadGenerator.builder()
+                .call(() -> Mono.delay(Duration.ofMillis(500)).thenReturn(success()))
+                .ratePerSecond(1000)
+                .maxOutstanding(1)
+                .duration(Duration.ofMillis(100))
+                .build()
+                .run()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(1, report.getTotal().getTotalCount());
+        assertEquals(99, report.getDropped());
+        assertEquals(0.99, report.getDroppedRatio(), 1e-9);
+        assertTrue(report.toTable().contains("DROPPED"), report.toTable());
+    }
+}
@@ -0,0 +1,107 @@
+package io.incognito.rest.client.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.incognito.rest.client.config.HttpClientConfigurer;
+import io.incognito.rest.client.config.tls.SslConfig;
+import io.incognito.rest.client.stub.StubClientExecutor;
+import io.incognito.rest.client.stub.StubResponse;
+import io.incognito.rest.client.stub.StubRoute;
+import io.incognito.rest.client.stub.StubScenario;
+import io.incognito.rest.client.stub.StubServer;
+import io.incognito.rest.client.types.dto.response.EmptyOrStringBodyResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import io.incognito.rest.client.types.enums.LoadModel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslProvider;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Connection 을 재사용하지 않을 때(요청마다 TLS Handshake) Provider 별 처리량 측정
+ * JDK Provider 와 OpenSSL Provider (netty-tcnative 가 있을 때만) 를 비교하며, 결과는 표로 출력한다. (mvn test -Pbenchmark)
+ */
+@Tag("benchmark")
+class TlsHandshakeBenchmark {
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration", 5L));
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 16);
+
+    @Test
+    void handshakePerRequest() {
+        final StubScenario scenario = StubScenario.builder()
+                .tls(true)
+                .route(StubRoute.builder().path("/ok").response(StubResponse.builder().status(200).body("{\"message\":\"ok\"}").build()).build())
+                .build();
+        try (StubServer server = StubServer.start(scenario)) {
+            measure(server, SslProvider.JDK);
+            if (OpenSsl.isAvailable()) {
+                measure(server, SslProvider.OPENSSL);
+            } else {
+                System.out.println("[OPENSSL] skipped: " + OpenSsl.unavailabilityCause());
+            }
+        }
+    }
+
+    private static void measure(final StubServer server, final SslProvider provider) {
+        final HttpClientConfigurer configurer = new NewConnectionConfigurer(provider);
+        try {
+            final StubClientExecutor executor = new StubClientExecutor(configurer.apiWebClient(Collections.emptyList(), Collections.emptyList()).mutate().baseUrl(server.getBaseUrl()).build(), HttpMethod.GET, "/ok");
+            final LoadGenerator.LoadGeneratorBuilder generator = LoadGenerator.builder()
+                    .call(() -> executor.executeAsync(EmptyOrStringBodyResponse.class, 0, null))
+                    .model(LoadModel.CLOSED_CONCURRENCY)
+                    .concurrency(CONCURRENCY);
+            // Warm-up (JIT)
+            generator.duration(Duration.ofSeconds(1)).build().run().block();
+            final LoadTestReport report = generator.duration(DURATION).build().run().block();
+            System.out.println("[" + provider + ", new connection per request]\n" + report.toTable());
+            System.out.printf("full handshakes=%d resumed=%d failed=%d%n", configurer.tlsHandshakeMetrics().getFullHandshakeCount(), configurer.tlsHandshakeMetrics().getResumedHandshakeCount(), configurer.tlsHandshakeMetrics().getFailedHandshakeCount());
+
+            assertEquals(Collections.singleton(ApiResultCode.SUCCESS.name()), report.getHistograms().keySet());
+            assertTrue(report.getTotal().getTotalCount() > 0);
+        } finally {
+            configurer.dispose();
+        }
+    }
+
+    /**
+     * 요청마다 새 Connection 을 맺는 Configurer (자체 서명 인증서를 신뢰)
+     */
+    private static class NewConnectionConfigurer extends HttpClientConfigurer {
+        private final SslProvider provider;
+
+        private NewConnectionConfigurer(final SslProvider provider) {
+            super(5, 5, 5, 1024 * 1024, CONCURRENCY);
+            this.provider = provider;
+        }
+
+        @Override
+        public ConnectionObserver connectionObserver() {
+            return ConnectionObserver.emptyListener();
+        }
+
+        @Override
+        public ObjectMapper webClientObjectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Override
+        public SslConfig sslConfig() {
+            return SslConfig.builder().provider(provider).fallbackToJdk(false).insecureTrustAll(true).build();
+        }
+
+        @Override
+        public ConnectionProvider httpConnectionPool() {
+            return ConnectionProvider.newConnection();
+        }
+    }
+}
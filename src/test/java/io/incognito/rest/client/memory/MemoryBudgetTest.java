@@ -0,0 +1,166 @@
+package io.incognito.rest.client.memory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+class MemoryBudgetTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static MemoryBudget budget(final long maxBytes, final double watermark) {
+        return new MemoryBudget(MemoryBudgetConfig.builder().maxBytes(maxBytes).admissionWatermark(watermark).maxWait(Duration.ofSeconds(10)).build());
+    }
+
+    private static DataBuffer buffer(final int bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(new byte[bytes]);
+    }
+
+    private static long consume(final ClientResponse clientResponse) {
+        return clientResponse.body(BodyExtractors.toDataBuffers())
+                .map(buffer -> {
+                    final int bytes = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return (long) bytes;
+                })
+                .reduce(0L, Long::sum)
+                .block(TIMEOUT);
+    }
+
+    @Test
+    void admitsNewRequestsOnlyBelowWatermark() {
+        final MemoryBudget budget = budget(100, 0.5);
+        budget.reserve(60).block(TIMEOUT);
+
+        final List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+        budget.admit().subscribe(null, null, () -> admitted.add("admitted"));
+        assertTrue(admitted.isEmpty());
+        assertEquals(1, budget.getWaitingAdmissions());
+
+        // 사용량 50 은 수락 기준(50) 이상이므로 계속 대기
+        budget.release(10);
+        assertTrue(admitted.isEmpty());
+
+        budget.release(10);
+        assertEquals(Collections.singletonList("admitted"), admitted);
+        assertEquals(0, budget.getWaitingAdmissions());
+        assertEquals(1, budget.getDelayedCount());
+    }
+
+    @Test
+    void grantsReadWaitersInOrderBeforeAdmissions() {
+        final MemoryBudget budget = budget(100, 0.9);
+        budget.reserve(100).block(TIMEOUT);
+
+        final List<String> granted = Collections.synchronizedList(new ArrayList<>());
+        budget.reserve(50).subscribe(null, null, () -> granted.add("read-50"));
+        budget.reserve(30).subscribe(null, null, () -> granted.add("read-30"));
+        budget.admit().subscribe(null, null, () -> granted.add("admission"));
+        assertEquals(2, budget.getWaitingReads());
+
+        // 먼저 기다린 읽기(50)가 들어갈 수 없으면 뒤의 읽기(30)도 앞지르지 않는다.
+        budget.release(40);
+        assertTrue(granted.isEmpty());
+
+        budget.release(60);
+        assertEquals(Arrays.asList("read-50", "read-30", "admission"), granted);
+        assertEquals(80, budget.getUsedBytes());
+    }
+
+    @Test
+    void returnsBytesGrantedToCancelledWaiters() throws InterruptedException {
+        final MemoryBudget budget = budget(100, 1.0);
+        for (int i = 0; i < 500; i++) {
+            final MemoryBudget.Lease holder = budget.lease();
+            holder.reserve(100).block(TIMEOUT);
+            final MemoryBudget.Lease waiter = budget.lease();
+            final Disposable waiting = waiter.reserve(60).subscribe();
+
+            // 예약을 넘겨받는 것과 취소가 동시에 일어나도 예약한 바이트는 한 번만 반환된다.
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread releasing = new Thread(() -> {
+                awaitQuietly(start);
+                holder.close();
+            });
+            final Thread cancelling = new Thread(() -> {
+                awaitQuietly(start);
+                waiting.dispose();
+            });
+            releasing.start();
+            cancelling.start();
+            start.countDown();
+            releasing.join();
+            cancelling.join();
+            waiter.close();
+
+            assertEquals(0, budget.getUsedBytes(), "iteration " + i);
+            assertEquals(0, budget.getWaitingReads(), "iteration " + i);
+        }
+    }
+
+    @Test
+    void excludesRequestsOwnHoldsFromItsReservations() {
+        final MemoryBudget budget = budget(100, 1.0);
+        final MemoryBudget.Lease lease = budget.lease();
+        lease.reserve(80).block(TIMEOUT);
+
+        // 같은 요청(하위 Lease)의 응답 Body 예약은 요청 Body 예약에 막히지 않는다.
+        final MemoryBudget.Lease child = lease.child();
+        child.reserve(90).block(TIMEOUT);
+        assertEquals(170, budget.getUsedBytes());
+
+        child.close();
+        lease.close();
+        assertEquals(0, budget.getUsedBytes());
+    }
+
+    @Test
+    void tracksOnlyTheCappedPartOfLargeBodies() {
+        final MemoryBudget budget = budget(1_000, 1.0);
+        final MemoryBudget.Lease lease = budget.lease();
+        final ClientResponse sized = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_LENGTH, "5000")
+                .body(Flux.range(0, 5).map(i -> buffer(1_000)))
+                .build();
+
+        // 예산(1000)보다 큰 Body 도 임계값(300)까지만 예약하므로 거절되지 않는다.
+        assertEquals(5_000, consume(lease.track(sized, 300)));
+        assertEquals(300, budget.getUsedBytes());
+        lease.close();
+
+        final MemoryBudget.Lease chunkedLease = budget.lease();
+        final ClientResponse chunked = ClientResponse.create(HttpStatus.OK)
+                .body(Flux.range(0, 5).map(i -> buffer(200)))
+                .build();
+        assertEquals(1_000, consume(chunkedLease.track(chunked, 300)));
+        assertEquals(300, budget.getUsedBytes());
+        chunkedLease.close();
+        assertEquals(0, budget.getUsedBytes());
+        assertEquals(0, budget.getRejectedCount());
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.incognito.rest.client.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import io.incognito.rest.client.exceptions.ApiFailureException;
+import io.incognito.rest.client.types.dto.ApiResult;
+import io.incognito.rest.client.types.dto.response.ListResponse;
+import io.incognito.rest.client.types.enums.ApiResultCode;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PaginatorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static class CursorPage extends ListResponse<Integer> {
+        private String nextCursor;
+    }
+
+    private static <R extends ListResponse<Integer>> R page(final R response, final MultiValueMap<String, String> headers, final Integer... items) {
+        response.setList(new ArrayList<>(Arrays.asList(items)));
+        response.setApiResult(ApiResult.builder().resultCode(ApiResultCode.SUCCESS).responseHeaders(headers).build());
+        return response;
+    }
+
+    private static ListResponse<Integer> page(final Integer... items) {
+        return page(new ListResponse<>(), null, items);
+    }
+
+    private static ListResponse<Integer> failure() {
+        final ListResponse<Integer> response = new ListResponse<>();
+        response.setApiResult(ApiResult.builder().resultCode(ApiResultCode.INVALID_SYSTEM).failureMessage("page failed").build());
+        return response;
+    }
+
+    private static int position(final PageRequest request, final String param) {
+        return Integer.parseInt(request.getQueryParams().getFirst(param));
+    }
+
+    @Test
+    void followsCursorUntilItIsEmpty() {
+        final List<String> cursors = Collections.synchronizedList(new ArrayList<>());
+        final Function<PageRequest, Mono<CursorPage>> fetcher = request -> {
+            final String cursor = request.getQueryParams().getFirst("cursor");
+            cursors.add(cursor);
+            final CursorPage response = cursor == null ? page(new CursorPage(), null, 1, 2) : page(new CursorPage(), null, 3);
+            response.nextCursor = cursor == null ? "b" : null;
+            return Mono.just(response);
+        };
+
+        StepVerifier.create(Paginator.paginate(PageStrategy.<CursorPage, Integer>cursor("cursor", response -> response.nextCursor, response -> response), fetcher, 2))
+                .expectNext(1, 2, 3)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertEquals(Arrays.asList(null, "b"), cursors);
+    }
+
+    @Test
+    void followsRelNextLinkHeader() {
+        final List<URI> uris = Collections.synchronizedList(new ArrayList<>());
+        final Function<PageRequest, Mono<ListResponse<Integer>>> fetcher = request -> {
+            uris.add(request.getUri());
+            if (request.getUri() == null) {
+                final MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+                headers.add("Link", "</items?page=2>; rel=\"next\", </items?page=9>; rel=\"last\"");
+                return Mono.just(page(new ListResponse<>(), headers, 1, 2));
+            }
+            return Mono.just(page(3));
+        };
+
+        StepVerifier.create(Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>linkHeader(response -> response), fetcher, 2))
+                .expectNext(1, 2, 3)
+                .expectComplete()
+                .verify(TIMEOUT);
+        assertNull(uris.get(0));
+        assertEquals(URI.create("/items?page=2"), uris.get(1));
+        assertEquals(2, uris.size());
+    }
+
+    @Test
+    void stopsOffsetPagingAtShortPage() {
+        final Function<PageRequest, Mono<ListResponse<Integer>>> fetcher = request -> {
+            assertEquals("2", request.getQueryParams().getFirst("limit"));
+            switch (position(request, "offset")) {
+                case 0:
+                    return Mono.just(page(1, 2));
+                case 2:
+                    return Mono.just(page(3, 4));
+                case 4:
+                    return Mono.just(page(5));
+                default:
+                    return Mono.just(page());
+            }
+        };
+
+        StepVerifier.create(Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>offset("offset", "limit", 2, response -> response), fetcher, 2))
+                .expectNext(1, 2, 3, 4, 5)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void ignoresFailuresOfPagesPastTheEnd() {
+        final Function<PageRequest, Mono<ListResponse<Integer>>> fetcher = request -> {
+            switch (position(request, "page")) {
+                case 0:
+                    return Mono.just(page(1, 2));
+                case 1:
+                    // 마지막 페이지가 다음(마지막 이후) 페이지의 실패보다 늦게 도착
+                    return Mono.delay(Duration.ofMillis(50)).thenReturn(page(3));
+                default:
+                    return Mono.just(failure());
+            }
+        };
+
+        StepVerifier.create(Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>pageNumber("page", 0, "size", 2, response -> response), fetcher, 2))
+                .expectNext(1, 2, 3)
+                .expectComplete()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void failsInOrderWhenAPageBeforeTheEndFails() {
+        final Function<PageRequest, Mono<ListResponse<Integer>>> fetcher = request -> {
+            switch (position(request, "page")) {
+                case 0:
+                    return Mono.delay(Duration.ofMillis(50)).thenReturn(page(1, 2));
+                case 1:
+                    return Mono.error(new IllegalStateException("connection reset"));
+                default:
+                    return Mono.just(page(5));
+            }
+        };
+
+        StepVerifier.create(Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>pageNumber("page", 0, "size", 2, response -> response), fetcher, 2))
+                .expectNext(1, 2)
+                .expectError(IllegalStateException.class)
+                .verify(TIMEOUT);
+
+        final Function<PageRequest, Mono<ListResponse<Integer>>> failed = request -> Mono.just(position(request, "page") == 0 ? page(1, 2) : failure());
+        StepVerifier.create(Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>pageNumber("page", 0, "size", 2, response -> response), failed, 2))
+                .expectNext(1, 2)
+                .expectError(ApiFailureException.class)
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    void boundsInFlightPagesByPrefetch() {
+        final int prefetch = 3;
+        final AtomicInteger fetched = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Function<PageRequest, Mono<ListResponse<Integer>>> fetcher = request -> Mono.defer(() -> {
+            fetched.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            final int page = position(request, "page");
+            return Mono.delay(Duration.ofMillis(5)).thenReturn(page(page * 2, page * 2 + 1));
+        }).doOnSuccess(response -> inFlight.decrementAndGet()).doOnCancel(inFlight::decrementAndGet);
+        final Flux<Integer> elements = Paginator.paginate(PageStrategy.<ListResponse<Integer>, Integer>pageNumber("page", 0, "size", 2, response -> response), fetcher, prefetch);
+
+        // 하위 구독자의 요청이 없으면 현재 페이지와 prefetch 개의 다음 페이지까지만 요청한다.
+        StepVerifier.create(elements, 0)
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(100))
+                .then(() -> assertTrue(fetched.get() <= prefetch + 1, "fetched: " + fetched.get()))
+                .thenRequest(20)
+                .expectNextCount(20)
+                .thenCancel()
+                .verify(TIMEOUT);
+        assertTrue(maxInFlight.get() <= prefetch, "max in-flight: " + maxInFlight.get());
+    }
+}
@@ -0,0 +1,40 @@
+package io.incognito.rest.client.stub;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 일정 시간 동안 일정 확률로 429/503 등의 오류를 응답한다.
+ */
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class ErrorStorm {
+    @Builder.Default
+    private int status = 503;
+    @Builder.Default
+    private double probability = 1.0;
+    /**
+     * 서버 시작 후 storm 시작까지의 시간 (ms)
+     */
+    private long startAfterMillis;
+    /**
+     * storm 지속 시간 (ms, 0 이하이면 계속)
+     */
+    private long durationMillis;
+    /**
+     * Retry-After 헤더 값 (초, 0 이하이면 생략)
+     */
+    private long retryAfterSeconds;
+
+    boolean isActive(final long elapsedMillis) {
+        return elapsedMillis >= startAfterMillis && (durationMillis <= 0 || elapsedMillis < startAfterMillis + durationMillis);
+    }
+}
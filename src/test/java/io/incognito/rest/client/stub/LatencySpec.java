@@ -0,0 +1,59 @@
+package io.incognito.rest.client.stub;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 응답 지연 시간 분포 (ms)
+ * - FIXED: minMillis 고정
+ * - UNIFORM: minMillis ~ maxMillis 균등 분포
+ * - EXPONENTIAL: minMillis + 평균 meanMillis 의 지수 분포 (maxMillis 로 상한)
+ */
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class LatencySpec {
+    public enum Type { FIXED, UNIFORM, EXPONENTIAL }
+
+    @Builder.Default
+    private Type type = Type.FIXED;
+    private long minMillis;
+    private long maxMillis;
+    private long meanMillis;
+
+    public static LatencySpec fixed(final long millis) {
+        return LatencySpec.builder().type(Type.FIXED).minMillis(millis).build();
+    }
+
+    public static LatencySpec uniform(final long minMillis, final long maxMillis) {
+        return LatencySpec.builder().type(Type.UNIFORM).minMillis(minMillis).maxMillis(maxMillis).build();
+    }
+
+    public static LatencySpec exponential(final long minMillis, final long meanMillis, final long maxMillis) {
+        return LatencySpec.builder().type(Type.EXPONENTIAL).minMillis(minMillis).meanMillis(meanMillis).maxMillis(maxMillis).build();
+    }
+
+    public Duration sample() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (type) {
+            case UNIFORM:
+                return Duration.ofMillis(maxMillis > minMillis ? random.nextLong(minMillis, maxMillis + 1) : minMillis);
+            case EXPONENTIAL:
+                final long sampled = minMillis + (long) (-meanMillis * Math.log(1.0 - random.nextDouble()));
+                return Duration.ofMillis(maxMillis > 0 ? Math.min(sampled, maxMillis) : sampled);
+            case FIXED:
+            default:
+                return Duration.ofMillis(minMillis);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.incognito.rest.client.stub;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Map;
+
+import io.incognito.rest.client.IHttpClientExecutor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link StubServer} 의 경로 하나를 호출하는 테스트용 Executor (인증, 헤더, 파라미터 없음)
+ * 요청 설정을 바꿀 때는 익명 클래스로 메서드를 재정의한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StubClientExecutor implements IHttpClientExecutor<String> {
+    private final WebClient webClient;
+    private final HttpMethod method;
+    private final String url;
+
+    public StubClientExecutor(final StubServer server, final String url) {
+        this(WebClient.create(server.getBaseUrl()), HttpMethod.GET, url);
+    }
+
+    @Override
+    public <S extends WebClient.RequestHeadersSpec<?>> void authorize(final S builder, final String authorization) {
+        // 인증 없음
+    }
+
+    @Override
+    public MultiValueMap<String, String> getRequestHeaders() {
+        return null;
+    }
+
+    @Override
+    public MultiValueMap<String, String> getQueryParam() {
+        return null;
+    }
+
+    @Override
+    public Map<String, String> getPathVariables() {
+        return null;
+    }
+
+    @Override
+    public String getAuthorization() {
+        return null;
+    }
+}
@@ -0,0 +1,129 @@
+package io.incognito.rest.client.stub;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsQuestion;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 테스트용 로컬 Stub DNS 서버 (UDP, A 레코드만 응답)
+ * 등록하지 않은 호스트는 NXDOMAIN 으로 응답하며, 호스트 별 조회 횟수를 기록한다.
+ * <pre>
+ * try (StubDnsServer dns = StubDnsServer.start().answer("api.test", "10.0.0.1", 60)) {
+ *     ... DnsResolverConfig.builder().nameServer(dns.getAddress()) ...
+ * }
+ * </pre>
+ */
+public class StubDnsServer implements AutoCloseable {
+    private final EventLoopGroup group = new NioEventLoopGroup(1);
+    private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+    private final Channel channel;
+
+    @RequiredArgsConstructor
+    private static class Answer {
+        private final byte[] address;
+        private final long ttlSeconds;
+    }
+
+    private StubDnsServer() {
+        this.channel = new Bootstrap()
+                .group(group)
+                .channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<DatagramChannel>() {
+                    @Override
+                    protected void initChannel(final DatagramChannel ch) {
+                        ch.pipeline().addLast(new DatagramDnsQueryDecoder(), new DatagramDnsResponseEncoder(), new QueryHandler());
+                    }
+                })
+                .bind("127.0.0.1", 0)
+                .syncUninterruptibly()
+                .channel();
+    }
+
+    public static StubDnsServer start() {
+        return new StubDnsServer();
+    }
+
+    /**
+     * @param hostname 호스트 이름
+     * @param ipv4 응답할 IPv4 주소
+     * @param ttlSeconds 응답 TTL (초)
+     * @return this
+     */
+    public StubDnsServer answer(final String hostname, final String ipv4, final long ttlSeconds) {
+        try {
+            answers.put(normalize(hostname), new Answer(InetAddress.getByName(ipv4).getAddress(), ttlSeconds));
+        } catch (final UnknownHostException e) {
+            throw new IllegalArgumentException("Invalid IPv4 address: " + ipv4, e);
+        }
+        return this;
+    }
+
+    public InetSocketAddress getAddress() {
+        return (InetSocketAddress) channel.localAddress();
+    }
+
+    /**
+     * @return 호스트에 대해 받은 조회 수 (레코드 타입 무관)
+     */
+    public int getQueryCount(final String hostname) {
+        return queries.getOrDefault(normalize(hostname), new AtomicInteger()).get();
+    }
+
+    @Override
+    public void close() {
+        channel.close().syncUninterruptibly();
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    private static String normalize(final String hostname) {
+        final String lower = hostname.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".") ? lower.substring(0, lower.length() - 1) : lower;
+    }
+
+    private class QueryHandler extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+        @Override
+        protected void channelRead0(final ChannelHandlerContext ctx, final DatagramDnsQuery query) {
+            final DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            final String hostname = normalize(question.name());
+            queries.computeIfAbsent(hostname, key -> new AtomicInteger()).incrementAndGet();
+
+            final DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, new DefaultDnsQuestion(question.name(), question.type()));
+            final Answer answer = answers.get(hostname);
+            if (answer == null) {
+                response.setCode(DnsResponseCode.NXDOMAIN);
+            } else if (DnsRecordType.A.equals(question.type())) {
+                response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A, answer.ttlSeconds, Unpooled.wrappedBuffer(answer.address)));
+            }
+            ctx.writeAndFlush(response);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.incognito.rest.client.stub;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum StubFault {
+    NONE("정상 응답"),
+    CONNECTION_RESET("응답 없이 TCP RST 로 연결 종료"),
+    HALF_OPEN("연결은 유지하되 응답하지 않음");
+
+    private final String description;
+}
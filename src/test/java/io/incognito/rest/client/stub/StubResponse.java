@@ -0,0 +1,25 @@
+package io.incognito.rest.client.stub;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.Singular;
+import lombok.ToString;
+
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class StubResponse {
+    @Builder.Default
+    private int status = 200;
+    @Singular
+    private Map<String, String> headers;
+    private String body;
+}
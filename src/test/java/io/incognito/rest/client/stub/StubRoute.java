@@ -0,0 +1,63 @@
+package io.incognito.rest.client.stub;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.Singular;
+import lombok.ToString;
+
+/**
+ * 요청 method/path 별 응답 시나리오
+ * path 가 '*' 로 끝나면 prefix 로 비교한다. responses 는 요청 순서대로 순환하여 응답한다.
+ */
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class StubRoute {
+    /**
+     * HTTP Method (null 이면 모든 Method)
+     */
+    private String method;
+    private String path;
+    @Singular
+    private List<StubResponse> responses;
+    private LatencySpec latency;
+    /**
+     * 응답 Body 전송 속도 (bytes/sec, 0 이하이면 제한 없음)
+     */
+    private long bandwidthBytesPerSecond;
+    @Builder.Default
+    private StubFault fault = StubFault.NONE;
+    /**
+     * 장애 발생 확률 (0.0 ~ 1.0)
+     */
+    private double faultProbability;
+    @JsonIgnore
+    @ToString.Exclude
+    @Builder.Default
+    private final AtomicLong sequence = new AtomicLong();
+
+    boolean matches(final String requestMethod, final String requestPath) {
+        final boolean methodMatches = method == null || method.equalsIgnoreCase(requestMethod);
+        final boolean pathMatches = path == null
+                || (path.endsWith("*") ? requestPath.startsWith(path.substring(0, path.length() - 1)) : path.equals(requestPath));
+        return methodMatches && pathMatches;
+    }
+
+    StubResponse nextResponse() {
+        if (responses == null || responses.isEmpty()) {
+            return StubResponse.builder().build();
+        }
+        return responses.get((int) (sequence.getAndIncrement() % responses.size()));
+    }
+}
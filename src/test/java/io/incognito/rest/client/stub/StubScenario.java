@@ -0,0 +1,43 @@
+package io.incognito.rest.client.stub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.Singular;
+import lombok.ToString;
+
+/**
+ * Stub 서버 시나리오 (코드 또는 JSON 파일로 구성)
+ */
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class StubScenario {
+    @Singular
+    private List<StubRoute> routes;
+    @Singular
+    private List<ErrorStorm> storms;
+    /**
+     * 자체 서명 인증서로 TLS 사용 여부
+     */
+    private boolean tls;
+    /**
+     * 연결 수락 후 첫 데이터 읽기까지 지연 (ms, TLS 사용 시 느린 Handshake 재현)
+     */
+    private long acceptDelayMillis;
+
+    public static StubScenario fromFile(final Path path, final ObjectMapper objectMapper) throws IOException {
+        return objectMapper.readValue(path.toFile(), StubScenario.class);
+    }
+}
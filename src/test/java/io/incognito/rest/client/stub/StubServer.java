@@ -0,0 +1,234 @@
+package io.incognito.rest.client.stub;
+
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLException;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.ReferenceCountUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * 테스트용 로컬 Stub HTTP 서버
+ * 시나리오에 따라 지연 시간 분포, 대역폭 제한, 연결 리셋, half-open 연결, 느린 TLS Handshake, 429/503 storm 을 재현한다.
+ * <pre>
+ * try (StubServer server = StubServer.start(scenario)) {
+ *     ... server.getBaseUrl() 로 요청 ...
+ * }
+ * </pre>
+ */
+public class StubServer implements AutoCloseable {
+    private static final long BANDWIDTH_TICK_MILLIS = 100;
+
+    private final StubScenario scenario;
+    private final DisposableServer server;
+    private final long startedAt;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private StubServer(final StubScenario scenario) {
+        this.scenario = scenario;
+        this.startedAt = System.nanoTime();
+        HttpServer httpServer = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .doOnChannelInit((observer, channel, remoteAddress) -> {
+                    connections.incrementAndGet();
+                    if (scenario.getAcceptDelayMillis() > 0) {
+                        channel.pipeline().addFirst(new AcceptDelayHandler(scenario.getAcceptDelayMillis()));
+                    }
+                })
+                .handle(this::handle);
+        if (scenario.isTls()) {
+            final SslContext sslContext = selfSignedSslContext();
+            httpServer = httpServer.secure(spec -> spec.sslContext(sslContext));
+        }
+        this.server = httpServer.bindNow();
+    }
+
+    public static StubServer start(final StubScenario scenario) {
+        return new StubServer(scenario);
+    }
+
+    public int getPort() {
+        return server.port();
+    }
+
+    public String getBaseUrl() {
+        return (scenario.isTls() ? "https" : "http") + "://127.0.0.1:" + server.port();
+    }
+
+    /**
+     * @return 지금까지 수락한 Connection 수
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+    private Mono<Void> handle(final HttpServerRequest request, final HttpServerResponse response) {
+        return request.receive().then().then(Mono.defer(() -> {
+            final StubRoute route = findRoute(request.method().name(), request.path());
+            if (route == null) {
+                return response.status(HttpResponseStatus.NOT_FOUND).send();
+            }
+            final Duration latency = route.getLatency() == null ? Duration.ZERO : route.getLatency().sample();
+            return Mono.delay(latency).then(Mono.defer(() -> respond(route, response)));
+        }));
+    }
+
+    private StubRoute findRoute(final String method, final String path) {
+        final String normalizedPath = path.startsWith("/") ? path : "/" + path;
+        for (final StubRoute route : scenario.getRoutes()) {
+            if (route.matches(method, normalizedPath)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private Mono<Void> respond(final StubRoute route, final HttpServerResponse response) {
+        final ErrorStorm storm = activeStorm();
+        if (storm != null) {
+            response.status(storm.getStatus());
+            if (storm.getRetryAfterSeconds() > 0) {
+                response.header("Retry-After", String.valueOf(storm.getRetryAfterSeconds()));
+            }
+            return response.send();
+        }
+        if (route.getFault() != StubFault.NONE && ThreadLocalRandom.current().nextDouble() < route.getFaultProbability()) {
+            switch (route.getFault()) {
+                case CONNECTION_RESET:
+                    // SO_LINGER 0 으로 close 하면 FIN 대신 RST 가 전송된다.
+                    response.withConnection(connection -> {
+                        connection.channel().config().setOption(ChannelOption.SO_LINGER, 0);
+                        connection.channel().close();
+                    });
+                    return Mono.empty();
+                case HALF_OPEN:
+                    return Mono.never();
+                default:
+                    break;
+            }
+        }
+
+        final StubResponse stubResponse = route.nextResponse();
+        response.status(stubResponse.getStatus());
+        if (stubResponse.getHeaders() != null) {
+            stubResponse.getHeaders().forEach(response::header);
+        }
+        final byte[] body = stubResponse.getBody() == null ? new byte[0] : stubResponse.getBody().getBytes(StandardCharsets.UTF_8);
+        response.header("Content-Length", String.valueOf(body.length));
+        if (route.getBandwidthBytesPerSecond() <= 0 || body.length == 0) {
+            return response.sendByteArray(Mono.just(body)).then();
+        }
+        return response.send(throttled(body, route.getBandwidthBytesPerSecond())).then();
+    }
+
+    private ErrorStorm activeStorm() {
+        if (scenario.getStorms() == null || scenario.getStorms().isEmpty()) {
+            return null;
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        for (final ErrorStorm storm : scenario.getStorms()) {
+            if (storm.isActive(elapsedMillis) && ThreadLocalRandom.current().nextDouble() < storm.getProbability()) {
+                return storm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * BANDWIDTH_TICK_MILLIS 마다 bytesPerSecond 에 비례하는 크기의 chunk 를 전송한다.
+     */
+    private static Flux<ByteBuf> throttled(final byte[] body, final long bytesPerSecond) {
+        final int chunkSize = (int) Math.max(1, bytesPerSecond * BANDWIDTH_TICK_MILLIS / 1000);
+        final List<ByteBuf> chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            chunks.add(Unpooled.wrappedBuffer(body, offset, Math.min(chunkSize, body.length - offset)));
+        }
+        return Flux.fromIterable(chunks).delayElements(Duration.ofMillis(BANDWIDTH_TICK_MILLIS));
+    }
+
+    /**
+     * 연결 수락 후 delayMillis 동안 수신한 데이터를 보류했다가 전달한다. (TLS 사용 시 ClientHello 처리가 지연되어 느린 Handshake 재현)
+     * autoRead 를 끄는 방식은 reactor-netty 가 연결 설정 중 다시 읽기를 요청하므로 사용하지 않는다.
+     */
+    private static class AcceptDelayHandler extends ChannelInboundHandlerAdapter {
+        private final long delayMillis;
+        private final List<Object> pending = new ArrayList<>();
+        private boolean released;
+
+        private AcceptDelayHandler(final long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void handlerAdded(final ChannelHandlerContext ctx) {
+            ctx.executor().schedule(() -> {
+                if (ctx.isRemoved()) {
+                    return;
+                }
+                released = true;
+                pending.forEach(ctx::fireChannelRead);
+                pending.clear();
+                ctx.fireChannelReadComplete();
+                ctx.pipeline().remove(this);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            if (released) {
+                ctx.fireChannelRead(msg);
+            } else {
+                pending.add(msg);
+            }
+        }
+
+        @Override
+        public void channelReadComplete(final ChannelHandlerContext ctx) {
+            if (released) {
+                ctx.fireChannelReadComplete();
+            }
+        }
+
+        @Override
+        public void handlerRemoved(final ChannelHandlerContext ctx) {
+            pending.forEach(ReferenceCountUtil::release);
+            pending.clear();
+        }
+    }
+
+    private static SslContext selfSignedSslContext() {
+        try {
+            final SelfSignedCertificate certificate = new SelfSignedCertificate("localhost");
+            return SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey()).build();
+        } catch (CertificateException | SSLException e) {
+            throw new IllegalStateException("Failed to create self-signed certificate", e);
+        }
+    }
+}
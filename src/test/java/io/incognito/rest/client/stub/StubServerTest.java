@@ -0,0 +1,143 @@
+package io.incognito.rest.client.stub;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import javax.net.ssl.SSLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import reactor.core.Exceptions;
+import reactor.netty.http.client.HttpClient;
+
+class StubServerTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private static ResponseEntity<String> get(final HttpClient httpClient, final String url) {
+        return WebClient.builder().clientConnector(new ReactorClientHttpConnector(httpClient)).build()
+                .get().uri(url)
+                .exchangeToMono(clientResponse -> clientResponse.toEntity(String.class))
+                .block(TIMEOUT);
+    }
+
+    private static ResponseEntity<String> get(final String url) {
+        return get(HttpClient.create(), url);
+    }
+
+    private static StubScenario scenario(final StubRoute.StubRouteBuilder route) {
+        return StubScenario.builder().route(route.path("/api/*").response(StubResponse.builder().status(200).body("ok").build()).build()).build();
+    }
+
+    private static long elapsedMillis(final Runnable call) {
+        final long startedAt = System.nanoTime();
+        call.run();
+        return Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    @Test
+    void loadsScenarioFromFile() throws Exception {
+        final StubScenario scenario = StubScenario.fromFile(resource("/stub/sample-scenario.json"), new ObjectMapper());
+
+        final StubRoute route = scenario.getRoutes().get(0);
+        assertEquals("/api/items*", route.getPath());
+        assertEquals(StubFault.CONNECTION_RESET, route.getFault());
+        assertEquals(LatencySpec.Type.EXPONENTIAL, route.getLatency().getType());
+        assertEquals("application/json", route.getResponses().get(0).getHeaders().get("Content-Type"));
+        assertEquals(429, scenario.getStorms().get(0).getStatus());
+
+        // 파일로 읽은 시나리오로 서버를 시작할 수 있다. (장애는 끄고 확인)
+        route.setFaultProbability(0);
+        try (StubServer server = StubServer.start(scenario)) {
+            final ResponseEntity<String> response = get(server.getBaseUrl() + "/api/items/1");
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals("{\"items\":[]}", response.getBody());
+        }
+    }
+
+    @Test
+    void resetsConnectionWithoutResponse() {
+        try (StubServer server = StubServer.start(scenario(StubRoute.builder().fault(StubFault.CONNECTION_RESET).faultProbability(1.0)))) {
+            assertThrows(RuntimeException.class, () -> get(server.getBaseUrl() + "/api/items"));
+            assertEquals(1, server.getConnectionCount());
+        }
+    }
+
+    @Test
+    void keepsHalfOpenConnectionWithoutResponse() {
+        try (StubServer server = StubServer.start(scenario(StubRoute.builder().fault(StubFault.HALF_OPEN).faultProbability(1.0)))) {
+            final RuntimeException thrown = assertThrows(RuntimeException.class, () -> WebClient.create()
+                    .get().uri(server.getBaseUrl() + "/api/items")
+                    .retrieve().bodyToMono(String.class)
+                    .timeout(Duration.ofMillis(300))
+                    .block(TIMEOUT));
+            assertTrue(Exceptions.unwrap(thrown) instanceof TimeoutException, thrown.toString());
+        }
+    }
+
+    @Test
+    void throttlesBodyToBandwidth() {
+        final StubRoute route = StubRoute.builder()
+                .path("/api/*")
+                .response(StubResponse.builder().status(200).body(new String(new char[1000]).replace('\0', 'x')).build())
+                .bandwidthBytesPerSecond(2000)
+                .build();
+        try (StubServer server = StubServer.start(StubScenario.builder().route(route).build())) {
+            // 1000 bytes 를 100ms 마다 200 bytes 씩 전송 (약 500ms)
+            final long elapsed = elapsedMillis(() -> assertEquals(1000, get(server.getBaseUrl() + "/api/items").getBody().length()));
+            assertTrue(elapsed >= 400, "elapsed: " + elapsed);
+        }
+    }
+
+    @Test
+    void delaysTlsHandshake() throws SSLException {
+        final StubScenario scenario = StubScenario.builder()
+                .tls(true)
+                .acceptDelayMillis(300)
+                .route(StubRoute.builder().path("/api/*").response(StubResponse.builder().status(200).body("ok").build()).build())
+                .build();
+        final SslContext sslContext = SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
+        final HttpClient httpClient = HttpClient.create().secure(spec -> spec.sslContext(sslContext));
+        try (StubServer server = StubServer.start(scenario)) {
+            assertTrue(server.getBaseUrl().startsWith("https://"));
+            final long elapsed = elapsedMillis(() -> assertEquals("ok", get(httpClient, server.getBaseUrl() + "/api/items").getBody()));
+            assertTrue(elapsed >= 300, "elapsed: " + elapsed);
+        }
+    }
+
+    @Test
+    void respondsWithErrorStormWhileActive() throws InterruptedException {
+        final StubScenario scenario = StubScenario.builder()
+                .route(StubRoute.builder().path("/api/*").response(StubResponse.builder().status(200).body("ok").build()).build())
+                .storm(ErrorStorm.builder().status(429).probability(1.0).durationMillis(500).retryAfterSeconds(2).build())
+                .build();
+        try (StubServer server = StubServer.start(scenario)) {
+            final ResponseEntity<String> stormed = get(server.getBaseUrl() + "/api/items");
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, stormed.getStatusCode());
+            assertEquals("2", stormed.getHeaders().getFirst("Retry-After"));
+
+            // storm 이 끝나면 정상 응답
+            Thread.sleep(600);
+            assertEquals(HttpStatus.OK, get(server.getBaseUrl() + "/api/items").getStatusCode());
+        }
+    }
+
+    private static Path resource(final String name) throws URISyntaxException {
+        return Paths.get(StubServerTest.class.getResource(name).toURI());
+    }
+}
@@ -0,0 +1,120 @@
+package io.incognito.rest.client.wiretap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.incognito.rest.client.types.enums.WiretapSampleReason;
+
+class WiretapRingBufferTest {
+
+    private static WiretapRecord record(final long sequence, final String error) {
+        return WiretapRecord.builder().sequence(sequence).reason(WiretapSampleReason.RATE).error(error).build();
+    }
+
+    private static WiretapRecord put(final WiretapRingBuffer buffer, final String error) {
+        final WiretapRecord record = record(buffer.nextSequence(), error);
+        buffer.put(record);
+        return record;
+    }
+
+    private static List<String> errors(final WiretapRingBuffer buffer) {
+        return buffer.snapshot().stream().map(WiretapRecord::getError).collect(Collectors.toList());
+    }
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(1, new WiretapRingBuffer(0).capacity());
+        assertEquals(4, new WiretapRingBuffer(3).capacity());
+        assertEquals(4, new WiretapRingBuffer(4).capacity());
+        assertEquals(8, new WiretapRingBuffer(5).capacity());
+    }
+
+    @Test
+    void snapshotsInSequenceOrder() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(4);
+        put(buffer, "a");
+        put(buffer, "b");
+        put(buffer, "c");
+
+        assertEquals(Arrays.asList("a", "b", "c"), errors(buffer));
+    }
+
+    @Test
+    void overwritesOldestWhenFull() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(4);
+        for (final String error : Arrays.asList("a", "b", "c", "d", "e", "f")) {
+            put(buffer, error);
+        }
+
+        assertEquals(Arrays.asList("c", "d", "e", "f"), errors(buffer));
+    }
+
+    @Test
+    void skipsSequencesNotWrittenYet() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(4);
+        put(buffer, "a");
+        // 순번만 받고 아직 기록하지 않은 슬롯
+        final long pending = buffer.nextSequence();
+        put(buffer, "c");
+
+        assertEquals(Arrays.asList("a", "c"), errors(buffer));
+        buffer.put(record(pending, "b"));
+        assertEquals(Arrays.asList("a", "b", "c"), errors(buffer));
+    }
+
+    @Test
+    void replacesRecordWithSameSequence() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(4);
+        final WiretapRecord headers = put(buffer, "headers");
+        put(buffer, "other");
+
+        buffer.replace(record(headers.getSequence(), "headers+body"));
+
+        assertEquals(Arrays.asList("headers+body", "other"), errors(buffer));
+    }
+
+    @Test
+    void dropsLateReplaceOfOverwrittenRecord() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(2);
+        final WiretapRecord first = put(buffer, "a");
+        put(buffer, "b");
+        put(buffer, "c");
+
+        // 응답 Body 를 다 읽기 전에 슬롯을 덮어썼으면 늦은 replace 는 버린다.
+        buffer.replace(record(first.getSequence(), "a+body"));
+
+        assertEquals(Arrays.asList("b", "c"), errors(buffer));
+    }
+
+    @Test
+    void dropsLatePutOfOlderSequence() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(2);
+        final long late = buffer.nextSequence();
+        put(buffer, "b");
+        put(buffer, "c");
+
+        // 같은 슬롯에 더 새로운 기록(c)이 먼저 들어갔으면 늦게 도착한 이전 순번(a)은 덮어쓰지 않는다.
+        buffer.put(record(late, "a"));
+
+        assertEquals(Arrays.asList("b", "c"), errors(buffer));
+    }
+
+    @Test
+    void clearsAllSlots() {
+        final WiretapRingBuffer buffer = new WiretapRingBuffer(4);
+        put(buffer, "a");
+        put(buffer, "b");
+
+        buffer.clear();
+
+        assertTrue(buffer.snapshot().isEmpty());
+        put(buffer, "c");
+        assertEquals(Arrays.asList("c"), errors(buffer));
+    }
+}